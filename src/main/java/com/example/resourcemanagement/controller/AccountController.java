@@ -0,0 +1,91 @@
+package com.example.resourcemanagement.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.resourcemanagement.dto.AccountResourceDto;
+import com.example.resourcemanagement.dto.ReservationUsageDto;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.service.AccountQuotaEventHub;
+import com.example.resourcemanagement.service.AccountResourcesView;
+import com.example.resourcemanagement.service.AccountService;
+import com.example.resourcemanagement.service.ReservationWindowService;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/accounts")
+public class AccountController {
+
+	@Autowired
+	AccountService accountService;
+
+	@Autowired
+	AccountQuotaEventHub accountQuotaEventHub;
+
+	@Autowired
+	ReservationWindowService reservationWindowService;
+
+	/**
+	 * account의 (type, modelId, unit)별 quota/allocated/available
+	 * If-None-Match가 현재 ETag와 같으면 304 (캐시 적중 시 DB 조회 없음)
+	 * 다른 노드에서 커밋된 변경은 account.resources-cache.ttl 이내에 반영됨
+	 */
+	@GetMapping("/{id}/resources")
+	public ResponseEntity<List<AccountResourceDto>> accountResources(@PathVariable("id") Long id, WebRequest request) {
+		Optional<AccountResourcesView> view = accountService.findAccountResources(id);
+		if (view.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		String etag = view.get().etag();
+		if (request.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+		}
+		return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(view.get().resources());
+	}
+
+	/**
+	 * account 자원 quota 변경 SSE 스트림 (event: quota, data: AccountQuotaEventDto)
+	 * 커밋된 변경만 전송되며, 연결 직후의 현재 값은 GET /accounts/{id}/resources로 읽는다.
+	 */
+	@GetMapping(value = "/{id}/resource-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> accountResourceEvents(@PathVariable("id") Long id) {
+		if (accountService.findAccountResources(id).isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.ok(accountQuotaEventHub.subscribe(id));
+	}
+
+	/**
+	 * [from, to) 동안 account가 type 자원을 얼마나 예약했는지 (겹치는 승인 allocation과 최대 동시 예약량)
+	 * from, to는 ISO 날짜시각 (예: 2024-01-01T00:00:00), from이 to보다 이르지 않으면 400
+	 */
+	@GetMapping("/{id}/reservations")
+	public ResponseEntity<ReservationUsageDto> accountReservations(@PathVariable("id") Long id,
+			@RequestParam("type") ResourceType type,
+			@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+		if (!from.isBefore(to)) {
+			return ResponseEntity.badRequest().build();
+		}
+		return reservationWindowService.findUsage(id, type, from, to)
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.resourcemanagement.controller;
+
+import java.util.Map;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.example.resourcemanagement.exception.AdmissionRejectedException;
+import com.example.resourcemanagement.exception.ApprovalQueueFullException;
+import com.example.resourcemanagement.exception.IdempotencyKeyConflictException;
+import com.example.resourcemanagement.exception.InsufficientQuotaException;
+import com.example.resourcemanagement.exception.InvalidStateTransitionException;
+import com.example.resourcemanagement.exception.PlacementFailedException;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+	@ExceptionHandler(ApprovalQueueFullException.class)
+	public ResponseEntity<Map<String, String>> handleQueueFull(ApprovalQueueFullException e) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(Map.of("message", e.getMessage()));
+	}
+
+	@ExceptionHandler(IdempotencyKeyConflictException.class)
+	public ResponseEntity<Map<String, String>> handleIdempotencyKeyConflict(IdempotencyKeyConflictException e) {
+		return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+				.body(Map.of("message", e.getMessage()));
+	}
+
+	@ExceptionHandler(InvalidStateTransitionException.class)
+	public ResponseEntity<Map<String, String>> handleInvalidTransition(InvalidStateTransitionException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(Map.of("message", e.getMessage()));
+	}
+
+	@ExceptionHandler(InsufficientQuotaException.class)
+	public ResponseEntity<Map<String, String>> handleInsufficientQuota(InsufficientQuotaException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(Map.of("message", e.getMessage()));
+	}
+
+	@ExceptionHandler(AdmissionRejectedException.class)
+	public ResponseEntity<Map<String, String>> handleAdmissionRejected(AdmissionRejectedException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(Map.of("message", e.getMessage()));
+	}
+
+	@ExceptionHandler(PlacementFailedException.class)
+	public ResponseEntity<Map<String, String>> handlePlacementFailed(PlacementFailedException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(Map.of("message", e.getMessage()));
+	}
+
+	/**
+	 * 같은 행을 다른 트랜잭션이 먼저 변경함 (version 불일치)
+	 * 다시 조회 후 재시도하면 이미 승인된 요청은 no-op으로 끝난다.
+	 */
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<Map<String, String>> handleOptimisticLock(OptimisticLockingFailureException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(Map.of("message", "다른 요청이 먼저 상태를 변경했습니다. 다시 시도하세요."));
+	}
+}
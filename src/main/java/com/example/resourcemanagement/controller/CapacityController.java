@@ -0,0 +1,32 @@
+package com.example.resourcemanagement.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.resourcemanagement.dto.CapacityDto;
+import com.example.resourcemanagement.service.CapacityAggregateService;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/capacity")
+public class CapacityController {
+
+	@Autowired
+	CapacityAggregateService capacityAggregateService;
+
+	/**
+	 * 전체 account 자원 합계 (type별, gpu는 modelId별)
+	 * account 자원 행을 합산하지 않고 합계 테이블만 읽음
+	 */
+	@GetMapping
+	public ResponseEntity<List<CapacityDto>> capacity() {
+		return ResponseEntity.ok(capacityAggregateService.findCapacity());
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.resourcemanagement.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.resourcemanagement.dto.NodeCapacityDto;
+import com.example.resourcemanagement.dto.NodeDto;
+import com.example.resourcemanagement.service.PlacementService;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/nodes")
+public class NodeController {
+
+	@Autowired
+	PlacementService placementService;
+
+	@PostMapping
+	public ResponseEntity<List<NodeCapacityDto>> addNode(@RequestBody NodeDto dto) {
+		return ResponseEntity.ok(placementService.addNode(dto));
+	}
+
+	/**
+	 * 노드의 자원 키별 용량/배치량/남은 양
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<List<NodeCapacityDto>> node(@PathVariable("id") Long id) {
+		return ResponseEntity.of(placementService.findNode(id));
+	}
+}
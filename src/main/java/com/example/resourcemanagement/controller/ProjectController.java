@@ -0,0 +1,47 @@
+package com.example.resourcemanagement.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.resourcemanagement.dto.ProjectDto;
+import com.example.resourcemanagement.dto.ProjectQuotaChangeDto;
+import com.example.resourcemanagement.dto.ProjectQuotaDto;
+import com.example.resourcemanagement.service.ProjectService;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/projects")
+public class ProjectController {
+
+	@Autowired
+	ProjectService projectService;
+
+	@PostMapping
+	public ResponseEntity<ProjectQuotaDto> createProject(@RequestBody ProjectDto dto) {
+		return ResponseEntity.ok(projectService.createProject(dto));
+	}
+
+	/**
+	 * project quota와 account 잔여량 (accountAvailable 이하의 추가 배정은 가능)
+	 */
+	@GetMapping("/{id}/quota")
+	public ResponseEntity<ProjectQuotaDto> projectQuota(@PathVariable("id") Long id) {
+		return ResponseEntity.of(projectService.findProjectQuota(id));
+	}
+
+	/**
+	 * account에서 delta만큼 배정 (음수면 회수), 잔여량이 부족하면 409
+	 */
+	@PostMapping("/{id}/quota")
+	public ResponseEntity<ProjectQuotaDto> changeProjectQuota(@PathVariable("id") Long id, @RequestBody ProjectQuotaChangeDto dto) {
+		return ResponseEntity.ok(projectService.changeProjectQuota(id, dto.getDelta()));
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.resourcemanagement.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.resourcemanagement.dto.KeysetPageDto;
+import com.example.resourcemanagement.dto.PlacementDto;
+import com.example.resourcemanagement.dto.ResourceAllocationSummaryDto;
+import com.example.resourcemanagement.dto.ResourceListQueryDto;
+import com.example.resourcemanagement.service.PlacementService;
+import com.example.resourcemanagement.service.ResourceAllocationService;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/resource-allocations")
+public class ResourceAllocationController {
+
+	@Autowired
+	ResourceAllocationService resourceAllocationService;
+
+	@Autowired
+	PlacementService placementService;
+
+	/**
+	 * 목록 조회: accountId, status, requestedFrom/To, expiresFrom/To 필터
+	 * 다음 페이지는 응답의 nextAfterRequestedAt, nextAfterId를 afterRequestedAt, afterId로 전달
+	 */
+	@GetMapping
+	public ResponseEntity<KeysetPageDto<ResourceAllocationSummaryDto>> listResourceAllocations(@ModelAttribute ResourceListQueryDto query) {
+		return ResponseEntity.ok(resourceAllocationService.listResourceAllocations(query));
+	}
+
+	/**
+	 * allocation 라인을 노드에 배치 (placement.policy), 들어갈 노드가 없으면 409
+	 */
+	@PostMapping("/{id}/placement")
+	public ResponseEntity<List<PlacementDto>> place(@PathVariable("id") Long id) {
+		return ResponseEntity.ok(placementService.placeAllocation(id));
+	}
+
+	@GetMapping("/{id}/placement")
+	public ResponseEntity<List<PlacementDto>> placement(@PathVariable("id") Long id) {
+		return ResponseEntity.ok(placementService.findPlacements(id));
+	}
+
+	@DeleteMapping("/{id}/placement")
+	public ResponseEntity<Void> releasePlacement(@PathVariable("id") Long id) {
+		placementService.releaseAllocations(List.of(id));
+		return ResponseEntity.noContent().build();
+	}
+}
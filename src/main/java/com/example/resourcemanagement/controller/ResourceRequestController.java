@@ -1,40 +1,62 @@
 package com.example.resourcemanagement.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.example.resourcemanagement.ResourceManagementApplication;
 import com.example.resourcemanagement.dto.ActionPayloadDto;
+import com.example.resourcemanagement.dto.ApprovalJobDto;
+import com.example.resourcemanagement.dto.ApprovalResultDto;
+import com.example.resourcemanagement.dto.BulkApprovalRequestDto;
+import com.example.resourcemanagement.dto.KeysetPageDto;
+import com.example.resourcemanagement.dto.ResourceListQueryDto;
 import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.dto.ResourceRequestSummaryDto;
 import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.IdempotencyRecord;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceAllocation;
 import com.example.resourcemanagement.entity.ResourceRequest;
 import com.example.resourcemanagement.entity.ResourceType;
 import com.example.resourcemanagement.service.AccountService;
+import com.example.resourcemanagement.service.ApprovalJobService;
+import com.example.resourcemanagement.service.IdempotencyService;
 import com.example.resourcemanagement.service.ResourceAllocationService;
+import com.example.resourcemanagement.service.ResourceRequestIngestService;
 import com.example.resourcemanagement.service.ResourceRequestService;
 import com.example.resourcemanagement.service.ResourceService;
 import com.example.resourcemanagement.repository.ResourceAllocationRepository;
 import com.example.resourcemanagement.repository.ResourceRequestRepository;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequestMapping("/resource-requests")
 public class ResourceRequestController {
 
@@ -52,6 +74,15 @@ public class ResourceRequestController {
 	@Autowired
 	AccountService accountService;
 	
+	@Autowired
+	ApprovalJobService approvalJobService;
+	
+	@Autowired
+	ResourceRequestIngestService resourceRequestIngestService;
+	
+	@Autowired
+	IdempotencyService idempotencyService;
+	
 	@Autowired
 	ResourceRequestRepository resourceRequestRepository;
 	
@@ -61,18 +92,92 @@ public class ResourceRequestController {
     ResourceRequestController(ResourceManagementApplication resourceManagementApplication) {
         this.resourceManagementApplication = resourceManagementApplication;
     }
+    /**
+     * 목록 조회: accountId, status, requestedFrom/To, expiresFrom/To 필터
+     * 다음 페이지는 응답의 nextAfterRequestedAt, nextAfterId를 afterRequestedAt, afterId로 전달
+     */
+    @GetMapping
+    public ResponseEntity<KeysetPageDto<ResourceRequestSummaryDto>> listResourceRequests(@ModelAttribute ResourceListQueryDto query) {
+        return ResponseEntity.ok(resourceRequestService.listResourceRequests(query));
+    }
+    
+    /**
+     * Idempotency-Key가 있으면 같은 키의 재시도는 처음 결과(200)를 그대로 반환하고 아무것도 쓰지 않음
+     * Idempotency-Key가 컬럼 길이(128자)보다 길면 쓰기 없이 400
+     * account 타입별 한도를 넘으면 트랜잭션을 열기 전에 409
+     */
     @PostMapping
-    public ResponseEntity<Void> createResourceRequest(@RequestBody ResourceRequestDto dto) {
-         resourceRequestService.createResourceRequest(dto);
-         return ResponseEntity.ok().build();
+    public ResponseEntity<Void> createResourceRequest(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody ResourceRequestDto dto) {
+         if (idempotencyKey == null || idempotencyKey.isBlank()) {
+             resourceRequestService.createResourceRequest(dto);
+             return ResponseEntity.ok().build();
+         }
+         if (idempotencyKey.length() > IdempotencyRecord.MAX_KEY_LENGTH) {
+             return ResponseEntity.badRequest().build();
+         }
+         boolean replayed = idempotencyService.createResourceRequest(idempotencyKey, dto);
+         return ResponseEntity.ok()
+                 .header("Idempotent-Replayed", String.valueOf(replayed))
+                 .build();
     }
     
+    /**
+     * NDJSON 일괄 등록: 한 줄에 ResourceRequestDto 하나, 응답은 줄별 결과(IngestResultDto) NDJSON
+     * 결과는 chunk가 커밋될 때마다 흘려보냄
+     */
+    @PostMapping(value = "/ingest", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void ingestResourceRequests(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        resourceRequestIngestService.ingest(body, response.getOutputStream());
+    }
+    
+    /**
+     * account 타입별 한도를 넘으면 트랜잭션을 열기 전에 409
+     */
     @GetMapping("/{id}/approve")
     public ResponseEntity<Void> approvedRequest(@PathVariable("id") Long id) {
         resourceAllocationService.approveResourceRequest(id);
         return ResponseEntity.ok().build();
     }
     
+    /**
+     * requestIds가 없거나 비어 있거나 null 항목이 있으면 400
+     */
+    @PostMapping("/approve")
+    public ResponseEntity<List<ApprovalResultDto>> approveRequests(@RequestBody BulkApprovalRequestDto dto) {
+        if (!hasRequestIds(dto)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(resourceAllocationService.approveResourceRequests(dto.getRequestIds()));
+    }
+    
+    /**
+     * 비동기 승인: 작업 ID와 함께 202 반환, 큐가 가득 차면 429
+     * requestIds가 없거나 비어 있거나 null 항목이 있으면 큐에 넣지 않고 400
+     */
+    @PostMapping("/approve-async")
+    public ResponseEntity<Map<String, String>> approveRequestsAsync(@RequestBody BulkApprovalRequestDto dto) {
+        if (!hasRequestIds(dto)) {
+            return ResponseEntity.badRequest().build();
+        }
+        String jobId = approvalJobService.submit(dto.getRequestIds());
+        return ResponseEntity.accepted()
+                .location(URI.create("/resource-requests/approval-jobs/" + jobId))
+                .body(Map.of("jobId", jobId));
+    }
+    
+    @GetMapping("/approval-jobs/{jobId}")
+    public ResponseEntity<ApprovalJobDto> approvalJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.of(approvalJobService.findJob(jobId));
+    }
+    
+    private static boolean hasRequestIds(BulkApprovalRequestDto dto) {
+        List<Long> requestIds = dto.getRequestIds();
+        return requestIds != null && !requestIds.isEmpty() && requestIds.stream().allMatch(Objects::nonNull);
+    }
+    
 }
    
 
@@ -0,0 +1,34 @@
+package com.example.resourcemanagement.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.resourcemanagement.dto.UsageReportDto;
+import com.example.resourcemanagement.service.UsageMeteringService;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/usage")
+public class UsageController {
+
+	@Autowired
+	UsageMeteringService usageMeteringService;
+
+	/**
+	 * account 자원 사용량 변화 보고 (여러 건을 한 번에)
+	 * journal에 기록되면 202, used 반영은 metering.flush.interval마다 (allocated/available은 바뀌지 않음)
+	 */
+	@PostMapping
+	public ResponseEntity<Void> report(@RequestBody List<UsageReportDto> reports) {
+		usageMeteringService.report(reports);
+		return ResponseEntity.accepted().build();
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.resourcemanagement.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * account 자원 quota 변경 SSE 이벤트 (GET /accounts/{id}/resource-events)
+ * 커밋된 변경만 전송된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountQuotaEventDto {
+
+	public long getEventId() {
+		return eventId;
+	}
+	public void setEventId(long eventId) {
+		this.eventId = eventId;
+	}
+	public Long getAccountId() {
+		return accountId;
+	}
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getQuotaDelta() {
+		return quotaDelta;
+	}
+	public void setQuotaDelta(Quantity quotaDelta) {
+		this.quotaDelta = quotaDelta;
+	}
+	public Quantity getAvailableDelta() {
+		return availableDelta;
+	}
+	public void setAvailableDelta(Quantity availableDelta) {
+		this.availableDelta = availableDelta;
+	}
+	public LocalDateTime getOccurredAt() {
+		return occurredAt;
+	}
+	public void setOccurredAt(LocalDateTime occurredAt) {
+		this.occurredAt = occurredAt;
+	}
+	private long eventId;              // 노드 내 증가 번호 (SSE id)
+	private Long accountId;
+	private ResourceType type;
+	private String modelId;
+	private String unit;
+	private Quantity quotaDelta;       // quota 변화량 (회수는 음수)
+	private Quantity availableDelta;   // available 변화량 (project 배정은 음수, quota는 그대로)
+	private LocalDateTime occurredAt;  // 커밋 후 발행 시각
+}
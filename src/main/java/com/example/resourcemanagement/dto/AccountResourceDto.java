@@ -0,0 +1,69 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * account의 (type, modelId, unit)별 자원 현황
+ * 필드 순서는 ResourceBridgeRepository.findAccountResources의 생성자 식과 같아야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountResourceDto {
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getQuota() {
+		return quota;
+	}
+	public void setQuota(Quantity quota) {
+		this.quota = quota;
+	}
+	public Quantity getAllocated() {
+		return allocated;
+	}
+	public void setAllocated(Quantity allocated) {
+		this.allocated = allocated;
+	}
+	public Quantity getAvailable() {
+		return available;
+	}
+	public void setAvailable(Quantity available) {
+		this.available = available;
+	}
+	public Quantity getUsed() {
+		return used;
+	}
+	public void setUsed(Quantity used) {
+		this.used = used;
+	}
+	private ResourceType type;
+	private String modelId;
+	private String unit;
+	private Quantity quota;
+	private Quantity allocated;
+	private Quantity available;
+	private Quantity used;
+}
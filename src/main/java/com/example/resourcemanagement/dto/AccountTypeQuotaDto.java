@@ -0,0 +1,41 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * account 자원 한 건의 타입과 quota (타입별 합산은 호출자가 수행)
+ * 필드 순서는 ResourceBridgeRepository.findAccountTypeQuotas의 생성자 식과 같아야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTypeQuotaDto {
+	public Long getAccountId() {
+		return accountId;
+	}
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public Quantity getQuota() {
+		return quota;
+	}
+	public void setQuota(Quantity quota) {
+		this.quota = quota;
+	}
+	private Long accountId;
+	private ResourceType type;
+	private Quantity quota;
+}
@@ -0,0 +1,65 @@
+package com.example.resourcemanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalJobDto {
+	public String getJobId() {
+		return jobId;
+	}
+	public void setJobId(String jobId) {
+		this.jobId = jobId;
+	}
+	public String getStatus() {
+		return status;
+	}
+	public void setStatus(String status) {
+		this.status = status;
+	}
+	public int getTotal() {
+		return total;
+	}
+	public void setTotal(int total) {
+		this.total = total;
+	}
+	public int getProcessed() {
+		return processed;
+	}
+	public void setProcessed(int processed) {
+		this.processed = processed;
+	}
+	public LocalDateTime getSubmittedAt() {
+		return submittedAt;
+	}
+	public void setSubmittedAt(LocalDateTime submittedAt) {
+		this.submittedAt = submittedAt;
+	}
+	public LocalDateTime getCompletedAt() {
+		return completedAt;
+	}
+	public void setCompletedAt(LocalDateTime completedAt) {
+		this.completedAt = completedAt;
+	}
+	public List<ApprovalResultDto> getResults() {
+		return results;
+	}
+	public void setResults(List<ApprovalResultDto> results) {
+		this.results = results;
+	}
+	private String jobId;
+	private String status;                    // "queued", "running", "completed", "failed"
+	private int total;                        // 요청 ID 수
+	private int processed;                    // 처리 완료된 ID 수
+	private LocalDateTime submittedAt;
+	private LocalDateTime completedAt;        // 완료 전에는 null
+	private List<ApprovalResultDto> results;  // 지금까지의 ID별 결과
+}
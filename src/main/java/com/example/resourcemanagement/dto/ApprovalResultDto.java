@@ -0,0 +1,41 @@
+package com.example.resourcemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalResultDto {
+	public static final String APPROVED = "approved";
+	public static final String ALREADY_APPROVED = "already_approved";
+	public static final String NOT_FOUND = "not_found";
+	public static final String INVALID_STATE = "invalid_state";
+	public static final String REJECTED = "rejected";
+	public static final String FAILED = "failed";
+
+	public Long getRequestId() {
+		return requestId;
+	}
+	public void setRequestId(Long requestId) {
+		this.requestId = requestId;
+	}
+	public String getResult() {
+		return result;
+	}
+	public void setResult(String result) {
+		this.result = result;
+	}
+	public String getMessage() {
+		return message;
+	}
+	public void setMessage(String message) {
+		this.message = message;
+	}
+	private Long requestId;
+	private String result;    // "approved", "already_approved", "not_found", "invalid_state", "rejected", "failed"
+	private String message;   // 실패 사유 (optional)
+}
@@ -0,0 +1,22 @@
+package com.example.resourcemanagement.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalRequestDto {
+	public List<Long> getRequestIds() {
+		return requestIds;
+	}
+	public void setRequestIds(List<Long> requestIds) {
+		this.requestIds = requestIds;
+	}
+	private List<Long> requestIds;   // [10, 11, 12]
+}
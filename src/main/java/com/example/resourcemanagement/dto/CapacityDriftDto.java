@@ -0,0 +1,61 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 합계 테이블과 account 자원을 다시 합산한 값의 차이 (합계 - 재계산 값)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityDriftDto {
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getQuotaDrift() {
+		return quotaDrift;
+	}
+	public void setQuotaDrift(Quantity quotaDrift) {
+		this.quotaDrift = quotaDrift;
+	}
+	public Quantity getAllocatedDrift() {
+		return allocatedDrift;
+	}
+	public void setAllocatedDrift(Quantity allocatedDrift) {
+		this.allocatedDrift = allocatedDrift;
+	}
+	public Quantity getAvailableDrift() {
+		return availableDrift;
+	}
+	public void setAvailableDrift(Quantity availableDrift) {
+		this.availableDrift = availableDrift;
+	}
+	private ResourceType type;
+	private String modelId;
+	private String unit;
+	private Quantity quotaDrift;
+	private Quantity allocatedDrift;
+	private Quantity availableDrift;
+}
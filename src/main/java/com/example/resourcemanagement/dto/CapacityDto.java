@@ -0,0 +1,69 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 전체 account 자원 합계 (type, gpu는 modelId, unit별)
+ * 필드 순서는 CapacityAggregateRepository.findTotals의 생성자 식과 같아야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityDto {
+	/**
+	 * 합계 테이블의 milli 합 (findTotals의 sum 결과)
+	 */
+	public CapacityDto(ResourceType type, String modelId, String unit, long quota, long allocated, long available) {
+		this(type, modelId, unit, Quantity.ofMilli(quota), Quantity.ofMilli(allocated), Quantity.ofMilli(available));
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getQuota() {
+		return quota;
+	}
+	public void setQuota(Quantity quota) {
+		this.quota = quota;
+	}
+	public Quantity getAllocated() {
+		return allocated;
+	}
+	public void setAllocated(Quantity allocated) {
+		this.allocated = allocated;
+	}
+	public Quantity getAvailable() {
+		return available;
+	}
+	public void setAvailable(Quantity available) {
+		this.available = available;
+	}
+	private ResourceType type;
+	// gpu가 아니거나 modelId가 없으면 null
+	private String modelId;
+	private String unit;
+	private Quantity quota;
+	private Quantity allocated;
+	private Quantity available;
+}
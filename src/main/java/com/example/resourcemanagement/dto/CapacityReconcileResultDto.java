@@ -0,0 +1,42 @@
+package com.example.resourcemanagement.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 합계 재계산 결과
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityReconcileResultDto {
+	public long getScannedResources() {
+		return scannedResources;
+	}
+	public void setScannedResources(long scannedResources) {
+		this.scannedResources = scannedResources;
+	}
+	public List<CapacityDriftDto> getDrifts() {
+		return drifts;
+	}
+	public void setDrifts(List<CapacityDriftDto> drifts) {
+		this.drifts = drifts;
+	}
+	public boolean isRepaired() {
+		return repaired;
+	}
+	public void setRepaired(boolean repaired) {
+		this.repaired = repaired;
+	}
+	// 합산한 account Resource 수
+	private long scannedResources;
+	// 차이가 있는 키 (없으면 빈 목록)
+	private List<CapacityDriftDto> drifts;
+	// 차이를 보정 delta로 반영했는지
+	private boolean repaired;
+}
@@ -0,0 +1,56 @@
+package com.example.resourcemanagement.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * NDJSON 일괄 등록의 줄별 결과
+ * created 결과는 해당 chunk가 커밋된 뒤에만 내려가므로, 클라이언트는 마지막 created 다음 줄부터 재전송하면 된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestResultDto {
+	public static final String CREATED = "created";
+	public static final String INVALID = "invalid";
+	public static final String REJECTED = "rejected";
+	public static final String FAILED = "failed";
+	public static final String ABORTED = "aborted";
+
+	public long getLine() {
+		return line;
+	}
+	public void setLine(long line) {
+		this.line = line;
+	}
+	public String getResult() {
+		return result;
+	}
+	public void setResult(String result) {
+		this.result = result;
+	}
+	public List<Long> getRequestIds() {
+		return requestIds;
+	}
+	public void setRequestIds(List<Long> requestIds) {
+		this.requestIds = requestIds;
+	}
+	public String getMessage() {
+		return message;
+	}
+	public void setMessage(String message) {
+		this.message = message;
+	}
+	private long line;               // 입력 줄 번호 (1부터)
+	private String result;           // "created", "invalid", "failed", "aborted"
+	private List<Long> requestIds;   // 생성된 ResourceRequest ID (created일 때)
+	private String message;          // 실패 사유 (optional)
+}
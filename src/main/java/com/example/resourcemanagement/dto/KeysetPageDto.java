@@ -0,0 +1,56 @@
+package com.example.resourcemanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 키셋 페이지
+ * 다음 페이지가 없으면 nextAfterRequestedAt/nextAfterId는 null
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPageDto<T> {
+
+	/**
+	 * size + 1건을 조회한 결과로 페이지를 만든다 (초과분이 있으면 다음 페이지 존재)
+	 */
+	public static <T> KeysetPageDto<T> of(List<T> rows, int size,
+			Function<T, LocalDateTime> requestedAt, Function<T, Long> id) {
+		if (rows.size() <= size) {
+			return new KeysetPageDto<>(rows, null, null);
+		}
+		List<T> items = rows.subList(0, size);
+		T last = items.get(size - 1);
+		return new KeysetPageDto<>(items, requestedAt.apply(last), id.apply(last));
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+	public void setItems(List<T> items) {
+		this.items = items;
+	}
+	public LocalDateTime getNextAfterRequestedAt() {
+		return nextAfterRequestedAt;
+	}
+	public void setNextAfterRequestedAt(LocalDateTime nextAfterRequestedAt) {
+		this.nextAfterRequestedAt = nextAfterRequestedAt;
+	}
+	public Long getNextAfterId() {
+		return nextAfterId;
+	}
+	public void setNextAfterId(Long nextAfterId) {
+		this.nextAfterId = nextAfterId;
+	}
+	private List<T> items;
+	private LocalDateTime nextAfterRequestedAt;
+	private Long nextAfterId;
+}
@@ -0,0 +1,84 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 노드의 자원 키별 용량
+ * 필드 순서는 ResourceBridgeRepository.findNodeCapacities의 생성자 식과 같아야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NodeCapacityDto {
+	public Long getNodeId() {
+		return nodeId;
+	}
+	public void setNodeId(Long nodeId) {
+		this.nodeId = nodeId;
+	}
+	public Long getNodeResourceId() {
+		return nodeResourceId;
+	}
+	public void setNodeResourceId(Long nodeResourceId) {
+		this.nodeResourceId = nodeResourceId;
+	}
+	public String getResourceKey() {
+		return resourceKey;
+	}
+	public void setResourceKey(String resourceKey) {
+		this.resourceKey = resourceKey;
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getCapacity() {
+		return capacity;
+	}
+	public void setCapacity(Quantity capacity) {
+		this.capacity = capacity;
+	}
+	public Quantity getAllocated() {
+		return allocated;
+	}
+	public void setAllocated(Quantity allocated) {
+		this.allocated = allocated;
+	}
+	public Quantity getAvailable() {
+		return available;
+	}
+	public void setAvailable(Quantity available) {
+		this.available = available;
+	}
+	private Long nodeId;
+	private Long nodeResourceId;
+	// type|modelId|unit
+	private String resourceKey;
+	private ResourceType type;
+	private String modelId;
+	private String unit;
+	private Quantity capacity;
+	private Quantity allocated;
+	private Quantity available;
+}
@@ -0,0 +1,34 @@
+package com.example.resourcemanagement.dto;
+
+import java.util.List;
+
+import com.example.resourcemanagement.entity.Resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 노드 등록 (resources의 type, modelId, unit, quota = 노드 용량)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NodeDto {
+	public String getName() {
+		return name;
+	}
+	public void setName(String name) {
+		this.name = name;
+	}
+	public List<Resource> getResources() {
+		return resources;
+	}
+	public void setResources(List<Resource> resources) {
+		this.resources = resources;
+	}
+	private String name;
+	private List<Resource> resources;
+}
@@ -0,0 +1,55 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * allocation 라인 하나의 배치 결과
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementDto {
+	public Long getAllocationId() {
+		return allocationId;
+	}
+	public void setAllocationId(Long allocationId) {
+		this.allocationId = allocationId;
+	}
+	public Long getResourceId() {
+		return resourceId;
+	}
+	public void setResourceId(Long resourceId) {
+		this.resourceId = resourceId;
+	}
+	public Long getNodeId() {
+		return nodeId;
+	}
+	public void setNodeId(Long nodeId) {
+		this.nodeId = nodeId;
+	}
+	public String getResourceKey() {
+		return resourceKey;
+	}
+	public void setResourceKey(String resourceKey) {
+		this.resourceKey = resourceKey;
+	}
+	public Quantity getQuantity() {
+		return quantity;
+	}
+	public void setQuantity(Quantity quantity) {
+		this.quantity = quantity;
+	}
+	private Long allocationId;
+	// allocation 라인 Resource ID
+	private Long resourceId;
+	private Long nodeId;
+	// type|modelId|unit
+	private String resourceKey;
+	private Quantity quantity;
+}
@@ -0,0 +1,22 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectQuotaChangeDto {
+	public Quantity getDelta() {
+		return delta;
+	}
+	public void setDelta(Quantity delta) {
+		this.delta = delta;
+	}
+	private Quantity delta;            // 양수는 account에서 배정, 음수는 account로 회수
+}
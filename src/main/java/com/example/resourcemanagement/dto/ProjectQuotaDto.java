@@ -0,0 +1,83 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * project quota 현황과 같은 키의 account 잔여량
+ * accountAvailable 이하의 추가 배정은 성공한다 (동시 배정이 없다면).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectQuotaDto {
+	public Long getProjectId() {
+		return projectId;
+	}
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+	public Long getAccountId() {
+		return accountId;
+	}
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getQuota() {
+		return quota;
+	}
+	public void setQuota(Quantity quota) {
+		this.quota = quota;
+	}
+	public Quantity getAllocated() {
+		return allocated;
+	}
+	public void setAllocated(Quantity allocated) {
+		this.allocated = allocated;
+	}
+	public Quantity getAvailable() {
+		return available;
+	}
+	public void setAvailable(Quantity available) {
+		this.available = available;
+	}
+	public Quantity getAccountAvailable() {
+		return accountAvailable;
+	}
+	public void setAccountAvailable(Quantity accountAvailable) {
+		this.accountAvailable = accountAvailable;
+	}
+	private Long projectId;
+	private Long accountId;
+	private ResourceType type;
+	private String modelId;
+	private String unit;
+	private Quantity quota;            // account에서 배정받은 양
+	private Quantity allocated;        // project가 사용 중인 양
+	private Quantity available;        // quota - allocated
+	private Quantity accountAvailable; // account 자원의 남은 양 (자원이 없으면 0)
+}
@@ -0,0 +1,66 @@
+package com.example.resourcemanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * account의 type 하나에 대한 [from, to) 예약 현황
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationUsageDto {
+	public Long getAccountId() {
+		return accountId;
+	}
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public LocalDateTime getFrom() {
+		return from;
+	}
+	public void setFrom(LocalDateTime from) {
+		this.from = from;
+	}
+	public LocalDateTime getTo() {
+		return to;
+	}
+	public void setTo(LocalDateTime to) {
+		this.to = to;
+	}
+	public Quantity getPeak() {
+		return peak;
+	}
+	public void setPeak(Quantity peak) {
+		this.peak = peak;
+	}
+	public List<ReservationWindowDto> getReservations() {
+		return reservations;
+	}
+	public void setReservations(List<ReservationWindowDto> reservations) {
+		this.reservations = reservations;
+	}
+	private Long accountId;
+	private ResourceType type;
+	private LocalDateTime from;
+	private LocalDateTime to;
+	// 구간 안에서 동시에 예약된 양의 최대값 (modelId/unit 구분 없이 합산)
+	private Quantity peak;
+	// 구간과 겹치는 예약 (requestedAt, allocationId 순)
+	private List<ReservationWindowDto> reservations;
+}
@@ -0,0 +1,73 @@
+package com.example.resourcemanagement.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 승인된 allocation 자원 1건의 예약 구간 [requestedAt, expiresAt)
+ * 필드 순서는 ResourceBridgeRepository.findReservationWindows의 생성자 식과 같아야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationWindowDto {
+	public Long getAllocationId() {
+		return allocationId;
+	}
+	public void setAllocationId(Long allocationId) {
+		this.allocationId = allocationId;
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getQuantity() {
+		return quantity;
+	}
+	public void setQuantity(Quantity quantity) {
+		this.quantity = quantity;
+	}
+	public LocalDateTime getRequestedAt() {
+		return requestedAt;
+	}
+	public void setRequestedAt(LocalDateTime requestedAt) {
+		this.requestedAt = requestedAt;
+	}
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+	public void setExpiresAt(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+	private Long allocationId;
+	private ResourceType type;
+	private String modelId;
+	private String unit;
+	private Quantity quantity;
+	// 예약 시작 (null이면 처음부터)
+	private LocalDateTime requestedAt;
+	// 예약 끝, 이 시각은 포함하지 않음 (null이면 끝 없음)
+	private LocalDateTime expiresAt;
+}
@@ -0,0 +1,61 @@
+package com.example.resourcemanagement.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * ResourceAllocation 목록 행
+ * 필드 순서는 ResourceAllocationRepository.findPage의 생성자 식과 같아야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceAllocationSummaryDto {
+	public Long getId() {
+		return id;
+	}
+	public void setId(Long id) {
+		this.id = id;
+	}
+	public Long getResourceRequestId() {
+		return resourceRequestId;
+	}
+	public void setResourceRequestId(Long resourceRequestId) {
+		this.resourceRequestId = resourceRequestId;
+	}
+	public Long getAccountId() {
+		return accountId;
+	}
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+	public String getStatus() {
+		return status;
+	}
+	public void setStatus(String status) {
+		this.status = status;
+	}
+	public LocalDateTime getRequestedAt() {
+		return requestedAt;
+	}
+	public void setRequestedAt(LocalDateTime requestedAt) {
+		this.requestedAt = requestedAt;
+	}
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+	public void setExpiresAt(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+	private Long id;
+	private Long resourceRequestId;
+	private Long accountId;
+	private String status;
+	private LocalDateTime requestedAt;
+	private LocalDateTime expiresAt;
+}
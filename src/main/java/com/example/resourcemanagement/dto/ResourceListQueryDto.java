@@ -0,0 +1,99 @@
+package com.example.resourcemanagement.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 요청/할당 목록 조회 조건 (쿼리 파라미터)
+ * 범위는 from 이상, to 미만. 다음 페이지는 이전 응답의 nextAfterRequestedAt/nextAfterId를 그대로 넘긴다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResourceListQueryDto {
+	public static final int DEFAULT_SIZE = 50;
+	public static final int MAX_SIZE = 500;
+
+	public Long getAccountId() {
+		return accountId;
+	}
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+	public String getStatus() {
+		return status;
+	}
+	public void setStatus(String status) {
+		this.status = status;
+	}
+	public LocalDateTime getRequestedFrom() {
+		return requestedFrom;
+	}
+	public void setRequestedFrom(LocalDateTime requestedFrom) {
+		this.requestedFrom = requestedFrom;
+	}
+	public LocalDateTime getRequestedTo() {
+		return requestedTo;
+	}
+	public void setRequestedTo(LocalDateTime requestedTo) {
+		this.requestedTo = requestedTo;
+	}
+	public LocalDateTime getExpiresFrom() {
+		return expiresFrom;
+	}
+	public void setExpiresFrom(LocalDateTime expiresFrom) {
+		this.expiresFrom = expiresFrom;
+	}
+	public LocalDateTime getExpiresTo() {
+		return expiresTo;
+	}
+	public void setExpiresTo(LocalDateTime expiresTo) {
+		this.expiresTo = expiresTo;
+	}
+	public LocalDateTime getAfterRequestedAt() {
+		return afterRequestedAt;
+	}
+	public void setAfterRequestedAt(LocalDateTime afterRequestedAt) {
+		this.afterRequestedAt = afterRequestedAt;
+	}
+	public Long getAfterId() {
+		return afterId;
+	}
+	public void setAfterId(Long afterId) {
+		this.afterId = afterId;
+	}
+	public Integer getSize() {
+		return size;
+	}
+	public void setSize(Integer size) {
+		this.size = size;
+	}
+
+	/**
+	 * 1 ~ MAX_SIZE로 제한한 페이지 크기
+	 */
+	public int pageSize() {
+		return size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+	}
+
+	private Long accountId;
+	private String status;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime requestedFrom;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime requestedTo;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime expiresFrom;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime expiresTo;
+	// 키셋 커서: 이전 페이지 마지막 행의 (requestedAt, id)
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime afterRequestedAt;
+	private Long afterId;
+	private Integer size;
+}
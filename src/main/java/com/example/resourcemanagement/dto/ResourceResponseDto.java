@@ -1,5 +1,6 @@
 package com.example.resourcemanagement.dto;
 
+import com.example.resourcemanagement.entity.Quantity;
 import com.example.resourcemanagement.entity.ResourceType;
 
 import lombok.AllArgsConstructor;
@@ -30,28 +31,28 @@ public class ResourceResponseDto {
 	public void setUnit(String unit) {
 		this.unit = unit;
 	}
-	public Double getQuota() {
+	public Quantity getQuota() {
 		return quota;
 	}
-	public void setQuota(Double quota) {
+	public void setQuota(Quantity quota) {
 		this.quota = quota;
 	}
-	public Double getAllocated() {
+	public Quantity getAllocated() {
 		return allocated;
 	}
-	public void setAllocated(Double allocated) {
+	public void setAllocated(Quantity allocated) {
 		this.allocated = allocated;
 	}
-	public Double getAvailable() {
+	public Quantity getAvailable() {
 		return available;
 	}
-	public void setAvailable(Double available) {
+	public void setAvailable(Quantity available) {
 		this.available = available;
 	}
 	private ResourceType type;      // "cpu", "memory", "gpu", "storage"
     private String modelId;         // null 가능
     private String unit;            // "core", "GB", etc.
-    private Double quota;           // 100.0
-    private Double allocated;       // 0.0 (optional)
-    private Double available;       // 100.0 (optional)
+    private Quantity quota;         // 100, 0.5 (소수점 아래 3자리까지)
+    private Quantity allocated;     // 0.0 (optional)
+    private Quantity available;     // 100.0 (optional)
 }
@@ -0,0 +1,54 @@
+package com.example.resourcemanagement.dto;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * account 자원 (type, modelId, unit) 하나의 사용량 변화 보고
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsageReportDto {
+	public Long getAccountId() {
+		return accountId;
+	}
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+	public ResourceType getType() {
+		return type;
+	}
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+	public String getModelId() {
+		return modelId;
+	}
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+	public String getUnit() {
+		return unit;
+	}
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+	public Quantity getDelta() {
+		return delta;
+	}
+	public void setDelta(Quantity delta) {
+		this.delta = delta;
+	}
+	private Long accountId;
+	private ResourceType type;
+	private String modelId;
+	private String unit;
+	private Quantity delta;            // 양수는 사용 시작(allocated 증가), 음수는 반납
+}
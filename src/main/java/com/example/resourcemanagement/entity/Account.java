@@ -2,6 +2,9 @@ package com.example.resourcemanagement.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
@@ -20,6 +23,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "account")
+// 2차 캐시: 승인마다 resourceRequest.getAccount()로 다시 읽지만 거의 바뀌지 않음
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account")
 @Getter
 @Setter
 @NoArgsConstructor
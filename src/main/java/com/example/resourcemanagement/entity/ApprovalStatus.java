@@ -0,0 +1,24 @@
+package com.example.resourcemanagement.entity;
+
+/**
+ * ResourceRequest / ResourceAllocation 상태
+ * required → approved | rejected | expired, approved → expired
+ * rejected, expired는 종료 상태
+ */
+public enum ApprovalStatus {
+    required,
+    approved,
+    rejected,
+    expired;
+
+    public boolean canTransitionTo(ApprovalStatus next) {
+        switch (this) {
+            case required:
+                return next == approved || next == rejected || next == expired;
+            case approved:
+                return next == expired;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.resourcemanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 전체 account 자원 합계의 slot 한 칸
+ * 키별 합계는 slot 행들의 합이며, CapacityAggregateService가 account 자원 변경과 같은 트랜잭션에서 증감한다.
+ * 값은 Quantity로 변환하지 않은 milli 합 (SUM으로 바로 합산하기 위함)
+ */
+@Entity
+@Table(name = "capacity_aggregate")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityAggregate {
+
+	public CapacityAggregateId getId() {
+		return id;
+	}
+
+	public void setId(CapacityAggregateId id) {
+		this.id = id;
+	}
+
+	public long getQuota() {
+		return quota;
+	}
+
+	public void setQuota(long quota) {
+		this.quota = quota;
+	}
+
+	public long getAllocated() {
+		return allocated;
+	}
+
+	public void setAllocated(long allocated) {
+		this.allocated = allocated;
+	}
+
+	public long getAvailable() {
+		return available;
+	}
+
+	public void setAvailable(long available) {
+		this.available = available;
+	}
+
+	@EmbeddedId
+	private CapacityAggregateId id;
+
+	@Column(nullable = false)
+	private long quota;
+
+	@Column(nullable = false)
+	private long allocated;
+
+	@Column(nullable = false)
+	private long available;
+}
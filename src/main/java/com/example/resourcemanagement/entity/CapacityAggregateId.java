@@ -0,0 +1,73 @@
+package com.example.resourcemanagement.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * capacity_aggregate 키 (resourceType, modelKey, unit, slot)
+ * modelKey는 gpu일 때만 modelId, 그 외 타입과 modelId가 없는 gpu는 빈 문자열
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CapacityAggregateId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public ResourceType getResourceType() {
+		return resourceType;
+	}
+
+	public void setResourceType(ResourceType resourceType) {
+		this.resourceType = resourceType;
+	}
+
+	public String getModelKey() {
+		return modelKey;
+	}
+
+	public void setModelKey(String modelKey) {
+		this.modelKey = modelKey;
+	}
+
+	public String getUnit() {
+		return unit;
+	}
+
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+
+	public int getSlot() {
+		return slot;
+	}
+
+	public void setSlot(int slot) {
+		this.slot = slot;
+	}
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "resource_type", length = 32, nullable = false)
+	private ResourceType resourceType;
+
+	@Column(name = "model_key", nullable = false)
+	private String modelKey;
+
+	@Column(name = "unit", nullable = false)
+	private String unit;
+
+	@Column(name = "slot", nullable = false)
+	private int slot;
+}
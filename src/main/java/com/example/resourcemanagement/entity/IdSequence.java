@@ -0,0 +1,48 @@
+package com.example.resourcemanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 엔티티별 ID 시퀀스
+ * IdGenerationService가 블록 단위(hi/lo)로 ID 구간을 임대할 때 사용
+ */
+@Entity
+@Table(name = "id_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Long getNextVal() {
+		return nextVal;
+	}
+
+	public void setNextVal(Long nextVal) {
+		this.nextVal = nextVal;
+	}
+
+	@Id
+	@Column(name = "name", length = 64)
+	private String name;
+
+	// 다음에 임대할 블록의 시작 ID
+	@Column(name = "next_val", nullable = false)
+	private Long nextVal;
+
+}
@@ -0,0 +1,78 @@
+package com.example.resourcemanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 처리한 Idempotency-Key
+ * 자원요청과 같은 트랜잭션에서 INSERT되므로 행이 있으면 해당 요청은 커밋된 것이다.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = {
+	@Index(name = "idx_idempotency_record_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+	public String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	public void setIdempotencyKey(String idempotencyKey) {
+		this.idempotencyKey = idempotencyKey;
+	}
+
+	public String getRequestHash() {
+		return requestHash;
+	}
+
+	public void setRequestHash(String requestHash) {
+		this.requestHash = requestHash;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	// idempotency_key 컬럼 길이 (VARCHAR(128))
+	public static final int MAX_KEY_LENGTH = 128;
+
+	@Id
+	@Column(name = "idempotency_key", length = MAX_KEY_LENGTH)
+	private String idempotencyKey;
+
+	// 요청 본문의 SHA-256 (같은 키로 다른 요청을 보내면 거절)
+	@Column(name = "request_hash", length = 64, nullable = false)
+	private String requestHash;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,47 @@
+package com.example.resourcemanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 물리 노드 (GPU/CPU 서버)
+ * 노드의 자원 키별 용량은 Resource로 두고 ResourceBridge(entity = "node")로 연결한다.
+ * (quota = 용량, allocated = 배치된 양, available = 남은 양)
+ */
+@Entity
+@Table(name = "node")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Node {
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	@Id
+	@Column(name = "id")
+	private Long id;
+
+	@Column(name = "name", nullable = false)
+	private String name;
+}
@@ -0,0 +1,115 @@
+package com.example.resourcemanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * ResourceAllocation 라인 하나를 노드 Resource에 배치한 기록
+ */
+@Entity
+@Table(name = "placement")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Placement {
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getAllocationId() {
+		return allocationId;
+	}
+
+	public void setAllocationId(Long allocationId) {
+		this.allocationId = allocationId;
+	}
+
+	public Long getResourceId() {
+		return resourceId;
+	}
+
+	public void setResourceId(Long resourceId) {
+		this.resourceId = resourceId;
+	}
+
+	public Long getNodeId() {
+		return nodeId;
+	}
+
+	public void setNodeId(Long nodeId) {
+		this.nodeId = nodeId;
+	}
+
+	public Long getNodeResourceId() {
+		return nodeResourceId;
+	}
+
+	public void setNodeResourceId(Long nodeResourceId) {
+		this.nodeResourceId = nodeResourceId;
+	}
+
+	public String getResourceKey() {
+		return resourceKey;
+	}
+
+	public void setResourceKey(String resourceKey) {
+		this.resourceKey = resourceKey;
+	}
+
+	public Quantity getQuantity() {
+		return quantity;
+	}
+
+	public void setQuantity(Quantity quantity) {
+		this.quantity = quantity;
+	}
+
+	public LocalDateTime getPlacedAt() {
+		return placedAt;
+	}
+
+	public void setPlacedAt(LocalDateTime placedAt) {
+		this.placedAt = placedAt;
+	}
+
+	@Id
+	@Column(name = "id")
+	private Long id;
+
+	@Column(name = "allocation_id", nullable = false)
+	private Long allocationId;
+
+	// 배치한 allocation 라인 Resource
+	@Column(name = "resource_id", nullable = false)
+	private Long resourceId;
+
+	@Column(name = "node_id", nullable = false)
+	private Long nodeId;
+
+	@Column(name = "node_resource_id", nullable = false)
+	private Long nodeResourceId;
+
+	// type|modelId|unit (노드 풀 키)
+	@Column(name = "resource_key", nullable = false)
+	private String resourceKey;
+
+	@Column(name = "quantity", nullable = false)
+	private Quantity quantity;
+
+	@Column(name = "placed_at", nullable = false)
+	private LocalDateTime placedAt;
+}
@@ -55,27 +55,27 @@ public class Project {
 		this.modelId = modelId;
 	}
 
-	public int getQuota() {
+	public Quantity getQuota() {
 		return quota;
 	}
 
-	public void setQuota(int quota) {
+	public void setQuota(Quantity quota) {
 		this.quota = quota;
 	}
 
-	public int getAllocated() {
+	public Quantity getAllocated() {
 		return allocated;
 	}
 
-	public void setAllocated(int allocated) {
+	public void setAllocated(Quantity allocated) {
 		this.allocated = allocated;
 	}
 
-	public int getAvailable() {
+	public Quantity getAvailable() {
 		return available;
 	}
 
-	public void setAvailable(int available) {
+	public void setAvailable(Quantity available) {
 		this.available = available;
 	}
 	public String getName() {
@@ -147,13 +147,16 @@ public class Project {
     private String modelId;
 
     @Column(nullable = false)
-    private int quota;
+    @Builder.Default
+    private Quantity quota = Quantity.ZERO;
     
 
     @Column(nullable = false)
-    private int allocated;
+    @Builder.Default
+    private Quantity allocated = Quantity.ZERO;
 
     @Column(nullable = false)
-    private int available;
+    @Builder.Default
+    private Quantity available = Quantity.ZERO;
     
 }
@@ -0,0 +1,175 @@
+package com.example.resourcemanagement.entity;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+/**
+ * 자원 수량 (고정 소수점, 선언된 unit의 1/1000 단위 long)
+ * 0.5 core는 500, 1.5 GB는 1500, H100 2개는 2000으로 저장된다.
+ *
+ * - DB에는 QuantityConverter로 milli 값(BIGINT)을 그대로 저장
+ * - JSON은 10진수로 주고받음 (숫자와 문자열 모두 입력 가능, 소수점 아래 3자리까지)
+ * - 누적/차감처럼 자주 호출되는 경로는 객체 없이 milli()의 long으로 계산
+ */
+@JsonSerialize(using = Quantity.Serializer.class)
+@JsonDeserialize(using = Quantity.Deserializer.class)
+public final class Quantity implements Comparable<Quantity>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** 소수점 아래 자릿수 */
+	public static final int SCALE = 3;
+
+	/** 1 unit의 milli 값 */
+	public static final long ONE = 1000L;
+
+	public static final Quantity ZERO = new Quantity(0L);
+
+	private final long milli;
+
+	private Quantity(long milli) {
+		this.milli = milli;
+	}
+
+	public static Quantity ofMilli(long milli) {
+		return milli == 0L ? ZERO : new Quantity(milli);
+	}
+
+	/**
+	 * 정수 unit 수량 (2 → 2000)
+	 */
+	public static Quantity of(long units) {
+		return ofMilli(Math.multiplyExact(units, ONE));
+	}
+
+	/**
+	 * 10진수 수량 (0.5 → 500)
+	 *
+	 * @throws IllegalArgumentException 소수점 아래 3자리를 넘거나 long 범위를 넘을 때
+	 */
+	public static Quantity of(BigDecimal value) {
+		try {
+			return ofMilli(value.movePointRight(SCALE).longValueExact());
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("수량은 소수점 아래 " + SCALE + "자리까지 허용됩니다: " + value.toPlainString(), e);
+		}
+	}
+
+	/**
+	 * 문자열 수량 ("1.5" → 1500)
+	 *
+	 * @throws IllegalArgumentException 숫자가 아니거나 소수점 아래 3자리를 넘을 때
+	 */
+	public static Quantity parse(String text) {
+		try {
+			return of(new BigDecimal(text.trim()));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("수량 형식이 아닙니다: " + text, e);
+		}
+	}
+
+	/**
+	 * null이면 0
+	 */
+	public static long milliOf(Quantity quantity) {
+		return quantity == null ? 0L : quantity.milli;
+	}
+
+	public long milli() {
+		return milli;
+	}
+
+	public Quantity plus(Quantity other) {
+		return ofMilli(Math.addExact(milli, other.milli));
+	}
+
+	public Quantity minus(Quantity other) {
+		return ofMilli(Math.subtractExact(milli, other.milli));
+	}
+
+	public Quantity negate() {
+		return ofMilli(Math.negateExact(milli));
+	}
+
+	public int signum() {
+		return Long.signum(milli);
+	}
+
+	public boolean isZero() {
+		return milli == 0L;
+	}
+
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(milli, SCALE);
+	}
+
+	@Override
+	public int compareTo(Quantity other) {
+		return Long.compare(milli, other.milli);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Quantity other && milli == other.milli;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(milli);
+	}
+
+	/**
+	 * 뒤쪽 0을 뺀 10진수 표기 (2000 → "2", 1500 → "1.5")
+	 */
+	@Override
+	public String toString() {
+		if (milli % ONE == 0L) {
+			return Long.toString(milli / ONE);
+		}
+		return toBigDecimal().stripTrailingZeros().toPlainString();
+	}
+
+	static final class Serializer extends JsonSerializer<Quantity> {
+		@Override
+		public void serialize(Quantity value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+			if (value.milli % ONE == 0L) {
+				gen.writeNumber(value.milli / ONE);
+			} else {
+				gen.writeNumber(value.toString());
+			}
+		}
+	}
+
+	static final class Deserializer extends JsonDeserializer<Quantity> {
+		@Override
+		public Quantity deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+			JsonToken token = p.currentToken();
+			try {
+				if (token == JsonToken.VALUE_NUMBER_INT) {
+					return of(p.getLongValue());
+				}
+				if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+					return of(p.getDecimalValue());
+				}
+				if (token == JsonToken.VALUE_STRING) {
+					return parse(p.getText());
+				}
+			} catch (IllegalArgumentException | ArithmeticException e) {
+				throw InvalidFormatException.from(p, e.getMessage(), p.getText(), Quantity.class);
+			}
+			return (Quantity) ctxt.handleUnexpectedToken(Quantity.class, p);
+		}
+	}
+}
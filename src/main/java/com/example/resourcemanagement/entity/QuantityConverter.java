@@ -0,0 +1,22 @@
+package com.example.resourcemanagement.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Quantity ↔ BIGINT (milli 값)
+ * Quantity 타입 필드에 자동 적용된다.
+ */
+@Converter(autoApply = true)
+public class QuantityConverter implements AttributeConverter<Quantity, Long> {
+
+	@Override
+	public Long convertToDatabaseColumn(Quantity attribute) {
+		return attribute == null ? null : attribute.milli();
+	}
+
+	@Override
+	public Quantity convertToEntityAttribute(Long dbData) {
+		return dbData == null ? null : Quantity.ofMilli(dbData);
+	}
+}
@@ -2,6 +2,9 @@ package com.example.resourcemanagement.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
@@ -22,6 +25,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "resource")
+// 2차 캐시: 수량 UPDATE(native)는 ResourceBridgeService.evictResource로 해당 행만 비움
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "resource")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,29 +58,37 @@ public class Resource {
 		this.modelId = modelId;
 	}
 
-	public int getQuota() {
+	public Quantity getQuota() {
 		return quota;
 	}
 
-	public void setQuota(int quota) {
+	public void setQuota(Quantity quota) {
 		this.quota = quota;
 	}
 
-	public int getAllocated() {
+	public Quantity getAllocated() {
 		return allocated;
 	}
 
-	public void setAllocated(int allocated) {
+	public void setAllocated(Quantity allocated) {
 		this.allocated = allocated;
 	}
 
-	public int getAvailable() {
+	public Quantity getAvailable() {
 		return available;
 	}
 
-	public void setAvailable(int available) {
+	public void setAvailable(Quantity available) {
 		this.available = available;
 	}
+
+	public Quantity getUsed() {
+		return used;
+	}
+
+	public void setUsed(Quantity used) {
+		this.used = used;
+	}
     public String getUnit() {
 		return unit;
 	}
@@ -96,15 +109,23 @@ public class Resource {
     private String modelId;
 
     @Column(nullable = false)
-    private int quota;
+    @Builder.Default
+    private Quantity quota = Quantity.ZERO;
 
     @Column(nullable = false)
-    private int allocated;
+    @Builder.Default
+    private Quantity allocated = Quantity.ZERO;
     
 	@Column(nullable = false)
     private String unit;
 
     @Column(nullable = false)
-    private int available;
+    @Builder.Default
+    private Quantity available = Quantity.ZERO;
+
+    // 보고된 사용량 (UsageMeteringService), quota/allocated/available과 별개
+    @Column(nullable = false)
+    @Builder.Default
+    private Quantity used = Quantity.ZERO;
     
 }
@@ -3,6 +3,7 @@ package com.example.resourcemanagement.entity;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.resourcemanagement.exception.InvalidStateTransitionException;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
@@ -14,11 +15,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,7 +29,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "resource_allocation")
+// 목록 조회 키셋 (requested_at, id)
+@Table(name = "resource_allocation", indexes = {
+	@Index(name = "idx_resource_allocation_account_requested", columnList = "account_id, requested_at, id"),
+	@Index(name = "idx_resource_allocation_status_requested", columnList = "status, requested_at, id"),
+	// account별 예약 구간 색인 적재
+	@Index(name = "idx_resource_allocation_account_status_expires", columnList = "account_id, status, expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,11 +67,71 @@ public class ResourceAllocation {
 	public void setStatus(String status) {
 		this.status = status;
 	}
+
+	public Long getAccountId() {
+		return accountId;
+	}
+
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+
+	public LocalDateTime getRequestedAt() {
+		return requestedAt;
+	}
+
+	public void setRequestedAt(LocalDateTime requestedAt) {
+		this.requestedAt = requestedAt;
+	}
+
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public ApprovalStatus getApprovalStatus() {
+		return status == null ? null : ApprovalStatus.valueOf(status);
+	}
+
+	/**
+	 * 상태 전이 검증 후 변경
+	 * 실제 DB 반영은 flush 시 version 조건 UPDATE (compare-and-set)로 수행되므로
+	 * 동시에 같은 행을 바꾼 트랜잭션 중 하나는 OptimisticLockException으로 실패한다.
+	 */
+	public void transitionTo(ApprovalStatus next) {
+		ApprovalStatus current = getApprovalStatus();
+		if (current == null || !current.canTransitionTo(next)) {
+			throw new InvalidStateTransitionException("ResourceAllocation", getId(), current, next);
+		}
+		this.status = next.name();
+	}
       @Id
 	   private Long id;
 
 		@Column(name = "status")
 	    private String status;
+		@Version
+		@Column(name = "version", nullable = false)
+		private Long version;
+		// 목록 조회용으로 ResourceRequest에서 복사 (승인 시 설정)
+		@Column(name = "account_id")
+		private Long accountId;
+		// 키셋 커서이므로 NULL 불가 (V15)
+		@Column(name = "requested_at", nullable = false)
+		private LocalDateTime requestedAt;
+		@Column(name = "expires_at")
+		private LocalDateTime expiresAt;
 	    @ManyToOne(fetch = FetchType.LAZY)
 	    @JoinColumn(name = "resource_request_id", nullable = false)
 	    private ResourceRequest resourceRequest;
@@ -7,13 +7,12 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +20,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "resource_bridge")
+@Table(name = "resource_bridge", uniqueConstraints = {
+	// account 자원은 (accountId, type, modelId, unit) 당 하나만 존재
+	@UniqueConstraint(name = "uk_resource_bridge_entity_key", columnNames = {"entity", "entity_id", "resource_key"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -62,9 +64,17 @@ public class ResourceBridge {
 		this.entityId = entityId;
 	}
 
+	public String getResourceKey() {
+		return resourceKey;
+	}
+
+	public void setResourceKey(String resourceKey) {
+		this.resourceKey = resourceKey;
+	}
 
+
+	// IdGenerationService.generateBridgeId()로 미리 할당 (배치 INSERT)
 	@Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
     private Long Id;
 	
@@ -78,6 +88,10 @@ public class ResourceBridge {
 	@JoinColumn(name = "resource_id")
     private Resource resource;
 
+	// account bridge에만 설정되는 "type|modelId|unit" 키 (AccountResourceKey 참고)
+	@Column(name = "resource_key")
+	private String resourceKey;
+
 
 	
 }
@@ -3,6 +3,7 @@ package com.example.resourcemanagement.entity;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.resourcemanagement.exception.InvalidStateTransitionException;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
@@ -13,11 +14,13 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,7 +28,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "resource_request")
+// 만료 회수(ResourceExpiryService)가 (status, expires_at, id) 순으로 키셋 조회
+@Table(name = "resource_request", indexes = {
+	@Index(name = "idx_resource_request_status_expires", columnList = "status, expires_at, id"),
+	// 목록 조회 키셋 (requested_at, id)
+	@Index(name = "idx_resource_request_account_requested", columnList = "account_id, requested_at, id"),
+	@Index(name = "idx_resource_request_status_requested", columnList = "status, requested_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,6 +80,31 @@ public class ResourceRequest {
 	public void setStatus(String status) {
 		this.status = status;
 	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public ApprovalStatus getApprovalStatus() {
+		return status == null ? null : ApprovalStatus.valueOf(status);
+	}
+
+	/**
+	 * 상태 전이 검증 후 변경
+	 * 실제 DB 반영은 flush 시 version 조건 UPDATE (compare-and-set)로 수행되므로
+	 * 동시에 같은 행을 바꾼 트랜잭션 중 하나는 OptimisticLockException으로 실패한다.
+	 */
+	public void transitionTo(ApprovalStatus next) {
+		ApprovalStatus current = getApprovalStatus();
+		if (current == null || !current.canTransitionTo(next)) {
+			throw new InvalidStateTransitionException("ResourceRequest", getId(), current, next);
+		}
+		this.status = next.name();
+	}
 	@Id
     @Column(name = "id")
     private Long Id;
@@ -82,6 +116,9 @@ public class ResourceRequest {
     private LocalDateTime expiresAt;
 	@Column(name = "status")
     private String status;
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
 	@ManyToOne
 	@JoinColumn(name = "account_id")
 	private Account account;
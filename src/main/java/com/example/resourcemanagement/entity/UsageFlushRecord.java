@@ -0,0 +1,53 @@
+package com.example.resourcemanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DB에 반영한 사용량 journal segment
+ * 변화량 UPDATE와 같은 트랜잭션에서 INSERT되므로 행이 있으면 해당 segment는 반영된 것이다.
+ * (반영 커밋 후 파일을 지우기 전에 죽어도 재시작 시 다시 더하지 않음)
+ */
+@Entity
+@Table(name = "usage_flush_record", indexes = {
+	@Index(name = "idx_usage_flush_record_flushed", columnList = "flushed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsageFlushRecord {
+
+	public String getSegmentId() {
+		return segmentId;
+	}
+
+	public void setSegmentId(String segmentId) {
+		this.segmentId = segmentId;
+	}
+
+	public LocalDateTime getFlushedAt() {
+		return flushedAt;
+	}
+
+	public void setFlushedAt(LocalDateTime flushedAt) {
+		this.flushedAt = flushedAt;
+	}
+
+	@Id
+	@Column(name = "segment_id", length = 64)
+	private String segmentId;
+
+	@Column(name = "flushed_at", nullable = false)
+	private LocalDateTime flushedAt;
+
+}
@@ -0,0 +1,27 @@
+package com.example.resourcemanagement.exception;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+
+/**
+ * account의 타입별 한도를 넘는 요청을 트랜잭션 전에 거절 (HTTP 409)
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+	private final Long accountId;
+	private final ResourceType type;
+
+	public AdmissionRejectedException(Long accountId, ResourceType type, Quantity requested, Quantity committed, Quantity limit) {
+		super("account " + accountId + "의 " + type + " 한도를 넘습니다. (요청 " + requested + ", 사용 중 " + committed + ", 한도 " + limit + ")");
+		this.accountId = accountId;
+		this.type = type;
+	}
+
+	public Long getAccountId() {
+		return accountId;
+	}
+
+	public ResourceType getType() {
+		return type;
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.resourcemanagement.exception;
+
+/**
+ * 비동기 승인 큐가 가득 차 작업을 받을 수 없을 때 (HTTP 429)
+ */
+public class ApprovalQueueFullException extends RuntimeException {
+
+	public ApprovalQueueFullException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.resourcemanagement.exception;
+
+/**
+ * 이미 처리한 Idempotency-Key를 다른 요청 본문과 함께 보냈을 때 (HTTP 422)
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+	public IdempotencyKeyConflictException(String key) {
+		super("Idempotency-Key '" + key + "'는 다른 요청에 이미 사용되었습니다.");
+	}
+}
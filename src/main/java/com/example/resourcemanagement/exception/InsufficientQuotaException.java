@@ -0,0 +1,11 @@
+package com.example.resourcemanagement.exception;
+
+/**
+ * account 또는 project의 남은 quota로 요청한 배정/회수를 처리할 수 없을 때 (HTTP 409)
+ */
+public class InsufficientQuotaException extends RuntimeException {
+
+	public InsufficientQuotaException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,13 @@
+package com.example.resourcemanagement.exception;
+
+import com.example.resourcemanagement.entity.ApprovalStatus;
+
+/**
+ * 허용되지 않은 상태 전이 (HTTP 409)
+ */
+public class InvalidStateTransitionException extends IllegalStateException {
+
+	public InvalidStateTransitionException(String entity, Long id, ApprovalStatus from, ApprovalStatus to) {
+		super(entity + " " + id + ": " + from + " → " + to + " 전이는 허용되지 않습니다.");
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.resourcemanagement.exception;
+
+/**
+ * allocation 라인이 들어갈 노드가 없을 때 (HTTP 409)
+ */
+public class PlacementFailedException extends RuntimeException {
+
+	public PlacementFailedException(String message) {
+		super(message);
+	}
+}
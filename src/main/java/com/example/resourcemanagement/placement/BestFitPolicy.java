@@ -0,0 +1,21 @@
+package com.example.resourcemanagement.placement;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * best-fit: 들어갈 수 있는 노드 중 남은 용량이 가장 적은 노드
+ * 빈틈을 가장 작게 남겨 노드를 꽉 채우므로 큰 요청이 들어갈 빈 노드를 오래 보존한다. (기본값)
+ */
+@Component
+public class BestFitPolicy implements PlacementPolicy {
+
+	@Override
+	public String name() {
+		return "best-fit";
+	}
+
+	@Override
+	public FreeCapacityIndex newIndex() {
+		return new OrderedFreeIndex(false);
+	}
+}
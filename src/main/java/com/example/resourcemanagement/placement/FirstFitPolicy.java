@@ -0,0 +1,75 @@
+package com.example.resourcemanagement.placement;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * first-fit: 들어갈 수 있는 노드 중 가장 먼저 등록된 노드
+ * 앞쪽 노드부터 채우므로 뒤쪽 노드가 통째로 비어 큰 요청을 받을 수 있다.
+ */
+@Component
+public class FirstFitPolicy implements PlacementPolicy {
+
+	@Override
+	public String name() {
+		return "first-fit";
+	}
+
+	@Override
+	public FreeCapacityIndex newIndex() {
+		return new MaxSegmentTree();
+	}
+
+	/**
+	 * slot 순서 구간별 최대 남은 용량 트리
+	 * 루트에서 size 이상인 왼쪽 자식을 따라 내려가면 가장 앞의 slot을 O(log n)에 찾는다.
+	 */
+	static final class MaxSegmentTree implements FreeCapacityIndex {
+
+		private static final int INITIAL_LEAVES = 16;
+
+		// 1부터 시작하는 힙 배열, 잎은 [leaves, 2 * leaves)
+		private long[] tree = new long[2 * INITIAL_LEAVES];
+		private int leaves = INITIAL_LEAVES;
+
+		@Override
+		public void update(int slot, long free) {
+			if (slot >= leaves) {
+				grow(slot);
+			}
+			int node = leaves + slot;
+			tree[node] = free;
+			for (node >>= 1; node > 0; node >>= 1) {
+				tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+			}
+		}
+
+		@Override
+		public int select(long size) {
+			if (tree[1] < size) {
+				return -1;
+			}
+			int node = 1;
+			while (node < leaves) {
+				node = tree[2 * node] >= size ? 2 * node : 2 * node + 1;
+			}
+			return node - leaves;
+		}
+
+		/**
+		 * 잎 수를 2배씩 늘려 slot이 들어가게 하고 내부 노드를 다시 계산 (추가 n번에 O(n) 분할 상환)
+		 */
+		private void grow(int slot) {
+			int newLeaves = leaves;
+			while (newLeaves <= slot) {
+				newLeaves <<= 1;
+			}
+			long[] newTree = new long[2 * newLeaves];
+			System.arraycopy(tree, leaves, newTree, newLeaves, leaves);
+			for (int node = newLeaves - 1; node > 0; node--) {
+				newTree[node] = Math.max(newTree[2 * node], newTree[2 * node + 1]);
+			}
+			tree = newTree;
+			leaves = newLeaves;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.resourcemanagement.placement;
+
+/**
+ * 노드 풀 하나의 남은 용량 색인
+ * 노드는 풀에 추가된 순서대로 0부터 번호(slot)가 붙으며, 갱신과 선택 모두 노드 수에 대해 O(log n)이어야 한다.
+ */
+public interface FreeCapacityIndex {
+
+	/**
+	 * slot의 남은 용량을 free로 설정 (처음 보는 slot이면 추가)
+	 */
+	void update(int slot, long free);
+
+	/**
+	 * size 이상 남은 노드 중 정책에 맞는 slot 하나
+	 *
+	 * @return 들어갈 노드가 없으면 -1
+	 */
+	int select(long size);
+}
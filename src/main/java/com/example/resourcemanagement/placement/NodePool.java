@@ -0,0 +1,87 @@
+package com.example.resourcemanagement.placement;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 같은 자원 키 (type|modelId|unit)를 가진 노드 Resource의 남은 용량 (milli 값, Quantity.milli())
+ * 선택과 차감을 한 번에 하므로 같은 풀에 대한 동시 배치가 같은 용량을 두 번 쓰지 않는다.
+ */
+public final class NodePool {
+
+	private final FreeCapacityIndex index;
+
+	// slot → 노드 ID / 노드 Resource ID / 남은 용량
+	private long[] nodeIds = new long[16];
+	private long[] nodeResourceIds = new long[16];
+	private long[] free = new long[16];
+	private int size;
+
+	private final Map<Long, Integer> slotByNodeResourceId = new HashMap<>();
+
+	NodePool(FreeCapacityIndex index) {
+		this.index = index;
+	}
+
+	/**
+	 * 노드 Resource의 남은 용량을 설정 (처음 보는 Resource면 추가)
+	 */
+	public synchronized void put(long nodeId, long nodeResourceId, long available) {
+		Integer slot = slotByNodeResourceId.get(nodeResourceId);
+		if (slot == null) {
+			slot = size++;
+			if (slot == nodeIds.length) {
+				nodeIds = Arrays.copyOf(nodeIds, slot * 2);
+				nodeResourceIds = Arrays.copyOf(nodeResourceIds, slot * 2);
+				free = Arrays.copyOf(free, slot * 2);
+			}
+			nodeIds[slot] = nodeId;
+			nodeResourceIds[slot] = nodeResourceId;
+			slotByNodeResourceId.put(nodeResourceId, slot);
+		}
+		free[slot] = available;
+		index.update(slot, available);
+	}
+
+	/**
+	 * 정책에 맞는 노드를 골라 quantity만큼 차감
+	 *
+	 * @return 고른 노드, 들어갈 노드가 없으면 null
+	 */
+	public synchronized NodeSlot reserve(long quantity) {
+		int slot = index.select(quantity);
+		if (slot < 0) {
+			return null;
+		}
+		free[slot] -= quantity;
+		index.update(slot, free[slot]);
+		return new NodeSlot(nodeIds[slot], nodeResourceIds[slot]);
+	}
+
+	/**
+	 * 차감했던 quantity를 되돌림 (배치 취소, 롤백)
+	 */
+	public synchronized void release(long nodeResourceId, long quantity) {
+		Integer slot = slotByNodeResourceId.get(nodeResourceId);
+		if (slot != null) {
+			free[slot] += quantity;
+			index.update(slot, free[slot]);
+		}
+	}
+
+	public synchronized long free(long nodeResourceId) {
+		Integer slot = slotByNodeResourceId.get(nodeResourceId);
+		return slot == null ? 0 : free[slot];
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * 배치된 노드
+	 */
+	public record NodeSlot(long nodeId, long nodeResourceId) {
+	}
+}
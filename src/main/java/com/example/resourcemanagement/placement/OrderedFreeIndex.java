@@ -0,0 +1,52 @@
+package com.example.resourcemanagement.placement;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * (남은 용량, slot) 순으로 정렬된 색인
+ * best-fit은 size 이상인 가장 작은 항목(ceiling), spread는 가장 큰 항목(last)을 O(log n)에 고른다.
+ */
+final class OrderedFreeIndex implements FreeCapacityIndex {
+
+	private static final Comparator<long[]> ORDER =
+			Comparator.<long[]>comparingLong(entry -> entry[0]).thenComparingLong(entry -> entry[1]);
+
+	// {free, slot}
+	private final TreeSet<long[]> entries = new TreeSet<>(ORDER);
+
+	// slot별 현재 남은 용량 (TreeSet에서 이전 항목을 지울 때 사용), 없는 slot은 -1
+	private long[] freeBySlot = new long[16];
+
+	private final boolean largestFirst;
+
+	OrderedFreeIndex(boolean largestFirst) {
+		this.largestFirst = largestFirst;
+		Arrays.fill(freeBySlot, -1);
+	}
+
+	@Override
+	public void update(int slot, long free) {
+		if (slot >= freeBySlot.length) {
+			int previous = freeBySlot.length;
+			freeBySlot = Arrays.copyOf(freeBySlot, Math.max(previous * 2, slot + 1));
+			Arrays.fill(freeBySlot, previous, freeBySlot.length, -1);
+		}
+		if (freeBySlot[slot] >= 0) {
+			entries.remove(new long[] { freeBySlot[slot], slot });
+		}
+		freeBySlot[slot] = free;
+		entries.add(new long[] { free, slot });
+	}
+
+	@Override
+	public int select(long size) {
+		long[] entry = largestFirst ? (entries.isEmpty() ? null : entries.last())
+				: entries.ceiling(new long[] { size, Long.MIN_VALUE });
+		if (entry == null || entry[0] < size) {
+			return -1;
+		}
+		return (int) entry[1];
+	}
+}
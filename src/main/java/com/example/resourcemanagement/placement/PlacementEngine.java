@@ -0,0 +1,57 @@
+package com.example.resourcemanagement.placement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 인벤토리의 메모리 사본과 배치 정책
+ * 자원 키 (type|modelId|unit)마다 NodePool 하나를 두며, 배치 한 건은 해당 풀의 색인만 보므로 O(log n)이다.
+ *
+ * DB 상태의 사본이므로 실제 차감은 호출자가 노드 Resource에 조건부 UPDATE로 확정하고,
+ * 실패하면 해당 노드의 값을 DB 값으로 다시 맞춘다 (PlacementService).
+ */
+public final class PlacementEngine {
+
+	private final PlacementPolicy policy;
+
+	private final Map<String, NodePool> pools = new ConcurrentHashMap<>();
+
+	public PlacementEngine(PlacementPolicy policy) {
+		this.policy = policy;
+	}
+
+	public PlacementPolicy policy() {
+		return policy;
+	}
+
+	/**
+	 * 자원 키의 풀 (없으면 빈 풀 생성)
+	 */
+	public NodePool pool(String resourceKey) {
+		return pools.computeIfAbsent(resourceKey, key -> new NodePool(policy.newIndex()));
+	}
+
+	/**
+	 * 노드 Resource 하나를 등록하거나 남은 용량을 갱신
+	 */
+	public void put(String resourceKey, long nodeId, long nodeResourceId, long available) {
+		pool(resourceKey).put(nodeId, nodeResourceId, available);
+	}
+
+	/**
+	 * 자원 키의 풀에서 quantity가 들어갈 노드를 골라 차감
+	 *
+	 * @return 고른 노드, 없으면 null
+	 */
+	public NodePool.NodeSlot reserve(String resourceKey, long quantity) {
+		NodePool pool = pools.get(resourceKey);
+		return pool == null ? null : pool.reserve(quantity);
+	}
+
+	public void release(String resourceKey, long nodeResourceId, long quantity) {
+		NodePool pool = pools.get(resourceKey);
+		if (pool != null) {
+			pool.release(nodeResourceId, quantity);
+		}
+	}
+}
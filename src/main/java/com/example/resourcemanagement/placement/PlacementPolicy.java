@@ -0,0 +1,15 @@
+package com.example.resourcemanagement.placement;
+
+/**
+ * 배치 정책 (placement.policy 값으로 선택)
+ * 정책은 노드를 고르는 기준에 맞는 FreeCapacityIndex를 만들어 주기만 하고, 용량 계산은 NodePool이 맡는다.
+ */
+public interface PlacementPolicy {
+
+	/**
+	 * placement.policy에 쓰는 이름 (예: best-fit)
+	 */
+	String name();
+
+	FreeCapacityIndex newIndex();
+}
@@ -0,0 +1,21 @@
+package com.example.resourcemanagement.placement;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * spread: 남은 용량이 가장 많은 노드 (worst-fit)
+ * 부하를 노드 전체에 고르게 나눠 노드 하나의 장애가 미치는 영향을 줄인다.
+ */
+@Component
+public class SpreadPolicy implements PlacementPolicy {
+
+	@Override
+	public String name() {
+		return "spread";
+	}
+
+	@Override
+	public FreeCapacityIndex newIndex() {
+		return new OrderedFreeIndex(true);
+	}
+}
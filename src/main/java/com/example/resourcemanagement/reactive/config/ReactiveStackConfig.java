@@ -0,0 +1,28 @@
+package com.example.resourcemanagement.reactive.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * reactive 프로필 전용 구성 (WebFlux + R2DBC)
+ *
+ * JPA 트랜잭션 매니저와 공존하므로 R2DBC 트랜잭션 매니저는 빈으로 노출하지 않고
+ * TransactionalOperator 안에서만 사용한다. 리액티브 서비스는 @Transactional 대신
+ * transactionalOperator::transactional로 트랜잭션 경계를 지정한다.
+ */
+@Configuration
+@Profile("reactive")
+@EnableR2dbcRepositories(basePackages = "com.example.resourcemanagement.reactive.repository")
+public class ReactiveStackConfig {
+
+	@Bean
+	public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+		return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+	}
+}
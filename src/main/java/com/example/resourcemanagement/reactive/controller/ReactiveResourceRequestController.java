@@ -0,0 +1,44 @@
+package com.example.resourcemanagement.reactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.reactive.service.ReactiveResourceRequestService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * ResourceRequestController의 생성/승인 엔드포인트를 WebFlux로 제공 (reactive 프로필)
+ * 경로와 응답은 MVC 쪽과 같다. Idempotency-Key, NDJSON 일괄 등록, 목록 조회는 MVC 스택에서만 제공한다.
+ */
+@RestController
+@Profile("reactive")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequestMapping("/resource-requests")
+public class ReactiveResourceRequestController {
+
+	@Autowired
+	ReactiveResourceRequestService reactiveResourceRequestService;
+
+	@PostMapping
+	public Mono<ResponseEntity<Void>> createResourceRequest(@RequestBody ResourceRequestDto dto) {
+		return reactiveResourceRequestService.createResourceRequest(dto)
+			.thenReturn(ResponseEntity.ok().<Void>build());
+	}
+
+	@GetMapping("/{id}/approve")
+	public Mono<ResponseEntity<Void>> approvedRequest(@PathVariable("id") Long id) {
+		return reactiveResourceRequestService.approveResourceRequest(id)
+			.thenReturn(ResponseEntity.ok().<Void>build());
+	}
+}
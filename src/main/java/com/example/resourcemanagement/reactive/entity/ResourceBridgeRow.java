@@ -0,0 +1,77 @@
+package com.example.resourcemanagement.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * resource_bridge 행 (R2DBC 매핑, ResourceBridge 엔티티와 같은 테이블)
+ * 연관 엔티티 대신 resource_id를 그대로 가진다.
+ */
+@Table("resource_bridge")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResourceBridgeRow {
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getEntity() {
+		return entity;
+	}
+
+	public void setEntity(String entity) {
+		this.entity = entity;
+	}
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public void setEntityId(Long entityId) {
+		this.entityId = entityId;
+	}
+
+	public Long getResourceId() {
+		return resourceId;
+	}
+
+	public void setResourceId(Long resourceId) {
+		this.resourceId = resourceId;
+	}
+
+	public String getResourceKey() {
+		return resourceKey;
+	}
+
+	public void setResourceKey(String resourceKey) {
+		this.resourceKey = resourceKey;
+	}
+
+	@Id
+	@Column("id")
+	private Long id;
+
+	@Column("entity")
+	private String entity;
+
+	@Column("entity_id")
+	private Long entityId;
+
+	@Column("resource_id")
+	private Long resourceId;
+
+	@Column("resource_key")
+	private String resourceKey;
+
+}
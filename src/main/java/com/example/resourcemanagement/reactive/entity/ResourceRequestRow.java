@@ -0,0 +1,91 @@
+package com.example.resourcemanagement.reactive.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * resource_request 행 (R2DBC 매핑, ResourceRequest 엔티티와 같은 테이블)
+ *
+ * status 변경은 ResourceRequestR2dbcRepository.updateStatus의 version 조건 UPDATE로만 수행한다.
+ */
+@Table("resource_request")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResourceRequestRow {
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getAccountId() {
+		return accountId;
+	}
+
+	public void setAccountId(Long accountId) {
+		this.accountId = accountId;
+	}
+
+	public LocalDateTime getRequestedAt() {
+		return requestedAt;
+	}
+
+	public void setRequestedAt(LocalDateTime requestedAt) {
+		this.requestedAt = requestedAt;
+	}
+
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	@Id
+	@Column("id")
+	private Long id;
+
+	@Column("account_id")
+	private Long accountId;
+
+	@Column("requested_at")
+	private LocalDateTime requestedAt;
+
+	@Column("expires_at")
+	private LocalDateTime expiresAt;
+
+	@Column("status")
+	private String status;
+
+	@Column("version")
+	private Long version;
+
+}
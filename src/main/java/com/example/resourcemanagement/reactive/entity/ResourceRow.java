@@ -0,0 +1,101 @@
+package com.example.resourcemanagement.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.example.resourcemanagement.entity.ResourceType;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * resource 행 (R2DBC 매핑, Resource 엔티티와 같은 테이블)
+ * quota/allocated/available은 변환 없이 milli 값(Quantity.milli())으로 읽고 쓴다.
+ */
+@Table("resource")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResourceRow {
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public ResourceType getType() {
+		return type;
+	}
+
+	public void setType(ResourceType type) {
+		this.type = type;
+	}
+
+	public String getModelId() {
+		return modelId;
+	}
+
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+
+	public long getQuota() {
+		return quota;
+	}
+
+	public void setQuota(long quota) {
+		this.quota = quota;
+	}
+
+	public long getAllocated() {
+		return allocated;
+	}
+
+	public void setAllocated(long allocated) {
+		this.allocated = allocated;
+	}
+
+	public String getUnit() {
+		return unit;
+	}
+
+	public void setUnit(String unit) {
+		this.unit = unit;
+	}
+
+	public long getAvailable() {
+		return available;
+	}
+
+	public void setAvailable(long available) {
+		this.available = available;
+	}
+
+	@Id
+	@Column("id")
+	private Long id;
+
+	@Column("type")
+	private ResourceType type;
+
+	@Column("model_id")
+	private String modelId;
+
+	@Column("quota")
+	private long quota;
+
+	@Column("allocated")
+	private long allocated;
+
+	@Column("unit")
+	private String unit;
+
+	@Column("available")
+	private long available;
+
+}
@@ -0,0 +1,25 @@
+package com.example.resourcemanagement.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.resourcemanagement.reactive.entity.ResourceBridgeRow;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ResourceBridgeR2dbcRepository extends R2dbcRepository<ResourceBridgeRow, Long> {
+
+	Flux<ResourceBridgeRow> findByEntityAndEntityId(String entity, Long entityId);
+
+	/**
+	 * account bridge가 없을 때만 INSERT (uk_resource_bridge_entity_key 충돌 시 무시)
+	 * @return 1이면 생성, 0이면 다른 트랜잭션이 이미 생성함
+	 */
+	@Modifying
+	@Query("insert ignore into resource_bridge (id, entity, entity_id, resource_key, resource_id) values (:id, 'account', :accountId, :resourceKey, :resourceId)")
+	Mono<Integer> insertAccountBridgeIfAbsent(@Param("id") Long id, @Param("accountId") Long accountId,
+			@Param("resourceKey") String resourceKey, @Param("resourceId") Long resourceId);
+}
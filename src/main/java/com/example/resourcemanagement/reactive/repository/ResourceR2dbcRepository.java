@@ -0,0 +1,24 @@
+package com.example.resourcemanagement.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.resourcemanagement.reactive.entity.ResourceRow;
+
+import reactor.core.publisher.Mono;
+
+public interface ResourceR2dbcRepository extends R2dbcRepository<ResourceRow, Long> {
+
+	/**
+	 * account 자원 키로 bridge를 찾아 quota/available을 원자적으로 증가 (조회 없이 UPDATE 1회)
+	 * @return 갱신된 행 수 (해당 키의 account Resource가 없으면 0)
+	 */
+	@Modifying
+	@Query("update resource r join resource_bridge b on b.resource_id = r.id"
+			+ " set r.quota = r.quota + :delta, r.available = r.available + :delta"
+			+ " where b.entity = 'account' and b.entity_id = :accountId and b.resource_key = :resourceKey")
+	Mono<Integer> accumulateAccountQuota(@Param("accountId") Long accountId, @Param("resourceKey") String resourceKey,
+			@Param("delta") long delta);
+}
@@ -0,0 +1,21 @@
+package com.example.resourcemanagement.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.resourcemanagement.reactive.entity.ResourceRequestRow;
+
+import reactor.core.publisher.Mono;
+
+public interface ResourceRequestR2dbcRepository extends R2dbcRepository<ResourceRequestRow, Long> {
+
+	/**
+	 * version 조건 상태 변경 (JPA @Version flush와 같은 compare-and-set)
+	 * @return 갱신된 행 수 (다른 트랜잭션이 먼저 바꿨으면 0)
+	 */
+	@Modifying
+	@Query("update resource_request set status = :status, version = version + 1 where id = :id and version = :version")
+	Mono<Integer> updateStatus(@Param("id") Long id, @Param("version") Long version, @Param("status") String status);
+}
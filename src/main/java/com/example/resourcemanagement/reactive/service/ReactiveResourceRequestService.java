@@ -0,0 +1,314 @@
+package com.example.resourcemanagement.reactive.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.ApprovalStatus;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.exception.InvalidStateTransitionException;
+import com.example.resourcemanagement.reactive.entity.ResourceAllocationRow;
+import com.example.resourcemanagement.reactive.entity.ResourceBridgeRow;
+import com.example.resourcemanagement.reactive.entity.ResourceRequestRow;
+import com.example.resourcemanagement.reactive.entity.ResourceRow;
+import com.example.resourcemanagement.reactive.repository.ResourceBridgeR2dbcRepository;
+import com.example.resourcemanagement.reactive.repository.ResourceR2dbcRepository;
+import com.example.resourcemanagement.reactive.repository.ResourceRequestR2dbcRepository;
+import com.example.resourcemanagement.repository.CapacityAggregateRepository;
+import com.example.resourcemanagement.service.AccountResourceChangedEvent;
+import com.example.resourcemanagement.service.AccountResourceKey;
+import com.example.resourcemanagement.service.AdmissionControlService;
+import com.example.resourcemanagement.service.CapacityAggregateService;
+import com.example.resourcemanagement.service.CapacityKey;
+import com.example.resourcemanagement.service.IdGenerationService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 자원요청 생성/승인의 논블로킹 구현 (reactive 프로필)
+ * ResourceRequestService.createResourceRequest, ResourceAllocationService.approveResourceRequest와 같은 결과를 R2DBC로 기록한다.
+ *
+ * - ID는 IdGenerationService의 hi/lo 블록에서 받는다. 블록 임대는 JDBC이므로 boundedElastic에서 실행
+ * - 승인은 version 조건 UPDATE를 먼저 보내 동시 승인과 겹치면 나머지 쓰기 전에 실패
+ * - account 누적은 키 순서(LOCK_ORDER)대로 "quota = quota + ?" 단일 UPDATE, 없으면 INSERT IGNORE로 생성
+ * - 전체 합계(capacity_aggregate)는 같은 트랜잭션 끝에 CapacityAggregateService와 같은 SQL로 갱신
+ * - AccountResourceChangedEvent는 트랜잭션이 끝난 뒤 발행
+ * - account 타입별 한도는 MVC와 같은 AdmissionControlService로 쓰기 전에 확인 (승인은 이미 읽은 request 라인으로 확인)
+ */
+@Service
+@Profile("reactive")
+public class ReactiveResourceRequestService {
+
+	@Autowired
+	ResourceRequestR2dbcRepository resourceRequestRepository;
+
+	@Autowired
+	ResourceR2dbcRepository resourceRepository;
+
+	@Autowired
+	ResourceBridgeR2dbcRepository resourceBridgeRepository;
+
+	@Autowired
+	R2dbcEntityTemplate template;
+
+	@Autowired
+	TransactionalOperator transactionalOperator;
+
+	@Autowired
+	IdGenerationService idGenerationService;
+
+	@Autowired
+	CapacityAggregateService capacityAggregateService;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	AdmissionControlService admissionControlService;
+
+	/**
+	 * 리소스 라인마다 ResourceRequest와 request Resource/Bridge 생성
+	 *
+	 * @return 생성된 ResourceRequest ID 목록 (리소스 라인 순서)
+	 */
+	public Mono<List<Long>> createResourceRequest(ResourceRequestDto dto) {
+		List<Resource> lines = dto.getResources();
+		int count = lines.size();
+		return Mono.fromRunnable(() -> admissionControlService.checkCreate(dto))
+			.then(accountExists(dto.getAccountId()))
+			.filter(Boolean::booleanValue)
+			.switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Account not found")))
+			.then(Mono.zip(generateIds(count, idGenerationService::generateRequestId),
+				generateIds(count, idGenerationService::generateResourceId),
+				generateIds(count, idGenerationService::generateBridgeId)))
+			.flatMap(ids -> {
+				List<ResourceRequestRow> requests = new ArrayList<>(count);
+				List<ResourceRow> resources = new ArrayList<>(count);
+				List<ResourceBridgeRow> bridges = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					ResourceRequestRow request = new ResourceRequestRow();
+					request.setId(ids.getT1().get(i));
+					request.setAccountId(dto.getAccountId());
+					request.setRequestedAt(dto.getActivatedAt());
+					request.setExpiresAt(dto.getExpiredAt());
+					request.setStatus(ApprovalStatus.required.name());
+					request.setVersion(0L);
+					requests.add(request);
+
+					Resource line = lines.get(i);
+					resources.add(newResource(ids.getT2().get(i), line.getType(), line.getModelId(), line.getUnit(),
+						Quantity.milliOf(line.getQuota())));
+					bridges.add(newBridge(ids.getT3().get(i), "request", request.getId(), ids.getT2().get(i)));
+				}
+				return insertAll(requests)
+					.then(insertAll(resources))
+					.then(insertAll(bridges))
+					.as(transactionalOperator::transactional)
+					.thenReturn(ids.getT1())
+					.doOnNext(requestIds -> admissionControlService.rememberRequests(dto.getAccountId(), requestIds, lines));
+			});
+	}
+
+	/**
+	 * ResourceRequest 승인
+	 * 이미 승인된 요청은 아무것도 쓰지 않고 완료 (재시도 안전)
+	 */
+	public Mono<Void> approveResourceRequest(Long requestId) {
+		return resourceRequestRepository.findById(requestId)
+			.switchIfEmpty(Mono.error(() -> new IllegalArgumentException("ResourceRequest not found")))
+			.flatMap(request -> {
+				ApprovalStatus current = ApprovalStatus.valueOf(request.getStatus());
+				if (current == ApprovalStatus.approved) {
+					return Mono.<Void>empty();
+				}
+				if (!current.canTransitionTo(ApprovalStatus.approved)) {
+					return Mono.<Void>error(new InvalidStateTransitionException("ResourceRequest", request.getId(), current, ApprovalStatus.approved));
+				}
+				return approve(request);
+			});
+	}
+
+	/**
+	 * request의 resource 라인은 생성 후 바뀌지 않으므로 트랜잭션 밖에서 읽고,
+	 * 트랜잭션 안에서는 상태 CAS → allocation/Resource/Bridge INSERT → account 누적 순으로 쓴다.
+	 */
+	private Mono<Void> approve(ResourceRequestRow request) {
+		return resourceBridgeRepository.findByEntityAndEntityId("request", request.getId())
+			.map(ResourceBridgeRow::getResourceId)
+			.collectList()
+			.flatMapMany(resourceRepository::findAllById)
+			.collectList()
+			.flatMap(resources -> {
+				// 동시 승인끼리 account Resource 행을 같은 순서로 잠그도록 정렬
+				Map<AccountResourceKey, Long> accountDeltas = new TreeMap<>(AccountResourceKey.LOCK_ORDER);
+				Map<ResourceType, Long> lineQuotas = new EnumMap<>(ResourceType.class);
+				for (ResourceRow resource : resources) {
+					accountDeltas.merge(new AccountResourceKey(request.getAccountId(), resource.getType(),
+						resource.getModelId(), resource.getUnit()), resource.getQuota(), Long::sum);
+					lineQuotas.merge(resource.getType(), resource.getQuota(), Long::sum);
+				}
+				// account Resource를 새로 만들어야 할 경우에 쓸 ID도 미리 받아 둠 (트랜잭션 안에서 블로킹 호출 없음)
+				int lineCount = resources.size();
+				int keyCount = accountDeltas.size();
+				// 한도를 넘으면 아무것도 쓰지 않고 실패, 통과하면 승인이 끝날 때까지 inFlight로 잡아 둠
+				return Mono.using(
+					() -> admissionControlService.admitApproval(request.getId(), request.getAccountId(), lineQuotas),
+					ticket -> Mono.zip(generateIds(lineCount, idGenerationService::generateAllocationId),
+							generateIds(lineCount, idGenerationService::generateResourceId),
+							generateIds(lineCount, idGenerationService::generateBridgeId),
+							generateIds(keyCount, idGenerationService::generateResourceId),
+							generateIds(keyCount, idGenerationService::generateBridgeId))
+						.map(ids -> new ApprovalIds(ids.getT1(), ids.getT2(), ids.getT3(), ids.getT4(), ids.getT5()))
+						.flatMap(ids -> writeApproval(request, resources, accountDeltas, ids)
+							.as(transactionalOperator::transactional))
+						.then(Mono.<Void>fromRunnable(() -> {
+							accountDeltas.forEach((key, delta) ->
+								eventPublisher.publishEvent(new AccountResourceChangedEvent(key, delta)));
+							ticket.approved();
+						})),
+					AdmissionControlService.Ticket::close);
+			});
+	}
+
+	private Mono<Void> writeApproval(ResourceRequestRow request, List<ResourceRow> resources,
+			Map<AccountResourceKey, Long> accountDeltas, ApprovalIds ids) {
+		List<ResourceAllocationRow> allocations = new ArrayList<>(resources.size());
+		List<ResourceRow> allocationResources = new ArrayList<>(resources.size());
+		List<ResourceBridgeRow> allocationBridges = new ArrayList<>(resources.size());
+		for (int i = 0; i < resources.size(); i++) {
+			ResourceRow source = resources.get(i);
+			ResourceAllocationRow allocation = new ResourceAllocationRow();
+			allocation.setId(ids.allocationIds().get(i));
+			allocation.setResourceRequestId(request.getId());
+			allocation.setAccountId(request.getAccountId());
+			allocation.setRequestedAt(request.getRequestedAt());
+			allocation.setExpiresAt(request.getExpiresAt());
+			allocation.setStatus(ApprovalStatus.approved.name());
+			allocation.setVersion(0L);
+			allocations.add(allocation);
+
+			Long resourceId = ids.allocationResourceIds().get(i);
+			allocationResources.add(newResource(resourceId, source.getType(), source.getModelId(), source.getUnit(), source.getQuota()));
+			allocationBridges.add(newBridge(ids.allocationBridgeIds().get(i), "allocation", allocation.getId(), resourceId));
+		}
+
+		List<AccountResourceKey> keys = new ArrayList<>(accountDeltas.keySet());
+		return resourceRequestRepository.updateStatus(request.getId(), request.getVersion(), ApprovalStatus.approved.name())
+			.flatMap(updated -> updated == 1 ? Mono.<Void>empty()
+				: Mono.<Void>error(new OptimisticLockingFailureException("ResourceRequest " + request.getId() + " 상태가 이미 변경되었습니다.")))
+			.then(insertAll(allocations))
+			.then(insertAll(allocationResources))
+			.then(insertAll(allocationBridges))
+			.then(Flux.range(0, keys.size())
+				.concatMap(i -> accumulateAccountResource(keys.get(i), accountDeltas.get(keys.get(i)),
+					ids.accountResourceIds().get(i), ids.accountBridgeIds().get(i)))
+				.then())
+			.then(addCapacity(accountDeltas));
+	}
+
+	/**
+	 * 승인 누적분을 전체 합계의 slot 하나에 더함 (CapacityKey 순서)
+	 */
+	private Mono<Void> addCapacity(Map<AccountResourceKey, Long> accountDeltas) {
+		Map<CapacityKey, Long> capacityDeltas = new TreeMap<>(CapacityKey.LOCK_ORDER);
+		accountDeltas.forEach((key, delta) -> capacityDeltas.merge(CapacityKey.of(key), delta, Long::sum));
+		int slot = capacityAggregateService.randomSlot();
+		return Flux.fromIterable(capacityDeltas.entrySet())
+			.concatMap(entry -> template.getDatabaseClient()
+				.sql(CapacityAggregateRepository.ADD_DELTA_SQL)
+				.bind("type", entry.getKey().type().name())
+				.bind("modelKey", entry.getKey().modelKey())
+				.bind("unit", entry.getKey().unit())
+				.bind("slot", slot)
+				.bind("quota", entry.getValue())
+				.bind("allocated", 0L)
+				.bind("available", entry.getValue())
+				.fetch()
+				.rowsUpdated())
+			.then();
+	}
+
+	/**
+	 * 키에 해당하는 account Resource에 delta를 누적하거나, 없으면 quota=delta로 생성
+	 * 생성은 bridge의 유니크 키로 동시 생성 중 하나만 성공 (ResourceBridgeService와 같은 방식)
+	 */
+	private Mono<Void> accumulateAccountResource(AccountResourceKey key, long delta, Long newResourceId, Long newBridgeId) {
+		return resourceRepository.accumulateAccountQuota(key.accountId(), key.toColumnValue(), delta)
+			.flatMap(updated -> updated > 0 ? Mono.<Void>empty()
+				: template.insert(newResource(newResourceId, key.type(), key.modelId(), key.unit(), delta))
+					.then(resourceBridgeRepository.insertAccountBridgeIfAbsent(newBridgeId, key.accountId(), key.toColumnValue(), newResourceId))
+					.flatMap(inserted -> inserted == 1 ? Mono.<Void>empty()
+						// 다른 트랜잭션이 먼저 생성함 → 방금 만든 Resource는 버리고 승자에게 누적
+						: resourceRepository.deleteById(newResourceId)
+							.then(resourceRepository.accumulateAccountQuota(key.accountId(), key.toColumnValue(), delta))
+							.then()));
+	}
+
+	private Mono<Boolean> accountExists(Long accountId) {
+		return template.getDatabaseClient()
+			.sql("select id from account where id = :id")
+			.bind("id", accountId)
+			.fetch()
+			.first()
+			.hasElement();
+	}
+
+	/**
+	 * hi/lo 블록에서 ID를 count개 발급
+	 * 대부분 메모리 카운터 증가지만 블록 임대 시 JDBC를 쓰므로 이벤트 루프 밖에서 실행
+	 */
+	private Mono<List<Long>> generateIds(int count, Supplier<Long> generator) {
+		return Mono.fromCallable(() -> {
+			List<Long> ids = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				ids.add(generator.get());
+			}
+			return ids;
+		}).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	private <T> Mono<Void> insertAll(List<T> rows) {
+		return Flux.fromIterable(rows).concatMap(row -> template.insert(row)).then();
+	}
+
+	private ResourceRow newResource(Long id, ResourceType type, String modelId, String unit, long quota) {
+		ResourceRow resource = new ResourceRow();
+		resource.setId(id);
+		resource.setType(type);
+		resource.setModelId(modelId);
+		resource.setUnit(unit);
+		resource.setQuota(quota);
+		resource.setAllocated(0L);
+		resource.setAvailable(quota);
+		return resource;
+	}
+
+	private ResourceBridgeRow newBridge(Long id, String entity, Long entityId, Long resourceId) {
+		ResourceBridgeRow bridge = new ResourceBridgeRow();
+		bridge.setId(id);
+		bridge.setEntity(entity);
+		bridge.setEntityId(entityId);
+		bridge.setResourceId(resourceId);
+		return bridge;
+	}
+
+	private record ApprovalIds(List<Long> allocationIds, List<Long> allocationResourceIds, List<Long> allocationBridgeIds,
+			List<Long> accountResourceIds, List<Long> accountBridgeIds) {
+	}
+}
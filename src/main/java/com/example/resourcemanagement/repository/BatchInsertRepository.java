@@ -0,0 +1,10 @@
+package com.example.resourcemanagement.repository;
+
+/**
+ * ID를 미리 할당한 엔티티를 merge(SELECT 후 INSERT) 없이 persist하는 fragment
+ * hibernate.jdbc.batch_size 설정과 함께 사용하면 flush 시 JDBC 배치 INSERT로 전송된다.
+ */
+public interface BatchInsertRepository<T> {
+
+	void persistAll(Iterable<T> entities);
+}
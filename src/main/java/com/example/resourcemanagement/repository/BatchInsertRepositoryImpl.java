@@ -0,0 +1,17 @@
+package com.example.resourcemanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public void persistAll(Iterable<T> entities) {
+		for (T entity : entities) {
+			entityManager.persist(entity);
+		}
+	}
+}
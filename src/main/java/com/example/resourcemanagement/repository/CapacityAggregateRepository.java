@@ -0,0 +1,46 @@
+package com.example.resourcemanagement.repository;
+
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.resourcemanagement.dto.CapacityDto;
+import com.example.resourcemanagement.entity.CapacityAggregate;
+import com.example.resourcemanagement.entity.CapacityAggregateId;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface CapacityAggregateRepository extends JpaRepository<CapacityAggregate, CapacityAggregateId> {
+
+	/**
+	 * slot 행에 delta를 더하고, 행이 없으면 delta로 생성
+	 * 리액티브 스택도 같은 SQL을 DatabaseClient로 실행한다.
+	 */
+	String ADD_DELTA_SQL = "insert into capacity_aggregate (resource_type, model_key, unit, slot, quota, allocated, available)"
+			+ " values (:type, :modelKey, :unit, :slot, :quota, :allocated, :available)"
+			+ " on duplicate key update quota = quota + values(quota), allocated = allocated + values(allocated),"
+			+ " available = available + values(available)";
+
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "capacity_aggregate"))
+	@Query(value = ADD_DELTA_SQL, nativeQuery = true)
+	int addDelta(@Param("type") String type, @Param("modelKey") String modelKey, @Param("unit") String unit,
+			@Param("slot") int slot, @Param("quota") long quota, @Param("allocated") long allocated,
+			@Param("available") long available);
+
+	/**
+	 * 키별 합계 (slot 행 합산, slot 수만큼만 읽음)
+	 */
+	@Query("select new com.example.resourcemanagement.dto.CapacityDto(a.id.resourceType, a.id.modelKey, a.id.unit,"
+			+ " sum(a.quota), sum(a.allocated), sum(a.available))"
+			+ " from CapacityAggregate a group by a.id.resourceType, a.id.modelKey, a.id.unit"
+			+ " order by a.id.resourceType, a.id.modelKey, a.id.unit")
+	List<CapacityDto> findTotals();
+}
@@ -0,0 +1,41 @@
+package com.example.resourcemanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.resourcemanagement.entity.IdempotencyRecord;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+	/**
+	 * 키가 없을 때만 생성
+	 * 같은 키를 다른 트랜잭션이 처리 중이면 그 트랜잭션이 끝날 때까지 기다린 뒤 0을 반환
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_record"))
+	@Query(value = "insert ignore into idempotency_record (idempotency_key, request_hash, created_at, expires_at)"
+			+ " values (:key, :requestHash, :createdAt, :expiresAt)", nativeQuery = true)
+	int insertIfAbsent(@Param("key") String key, @Param("requestHash") String requestHash,
+			@Param("createdAt") LocalDateTime createdAt, @Param("expiresAt") LocalDateTime expiresAt);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from IdempotencyRecord r where r.idempotencyKey = :key")
+	Optional<IdempotencyRecord> findByKeyForUpdate(@Param("key") String key);
+
+	@Modifying
+	@Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
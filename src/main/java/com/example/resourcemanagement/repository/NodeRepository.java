@@ -0,0 +1,14 @@
+package com.example.resourcemanagement.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.example.resourcemanagement.entity.Node;
+
+@Repository
+public interface NodeRepository extends JpaRepository<Node, Long>, BatchInsertRepository<Node> {
+
+	@Query("select max(n.id) from Node n")
+	Long findMaxId();
+}
@@ -0,0 +1,21 @@
+package com.example.resourcemanagement.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.example.resourcemanagement.entity.Placement;
+
+@Repository
+public interface PlacementRepository extends JpaRepository<Placement, Long>, BatchInsertRepository<Placement> {
+
+	@Query("select max(p.id) from Placement p")
+	Long findMaxId();
+
+	List<Placement> findByAllocationId(Long allocationId);
+
+	List<Placement> findByAllocationIdIn(Collection<Long> allocationIds);
+}
@@ -1,12 +1,40 @@
 package com.example.resourcemanagement.repository;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.resourcemanagement.entity.Account;
 import com.example.resourcemanagement.entity.Project;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 	
+	@Query("select max(p.id) from Project p")
+	Long findMaxId();
+
+	/**
+	 * project quota/available을 DB에서 원자적으로 변경
+	 * delta는 milli 값, 회수(delta < 0)는 project가 쓰지 않은 available 안에서만 허용
+	 * @return 갱신된 행 수 (project가 없거나 available이 부족하면 0)
+	 */
+	@Modifying(clearAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"))
+	@Query(value = "update project set quota = quota + :delta, available = available + :delta where id = :id and available + :delta >= 0", nativeQuery = true)
+	int adjustQuota(@Param("id") Long id, @Param("delta") long delta);
+
+	/**
+	 * project를 account의 같은 키 Resource에 연결 (처음 배정할 때 한 번)
+	 * 이후 배정은 bridge 조회 없이 project.resource_id로 account Resource를 찾음
+	 */
+	@Modifying(clearAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"))
+	@Query(value = "update project set resource_id = :resourceId where id = :id and resource_id is null", nativeQuery = true)
+	int linkAccountResource(@Param("id") Long id, @Param("resourceId") Long resourceId);
 }
@@ -1,17 +1,49 @@
 package com.example.resourcemanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.resourcemanagement.dto.ResourceAllocationSummaryDto;
 import com.example.resourcemanagement.entity.Account;
 import com.example.resourcemanagement.entity.ResourceAllocation;
 import com.example.resourcemanagement.entity.ResourceRequest;
 import com.example.resourcemanagement.entity.ResourceType;
 
 @Repository
-public interface ResourceAllocationRepository extends JpaRepository<ResourceAllocation, Long> {
+public interface ResourceAllocationRepository extends JpaRepository<ResourceAllocation, Long>, BatchInsertRepository<ResourceAllocation> {
 	List<ResourceAllocation> findByResourceRequestId(Long resourceRequestId);
 
+	List<ResourceAllocation> findByResourceRequestIdIn(Collection<Long> resourceRequestIds);
+
+	@Query("select max(a.id) from ResourceAllocation a")
+	Long findMaxId();
+
+	/**
+	 * 목록 조회 (requested_at, id) 키셋 페이지
+	 * ResourceRequest와 조인하지 않도록 account_id/requested_at/expires_at은 allocation에 복사해 둔 값을 사용
+	 */
+	@Query("select new com.example.resourcemanagement.dto.ResourceAllocationSummaryDto(a.id, a.resourceRequest.id, a.accountId, a.status, a.requestedAt, a.expiresAt)"
+			+ " from ResourceAllocation a"
+			+ " where (:accountId is null or a.accountId = :accountId)"
+			+ " and (:status is null or a.status = :status)"
+			+ " and (:requestedFrom is null or a.requestedAt >= :requestedFrom)"
+			+ " and (:requestedTo is null or a.requestedAt < :requestedTo)"
+			+ " and (:expiresFrom is null or a.expiresAt >= :expiresFrom)"
+			+ " and (:expiresTo is null or a.expiresAt < :expiresTo)"
+			+ " and (:afterRequestedAt is null or a.requestedAt > :afterRequestedAt"
+			+ " or (a.requestedAt = :afterRequestedAt and a.id > :afterId))"
+			+ " order by a.requestedAt, a.id")
+	List<ResourceAllocationSummaryDto> findPage(@Param("accountId") Long accountId, @Param("status") String status,
+			@Param("requestedFrom") LocalDateTime requestedFrom, @Param("requestedTo") LocalDateTime requestedTo,
+			@Param("expiresFrom") LocalDateTime expiresFrom, @Param("expiresTo") LocalDateTime expiresTo,
+			@Param("afterRequestedAt") LocalDateTime afterRequestedAt, @Param("afterId") Long afterId,
+			Pageable pageable);
+
 }
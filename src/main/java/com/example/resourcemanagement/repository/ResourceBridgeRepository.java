@@ -1,17 +1,128 @@
 package com.example.resourcemanagement.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.resourcemanagement.dto.AccountResourceDto;
+import com.example.resourcemanagement.dto.AccountTypeQuotaDto;
+import com.example.resourcemanagement.dto.NodeCapacityDto;
+import com.example.resourcemanagement.dto.ReservationWindowDto;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceBridge;
 import com.example.resourcemanagement.entity.ResourceType;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ResourceBridgeRepository extends JpaRepository<ResourceBridge, Long> {
+public interface ResourceBridgeRepository extends JpaRepository<ResourceBridge, Long>, BatchInsertRepository<ResourceBridge> {
 	List<ResourceBridge> findByEntityAndEntityId(String entity, Long entityId);
+
 	List<ResourceBridge>findByEntity(String entity);
+
+	@Query("select max(b.id) from ResourceBridge b")
+	Long findMaxId();
+
+	/**
+	 * 여러 엔티티의 bridge와 Resource를 한 번에 조회 (N+1 방지)
+	 * 승인/만료 회수가 request 라인을 읽는 쿼리라 쿼리 캐시 사용 (resource_bridge/resource INSERT 시 Hibernate가 무효화)
+	 * request/allocation 라인 Resource는 생성 후 바뀌지 않으므로 수량 UPDATE(resource_counter)와 무관하다.
+	 */
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "resource-bridge-query") })
+	@Query("select b from ResourceBridge b join fetch b.resource where b.entity = :entity and b.entityId in :entityIds")
+	List<ResourceBridge> findWithResourceByEntityAndEntityIdIn(@Param("entity") String entity,
+			@Param("entityIds") Collection<Long> entityIds);
+
+	/**
+	 * account 자원 현황 (entity 없이 DTO로 바로 조회)
+	 */
+	@Query("select new com.example.resourcemanagement.dto.AccountResourceDto(r.type, r.modelId, r.unit, r.quota, r.allocated, r.available, r.used)"
+			+ " from ResourceBridge b join b.resource r where b.entity = 'account' and b.entityId = :accountId"
+			+ " order by r.type, r.modelId, r.unit")
+	List<AccountResourceDto> findAccountResources(@Param("accountId") Long accountId);
+
+	/**
+	 * 전체 account 자원의 (accountId, type, quota) (승인 한도 카운터 적재/재동기화용)
+	 * quota는 변환기가 적용된 속성이라 DB에서 합산하지 않고 호출자가 타입별로 더한다.
+	 */
+	@Query("select new com.example.resourcemanagement.dto.AccountTypeQuotaDto(b.entityId, r.type, r.quota)"
+			+ " from ResourceBridge b join b.resource r where b.entity = 'account'")
+	List<AccountTypeQuotaDto> findAccountTypeQuotas();
+
+	/**
+	 * 전체 account 자원을 한 행씩 스트리밍 (합계 재계산용, 트랜잭션 안에서 사용하고 닫아야 함)
+	 * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 메모리에 모두 올리지 않고 행 단위로 읽는다.
+	 */
+	@QueryHints({
+			@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+			@QueryHint(name = "org.hibernate.readOnly", value = "true") })
+	@Query("select new com.example.resourcemanagement.dto.AccountResourceDto(r.type, r.modelId, r.unit, r.quota, r.allocated, r.available, r.used)"
+			+ " from ResourceBridge b join b.resource r where b.entity = 'account'")
+	Stream<AccountResourceDto> streamAllAccountResources();
+
+	/**
+	 * 전체 노드 용량 (배치 엔진 적재용)
+	 */
+	@Query("select new com.example.resourcemanagement.dto.NodeCapacityDto(b.entityId, r.id, b.resourceKey, r.type, r.modelId, r.unit, r.quota, r.allocated, r.available)"
+			+ " from ResourceBridge b join b.resource r where b.entity = 'node'")
+	List<NodeCapacityDto> findNodeCapacities();
+
+	/**
+	 * 자원 키 하나의 노드 용량 (배치 엔진 풀 재동기화용)
+	 */
+	@Query("select new com.example.resourcemanagement.dto.NodeCapacityDto(b.entityId, r.id, b.resourceKey, r.type, r.modelId, r.unit, r.quota, r.allocated, r.available)"
+			+ " from ResourceBridge b join b.resource r where b.entity = 'node' and b.resourceKey = :resourceKey")
+	List<NodeCapacityDto> findNodeCapacitiesByKey(@Param("resourceKey") String resourceKey);
+
+	@Query("select new com.example.resourcemanagement.dto.NodeCapacityDto(b.entityId, r.id, b.resourceKey, r.type, r.modelId, r.unit, r.quota, r.allocated, r.available)"
+			+ " from ResourceBridge b join b.resource r where b.entity = 'node' and b.entityId = :nodeId order by b.resourceKey")
+	List<NodeCapacityDto> findNodeCapacitiesByNodeId(@Param("nodeId") Long nodeId);
+
+	/**
+	 * account의 승인된 allocation 자원 중 type이 같은 것의 예약 구간 (예약 구간 색인 적재용)
+	 */
+	@Query("select new com.example.resourcemanagement.dto.ReservationWindowDto(a.id, r.type, r.modelId, r.unit, r.quota, a.requestedAt, a.expiresAt)"
+			+ " from ResourceAllocation a, ResourceBridge b join b.resource r"
+			+ " where a.accountId = :accountId and a.status = 'approved'"
+			+ " and b.entity = 'allocation' and b.entityId = a.id and r.type = :type"
+			+ " order by a.requestedAt, a.id")
+	List<ReservationWindowDto> findReservationWindows(@Param("accountId") Long accountId, @Param("type") ResourceType type);
+
+	/**
+	 * uk_resource_bridge_entity_key 인덱스로 단건 조회
+	 * AccountResourceIndex 미스 시 누적/회수 경로가 호출하므로 쿼리 캐시 사용 (bridge의 resource_id는 바뀌지 않음)
+	 */
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "resource-bridge-query") })
+	@Query("select b.resource.id from ResourceBridge b where b.entity = :entity and b.entityId = :entityId and b.resourceKey = :resourceKey")
+	Optional<Long> findResourceIdByKey(@Param("entity") String entity, @Param("entityId") Long entityId,
+			@Param("resourceKey") String resourceKey);
+
+	/**
+	 * 최신 커밋 값을 잠금 조회 (동시 생성 경쟁에서 진 트랜잭션이 승자의 Resource를 찾을 때 사용)
+	 */
+	@Query(value = "select resource_id from resource_bridge where entity = 'account' and entity_id = :accountId and resource_key = :resourceKey for update", nativeQuery = true)
+	Long lockAccountResourceId(@Param("accountId") Long accountId, @Param("resourceKey") String resourceKey);
+
+	/**
+	 * account bridge가 없을 때만 생성
+	 * 같은 키를 다른 트랜잭션이 먼저 넣었다면 그 트랜잭션이 끝날 때까지 기다린 뒤 0을 반환
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "resource_bridge"))
+	@Query(value = "insert ignore into resource_bridge (id, entity, entity_id, resource_key, resource_id) values (:id, 'account', :accountId, :resourceKey, :resourceId)", nativeQuery = true)
+	int insertAccountBridgeIfAbsent(@Param("id") Long id, @Param("accountId") Long accountId,
+			@Param("resourceKey") String resourceKey, @Param("resourceId") Long resourceId);
 }
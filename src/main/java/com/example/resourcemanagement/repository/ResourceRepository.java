@@ -3,15 +3,89 @@ package com.example.resourcemanagement.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceBridge;
 import com.example.resourcemanagement.entity.ResourceType;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ResourceRepository extends JpaRepository<Resource, Long> {
+public interface ResourceRepository extends JpaRepository<Resource, Long>, BatchInsertRepository<Resource> {
+
+	/**
+	 * 수량 UPDATE의 쿼리 공간
+	 * "resource"로 선언하면 Hibernate가 2차 캐시 resource 영역 전체를 비우므로 별도 이름을 쓰고,
+	 * 바뀐 행은 호출자가 ResourceBridgeService.evictResource로 비운다.
+	 * (이 공간으로는 자동 flush가 일어나지 않으므로 같은 트랜잭션에서 persist한 Resource는 먼저 flush)
+	 */
+	String COUNTER_SPACE = "resource_counter";
+
 	List<ResourceBridge> findByTypeAndModelId(String type, String modelId);
 
+	@Query("select max(r.id) from Resource r")
+	Long findMaxId();
+
+	/**
+	 * quota/available을 DB에서 원자적으로 증가 (동시 승인 시 갱신 손실 없음)
+	 * 수량 인자는 모두 milli 값 (Quantity.milli())
+	 * @return 갱신된 행 수 (Resource가 없으면 0)
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+	@Query(value = "update resource set quota = quota + :delta, available = available + :delta where id = :id", nativeQuery = true)
+	int accumulateQuota(@Param("id") Long id, @Param("delta") long delta);
+
+	/**
+	 * available에서 amount를 떼어 allocated로 옮김 (project 배정)
+	 * available이 부족하면 갱신하지 않으므로 확인과 차감이 UPDATE 1회로 끝남
+	 * @return 갱신된 행 수 (Resource가 없거나 available이 부족하면 0)
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+	@Query(value = "update resource set allocated = allocated + :amount, available = available - :amount where id = :id and available >= :amount", nativeQuery = true)
+	int reserveAvailable(@Param("id") Long id, @Param("amount") long amount);
+
+	/**
+	 * allocated에서 amount를 available로 되돌림 (project 배정 회수)
+	 * @return 갱신된 행 수 (Resource가 없거나 allocated가 부족하면 0)
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+	@Query(value = "update resource set allocated = allocated - :amount, available = available + :amount where id = :id and allocated >= :amount", nativeQuery = true)
+	int releaseAllocated(@Param("id") Long id, @Param("amount") long amount);
+
+	/**
+	 * 보고된 사용량 변화를 used에 반영 (양수는 사용 시작, 음수는 반납)
+	 * allocated(project quota 합)와 available은 바꾸지 않는다. 사용량은 이미 일어난 일이므로 조건 없이 더한다.
+	 * @return 갱신된 행 수 (Resource가 없으면 0)
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+	@Query(value = "update resource set used = used + :delta where id = :id", nativeQuery = true)
+	int meterUsed(@Param("id") Long id, @Param("delta") long delta);
+
+	/**
+	 * 만료 회수: quota와 available을 amount만큼 차감 (available이 부족하면 갱신하지 않음)
+	 * project에 배정됐거나(allocated) 사용 중인 몫까지 차감해 available이 음수가 되지 않도록 한다.
+	 * @return 갱신된 행 수 (잔여 부족 또는 Resource가 없으면 0)
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+	@Query(value = "update resource set quota = quota - :amount, available = available - :amount where id = :id and available >= :amount", nativeQuery = true)
+	int releaseQuota(@Param("id") Long id, @Param("amount") long amount);
+
+	/**
+	 * 최신 커밋된 available을 잠금 조회 (스냅샷이 아닌 현재 값이 필요할 때)
+	 */
+	@Query(value = "select available from resource where id = :id for update", nativeQuery = true)
+	Long lockAvailable(@Param("id") Long id);
+
 }
@@ -1,13 +1,63 @@
 package com.example.resourcemanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.resourcemanagement.dto.ResourceRequestSummaryDto;
 import com.example.resourcemanagement.entity.Account;
 import com.example.resourcemanagement.entity.ResourceRequest;
 
 @Repository
 public interface ResourceRequestRepository extends JpaRepository<ResourceRequest, Long> {
+
+	@Query("select max(r.id) from ResourceRequest r")
+	Long findMaxId();
+	
+	/**
+	 * 만료된 approved 요청 ID를 (expires_at, id) 키셋 순으로 조회하고 행을 잠금
+	 * idx_resource_request_status_expires 범위 스캔으로 처리하며,
+	 * 다른 노드가 잠근 행은 SKIP LOCKED로 건너뛰어 노드끼리 같은 요청을 두고 대기하지 않음
+	 */
+	@Query(value = "select id from resource_request"
+			+ " where status = 'approved' and expires_at <= :now"
+			+ " and (expires_at > :afterExpiresAt or (expires_at = :afterExpiresAt and id > :afterId))"
+			+ " order by expires_at, id limit :limit for update skip locked", nativeQuery = true)
+	List<Long> lockExpiredApprovedIds(@Param("now") LocalDateTime now,
+			@Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+			@Param("afterId") Long afterId,
+			@Param("limit") int limit);
+	
+	@Query("select r from ResourceRequest r join fetch r.account where r.id in :ids order by r.expiresAt, r.id")
+	List<ResourceRequest> findWithAccountByIdIn(@Param("ids") Collection<Long> ids);
+	
+	/**
+	 * 목록 조회 (requested_at, id) 키셋 페이지
+	 * null인 조건은 적용하지 않으며, account/status 조건은 각각
+	 * idx_resource_request_account_requested / idx_resource_request_status_requested 인덱스 순서로 읽는다.
+	 */
+	@Query("select new com.example.resourcemanagement.dto.ResourceRequestSummaryDto(r.id, r.account.id, r.status, r.requestedAt, r.expiresAt)"
+			+ " from ResourceRequest r"
+			+ " where (:accountId is null or r.account.id = :accountId)"
+			+ " and (:status is null or r.status = :status)"
+			+ " and (:requestedFrom is null or r.requestedAt >= :requestedFrom)"
+			+ " and (:requestedTo is null or r.requestedAt < :requestedTo)"
+			+ " and (:expiresFrom is null or r.expiresAt >= :expiresFrom)"
+			+ " and (:expiresTo is null or r.expiresAt < :expiresTo)"
+			+ " and (:afterRequestedAt is null or r.requestedAt > :afterRequestedAt"
+			+ " or (r.requestedAt = :afterRequestedAt and r.id > :afterId))"
+			+ " order by r.requestedAt, r.id")
+	List<ResourceRequestSummaryDto> findPage(@Param("accountId") Long accountId, @Param("status") String status,
+			@Param("requestedFrom") LocalDateTime requestedFrom, @Param("requestedTo") LocalDateTime requestedTo,
+			@Param("expiresFrom") LocalDateTime expiresFrom, @Param("expiresTo") LocalDateTime expiresTo,
+			@Param("afterRequestedAt") LocalDateTime afterRequestedAt, @Param("afterId") Long afterId,
+			Pageable pageable);
 	
 	
 }
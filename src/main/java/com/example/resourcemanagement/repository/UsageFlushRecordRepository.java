@@ -0,0 +1,32 @@
+package com.example.resourcemanagement.repository;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.resourcemanagement.entity.UsageFlushRecord;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface UsageFlushRecordRepository extends JpaRepository<UsageFlushRecord, String> {
+
+	/**
+	 * segment가 반영된 적 없을 때만 기록
+	 * 같은 segment를 다른 트랜잭션이 반영 중이면 그 트랜잭션이 끝날 때까지 기다린 뒤 0을 반환
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "usage_flush_record"))
+	@Query(value = "insert ignore into usage_flush_record (segment_id, flushed_at) values (:segmentId, :flushedAt)", nativeQuery = true)
+	int insertIfAbsent(@Param("segmentId") String segmentId, @Param("flushedAt") LocalDateTime flushedAt);
+
+	@Modifying
+	@Query("delete from UsageFlushRecord r where r.flushedAt <= :before")
+	int deleteFlushedBefore(@Param("before") LocalDateTime before);
+}
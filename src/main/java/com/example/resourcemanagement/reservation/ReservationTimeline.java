@@ -0,0 +1,253 @@
+package com.example.resourcemanagement.reservation;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * account/type 하나의 예약 구간 색인 (불변, 자원이 바뀌면 통째로 다시 만듦)
+ *
+ * 예약 i는 [starts[i], ends[i]) 구간 동안 quantities[i](milli)를 점유한다.
+ * 시각은 호출자가 정한 long 키 (열린 시작/끝은 Long.MIN_VALUE/Long.MAX_VALUE)
+ *
+ * - 겹침 조회: priority search tree (노드는 남은 구간 중 끝이 가장 늦은 것, 나머지는 시작 순서로 반씩 나눔), O(log n + k)
+ * - 사용량: 시작/끝 경계마다 바뀌는 계단 함수, 구간 최대값은 세그먼트 트리, O(log n)
+ */
+public final class ReservationTimeline {
+
+	public static final ReservationTimeline EMPTY = build(new long[0], new long[0], new long[0]);
+
+	// 트리 노드 (노드 번호는 생성 순서, 값은 예약 번호)
+	private final int[] item;
+	private final int[] left;
+	private final int[] right;
+	// 오른쪽 서브트리 예약의 가장 작은 시작 순위 (오른쪽이 비면 Integer.MAX_VALUE)
+	private final int[] split;
+	private final int root;
+
+	// 예약 번호 → 시작 순위
+	private final int[] rank;
+	private final long[] ends;
+
+	// 시작 순위 → 시작 시각 (정렬됨)
+	private final long[] sortedStarts;
+
+	// 계단 함수: breakpoints[i] 이상 breakpoints[i + 1] 미만 구간의 사용량 levels[i] (첫 경계 이전은 0)
+	private final long[] breakpoints;
+	private final long[] maxTree;
+	private final int leaves;
+
+	private int nodeCount;
+
+	private ReservationTimeline(int size, int[] rank, long[] ends, long[] sortedStarts, long[] breakpoints, long[] levels) {
+		this.item = new int[size];
+		this.left = new int[size];
+		this.right = new int[size];
+		this.split = new int[size];
+		this.rank = rank;
+		this.ends = ends;
+		this.sortedStarts = sortedStarts;
+		this.breakpoints = breakpoints;
+
+		int leafCount = 1;
+		while (leafCount < levels.length) {
+			leafCount <<= 1;
+		}
+		this.leaves = leafCount;
+		this.maxTree = new long[2 * leafCount];
+		System.arraycopy(levels, 0, maxTree, leafCount, levels.length);
+		for (int node = leafCount - 1; node > 0; node--) {
+			maxTree[node] = Math.max(maxTree[2 * node], maxTree[2 * node + 1]);
+		}
+
+		// 시작 순서로 나열한 예약 번호
+		int[] byRank = new int[size];
+		for (int i = 0; i < size; i++) {
+			byRank[rank[i]] = i;
+		}
+		this.root = buildNode(byRank, 0, size);
+	}
+
+	/**
+	 * 예약 목록으로 색인 생성, O(n log n)
+	 * 끝이 시작보다 늦지 않은 예약은 어떤 구간과도 겹치지 않는 것으로 본다.
+	 */
+	public static ReservationTimeline build(long[] starts, long[] ends, long[] quantities) {
+		int size = starts.length;
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+		int[] rank = new int[size];
+		long[] sortedStarts = new long[size];
+		for (int r = 0; r < size; r++) {
+			rank[order[r]] = r;
+			sortedStarts[r] = starts[order[r]];
+		}
+
+		// 경계별 변화량 (시작 +quantity, 끝 -quantity)
+		long[][] edges = new long[2 * size][];
+		int edgeCount = 0;
+		for (int i = 0; i < size; i++) {
+			if (ends[i] > starts[i] && quantities[i] != 0) {
+				edges[edgeCount++] = new long[] { starts[i], quantities[i] };
+				edges[edgeCount++] = new long[] { ends[i], -quantities[i] };
+			}
+		}
+		Arrays.sort(edges, 0, edgeCount, (a, b) -> Long.compare(a[0], b[0]));
+		long[] breakpoints = new long[edgeCount];
+		long[] levels = new long[edgeCount];
+		int points = 0;
+		long level = 0;
+		for (int i = 0; i < edgeCount; i++) {
+			level += edges[i][1];
+			if (points > 0 && breakpoints[points - 1] == edges[i][0]) {
+				levels[points - 1] = level;
+			} else {
+				breakpoints[points] = edges[i][0];
+				levels[points] = level;
+				points++;
+			}
+		}
+		return new ReservationTimeline(size, rank, ends.clone(), sortedStarts,
+				Arrays.copyOf(breakpoints, points), Arrays.copyOf(levels, points));
+	}
+
+	public int size() {
+		return item.length;
+	}
+
+	/**
+	 * [from, to)와 겹치는 예약 번호를 하나씩 전달 (순서 없음)
+	 */
+	public void overlaps(long from, long to, IntConsumer consumer) {
+		if (from >= to || root < 0) {
+			return;
+		}
+		// 시작이 to보다 이른 예약은 시작 순위 [0, limit)
+		int limit = lowerBound(sortedStarts, sortedStarts.length, to);
+		if (limit == 0) {
+			return;
+		}
+		int[] stack = new int[64];
+		int top = 0;
+		stack[top++] = root;
+		while (top > 0) {
+			int node = stack[--top];
+			int reservation = item[node];
+			// 자식의 끝은 모두 이 노드보다 이르므로 함께 건너뜀
+			if (ends[reservation] <= from) {
+				continue;
+			}
+			if (rank[reservation] < limit && sortedStarts[rank[reservation]] < ends[reservation]) {
+				consumer.accept(reservation);
+			}
+			if (top + 2 > stack.length) {
+				stack = Arrays.copyOf(stack, stack.length * 2);
+			}
+			if (left[node] >= 0) {
+				stack[top++] = left[node];
+			}
+			if (right[node] >= 0 && split[node] < limit) {
+				stack[top++] = right[node];
+			}
+		}
+	}
+
+	/**
+	 * 시각 at의 사용량 (milli)
+	 */
+	public long usageAt(long at) {
+		int index = upperBound(breakpoints, at) - 1;
+		return index < 0 ? 0 : maxTree[leaves + index];
+	}
+
+	/**
+	 * [from, to) 동안의 최대 사용량 (milli)
+	 */
+	public long peak(long from, long to) {
+		if (from >= to) {
+			return 0;
+		}
+		int first = upperBound(breakpoints, from) - 1;
+		int last = lowerBound(breakpoints, breakpoints.length, to) - 1;
+		if (last < 0) {
+			return 0;
+		}
+		long peak = rangeMax(Math.max(first, 0), last);
+		// from이 첫 경계보다 이르면 사용량 0인 구간도 포함
+		return first < 0 ? Math.max(peak, 0) : peak;
+	}
+
+	/**
+	 * byRank[lo, hi)의 예약으로 서브트리 생성 (byRank는 시작 순위 순서, 작업 중 재배열됨)
+	 */
+	private int buildNode(int[] byRank, int lo, int hi) {
+		if (lo >= hi) {
+			return -1;
+		}
+		int top = lo;
+		for (int i = lo + 1; i < hi; i++) {
+			if (ends[byRank[i]] > ends[byRank[top]]) {
+				top = i;
+			}
+		}
+		int node = nodeCount++;
+		item[node] = byRank[top];
+		// 뽑은 예약을 맨 앞으로 보내고 나머지는 순서 유지
+		System.arraycopy(byRank, lo, byRank, lo + 1, top - lo);
+		int rest = lo + 1;
+		int mid = rest + (hi - rest + 1) / 2;
+		split[node] = mid < hi ? rank[byRank[mid]] : Integer.MAX_VALUE;
+		left[node] = buildNode(byRank, rest, mid);
+		right[node] = buildNode(byRank, mid, hi);
+		return node;
+	}
+
+	private long rangeMax(int from, int to) {
+		long max = Long.MIN_VALUE;
+		for (int lo = from + leaves, hi = to + leaves + 1; lo < hi; lo >>= 1, hi >>= 1) {
+			if ((lo & 1) == 1) {
+				max = Math.max(max, maxTree[lo++]);
+			}
+			if ((hi & 1) == 1) {
+				max = Math.max(max, maxTree[--hi]);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * values[0, length)에서 key 이상인 첫 위치
+	 */
+	private static int lowerBound(long[] values, int length, long key) {
+		int lo = 0;
+		int hi = length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (values[mid] < key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * key보다 큰 첫 위치
+	 */
+	private static int upperBound(long[] values, long key) {
+		int lo = 0;
+		int hi = values.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (values[mid] <= key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+}
@@ -0,0 +1,235 @@
+package com.example.resourcemanagement.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.resourcemanagement.dto.AccountQuotaEventDto;
+import com.example.resourcemanagement.entity.Quantity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * account 자원 quota 변경을 SSE 구독자에게 전달하는 프로세스 내 허브
+ *
+ * - AccountResourceChangedEvent를 커밋 이후(AFTER_COMMIT)에만 받아 해당 account 구독자에게 전달
+ * - 구독자마다 크기가 정해진 버퍼를 두고 전송 스레드 풀이 비움 (커밋한 스레드는 네트워크 쓰기를 기다리지 않음)
+ * - 버퍼가 가득 찬 느린 구독자는 연결을 끊음 (재연결 후 GET /accounts/{id}/resources로 현재 값을 다시 읽음)
+ * - heartbeat 주석을 주기적으로 보내 끊긴 연결을 정리
+ *
+ * 이벤트는 이 노드에서 커밋된 변경만 전달된다.
+ */
+@Service
+public class AccountQuotaEventHub {
+
+	private static final Logger log = LoggerFactory.getLogger(AccountQuotaEventHub.class);
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Value("${account.events.buffer-size:256}")
+	int bufferSize;
+
+	@Value("${account.events.sender-threads:4}")
+	int senderThreads;
+
+	@Value("${account.events.timeout:PT30M}")
+	Duration timeout;
+
+	// accountId → 구독자
+	private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+
+	private final AtomicLong eventSequence = new AtomicLong();
+
+	private ExecutorService sender;
+
+	private Counter droppedCounter;
+
+	@PostConstruct
+	void start() {
+		sender = Executors.newFixedThreadPool(senderThreads, senderThreadFactory());
+		Gauge.builder("account.events.subscribers", subscriberCount, AtomicInteger::get)
+				.description("account 자원 변경 SSE 구독자 수")
+				.register(meterRegistry);
+		droppedCounter = Counter.builder("account.events.dropped")
+				.description("버퍼가 가득 차거나 전송에 실패해 끊은 구독자 수")
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		subscribers.values().forEach(accountSubscribers -> accountSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+		sender.shutdown();
+		sender.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * account 자원 변경 구독 (account 존재 여부는 호출자가 확인)
+	 */
+	public SseEmitter subscribe(Long accountId) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		Subscriber subscriber = new Subscriber(accountId, emitter, new ArrayBlockingQueue<>(bufferSize));
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+		// 추가/제거는 같은 키의 compute 안에서 수행 (비어서 제거되는 Set에 추가되는 경합 방지)
+		subscribers.compute(accountId, (key, accountSubscribers) -> {
+			Set<Subscriber> target = accountSubscribers == null ? ConcurrentHashMap.newKeySet() : accountSubscribers;
+			target.add(subscriber);
+			return target;
+		});
+		subscriberCount.incrementAndGet();
+		return emitter;
+	}
+
+	/**
+	 * account 자원 변경이 커밋된 뒤 해당 account 구독자의 버퍼에 넣음
+	 * 트랜잭션이 롤백되면 호출되지 않는다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountResourceChanged(AccountResourceChangedEvent event) {
+		if (event.quotaDelta() == 0 && event.availableDelta() == 0) {
+			// 사용량(used)만 바뀐 경우는 quota 이벤트가 아님
+			return;
+		}
+		Set<Subscriber> accountSubscribers = subscribers.get(event.accountId());
+		if (accountSubscribers == null || accountSubscribers.isEmpty()) {
+			return;
+		}
+		AccountResourceKey key = event.key();
+		AccountQuotaEventDto dto = new AccountQuotaEventDto(eventSequence.incrementAndGet(), key.accountId(),
+				key.type(), key.modelId(), key.unit(), Quantity.ofMilli(event.quotaDelta()), Quantity.ofMilli(event.availableDelta()),
+				LocalDateTime.now());
+		for (Subscriber subscriber : accountSubscribers) {
+			if (subscriber.buffer.offer(dto)) {
+				scheduleDrain(subscriber);
+			} else {
+				drop(subscriber, "버퍼 초과");
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${account.events.heartbeat-interval:PT15S}")
+	void heartbeat() {
+		for (Set<Subscriber> accountSubscribers : subscribers.values()) {
+			for (Subscriber subscriber : accountSubscribers) {
+				subscriber.heartbeatDue = true;
+				scheduleDrain(subscriber);
+			}
+		}
+	}
+
+	/**
+	 * 구독자당 전송 작업은 하나만 실행 (SseEmitter.send는 동시에 호출하면 안 됨)
+	 */
+	private void scheduleDrain(Subscriber subscriber) {
+		if (!subscriber.draining.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			sender.execute(() -> drain(subscriber));
+		} catch (RejectedExecutionException e) {
+			subscriber.draining.set(false);
+		}
+	}
+
+	private void drain(Subscriber subscriber) {
+		try {
+			AccountQuotaEventDto dto;
+			while ((dto = subscriber.buffer.poll()) != null) {
+				subscriber.emitter.send(SseEmitter.event()
+						.id(String.valueOf(dto.getEventId()))
+						.name("quota")
+						.data(dto, MediaType.APPLICATION_JSON));
+			}
+			if (subscriber.heartbeatDue) {
+				subscriber.heartbeatDue = false;
+				subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+			}
+		} catch (IOException | IllegalStateException e) {
+			drop(subscriber, e.getMessage());
+			return;
+		} finally {
+			subscriber.draining.set(false);
+		}
+		// 비우는 동안 들어온 이벤트가 있으면 다시 예약
+		if (!subscriber.buffer.isEmpty() || subscriber.heartbeatDue) {
+			scheduleDrain(subscriber);
+		}
+	}
+
+	private void drop(Subscriber subscriber, String reason) {
+		if (remove(subscriber)) {
+			droppedCounter.increment();
+			log.debug("account {} 구독 종료: {}", subscriber.accountId, reason);
+			subscriber.emitter.complete();
+		}
+	}
+
+	private boolean remove(Subscriber subscriber) {
+		AtomicBoolean removed = new AtomicBoolean();
+		subscribers.computeIfPresent(subscriber.accountId, (accountId, accountSubscribers) -> {
+			removed.set(accountSubscribers.remove(subscriber));
+			return accountSubscribers.isEmpty() ? null : accountSubscribers;
+		});
+		if (removed.get()) {
+			subscriberCount.decrementAndGet();
+		}
+		return removed.get();
+	}
+
+	private ThreadFactory senderThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+		return runnable -> {
+			Thread thread = defaultFactory.newThread(runnable);
+			thread.setName("account-event-sender-" + sequence.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static final class Subscriber {
+		private final Long accountId;
+		private final SseEmitter emitter;
+		private final Queue<AccountQuotaEventDto> buffer;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private volatile boolean heartbeatDue;
+
+		private Subscriber(Long accountId, SseEmitter emitter, Queue<AccountQuotaEventDto> buffer) {
+			this.accountId = accountId;
+			this.emitter = emitter;
+			this.buffer = buffer;
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.resourcemanagement.service;
+
+/**
+ * account Resource의 quota가 바뀌었음을 알리는 이벤트
+ * ResourceBridgeService가 트랜잭션 안에서 발행하며, 구독자는 커밋 이후(AFTER_COMMIT)에 처리한다.
+ *
+ * @param key 변경된 account 자원 키
+ * @param quotaDelta quota 변화량 (milli, 차감은 음수)
+ * @param availableDelta available 변화량 (milli, project 배정은 quota 변화 없이 available만 바뀜)
+ */
+public record AccountResourceChangedEvent(AccountResourceKey key, long quotaDelta, long availableDelta) {
+
+	/**
+	 * quota와 available이 같은 양만큼 바뀐 경우 (승인 누적, 만료 회수)
+	 */
+	public AccountResourceChangedEvent(AccountResourceKey key, long quotaDelta) {
+		this(key, quotaDelta, quotaDelta);
+	}
+
+	public Long accountId() {
+		return key.accountId();
+	}
+}
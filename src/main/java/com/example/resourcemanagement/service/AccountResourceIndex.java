@@ -0,0 +1,65 @@
+package com.example.resourcemanagement.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * (accountId, type, modelId, unit) → account Resource ID 프로세스 내 캐시
+ *
+ * 키와 Resource ID의 매핑은 생성 후 바뀌지 않으므로 커밋된 매핑만 캐시하면 된다.
+ * - 등록은 트랜잭션 커밋 이후에만 반영 (롤백된 INSERT는 캐시에 남지 않음)
+ * - 캐시된 ID의 Resource가 없으면 호출자가 evict 후 DB 인덱스로 다시 조회
+ * - 상한(resource.account-index.max-size)을 넘으면 자주 쓰이지 않는 항목부터 밀려남
+ */
+@Component
+public class AccountResourceIndex {
+
+	@Value("${resource.account-index.cache-enabled:true}")
+	private boolean enabled;
+
+	@Value("${resource.account-index.max-size:100000}")
+	private long maxSize;
+
+	private Cache<AccountResourceKey, Long> resourceIds;
+
+	@PostConstruct
+	void init() {
+		resourceIds = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.build();
+	}
+
+	public Long get(AccountResourceKey key) {
+		return enabled ? resourceIds.getIfPresent(key) : null;
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤에 매핑을 등록
+	 */
+	public void putAfterCommit(AccountResourceKey key, Long resourceId) {
+		if (!enabled) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			resourceIds.put(key, resourceId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				resourceIds.put(key, resourceId);
+			}
+		});
+	}
+
+	public void evict(AccountResourceKey key) {
+		resourceIds.invalidate(key);
+	}
+}
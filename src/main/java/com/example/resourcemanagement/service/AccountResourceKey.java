@@ -0,0 +1,45 @@
+package com.example.resourcemanagement.service;
+
+import java.util.Comparator;
+
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+
+/**
+ * Account 자원을 식별하는 키 (accountId, type, modelId, unit)
+ * resource_bridge.resource_key 컬럼에는 toColumnValue() 형태로 저장된다.
+ */
+public record AccountResourceKey(Long accountId, ResourceType type, String modelId, String unit) {
+
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * account Resource 행을 잠그는 순서
+	 * 여러 키를 한 트랜잭션에서 갱신할 때 이 순서를 지키면 트랜잭션끼리 교착되지 않는다.
+	 */
+	public static final Comparator<AccountResourceKey> LOCK_ORDER =
+		Comparator.comparing(AccountResourceKey::accountId).thenComparing(AccountResourceKey::toColumnValue);
+
+	public static AccountResourceKey of(Long accountId, Resource resource) {
+		return new AccountResourceKey(accountId, resource.getType(), resource.getModelId(), resource.getUnit());
+	}
+
+	/**
+	 * "type|modelId|unit" (null은 빈 문자열)
+	 * DB 마이그레이션(V3)의 CONCAT 식과 동일한 형식이어야 한다.
+	 */
+	public String toColumnValue() {
+		return columnValue(type, modelId, unit);
+	}
+
+	/**
+	 * account가 아닌 엔티티(node 등)의 bridge resource_key도 같은 형식을 쓴다.
+	 */
+	public static String columnValue(ResourceType type, String modelId, String unit) {
+		return type.name() + SEPARATOR + nullToEmpty(modelId) + SEPARATOR + nullToEmpty(unit);
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+}
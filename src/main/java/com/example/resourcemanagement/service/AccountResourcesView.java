@@ -0,0 +1,16 @@
+package com.example.resourcemanagement.service;
+
+import java.util.List;
+
+import com.example.resourcemanagement.dto.AccountResourceDto;
+
+/**
+ * 캐시된 account 자원 현황
+ * etag는 resources 내용의 해시로, 같은 캐시 항목에서 읽으므로 내용과 항상 짝이 맞고
+ * 캐시가 다시 만들어지거나 다른 노드에서 읽어도 내용이 같으면 같은 값이다.
+ *
+ * @param etag 강한 ETag (따옴표 포함)
+ * @param resources (type, modelId, unit)별 현황
+ */
+public record AccountResourcesView(String etag, List<AccountResourceDto> resources) {
+}
@@ -1,19 +1,34 @@
 package com.example.resourcemanagement.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.example.resourcemanagement.dto.AccountResourceDto;
 import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceRequest;
 import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
 import com.example.resourcemanagement.repository.ResourceRepository;
 import com.example.resourcemanagement.repository.ResourceRequestRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 
 @Service
@@ -29,10 +44,85 @@ public class AccountService {
 	@Autowired
 	ResourceRequestRepository resourceRequestRepository; 
 	
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+	
+	@Value("${account.resources-cache.max-size:10000}")
+	long resourcesCacheMaxSize;
+	
+	@Value("${account.resources-cache.ttl:PT30S}")
+	Duration resourcesCacheTtl;
+	
+	// accountId → 자원 현황 (AccountResourceChangedEvent 커밋 후 무효화)
+	// 무효화는 이 프로세스 안에서만 일어나므로, 다른 노드에서 커밋된 변경은 최대 ttl 동안 보이지 않는다.
+	// (그 동안 이 노드는 이전 내용과 304를 반환함, 허용할 수 있는 지연에 맞춰 ttl을 짧게 유지)
+	private Cache<Long, AccountResourcesView> accountResources;
+	
+	@PostConstruct
+	void initCache() {
+		accountResources = Caffeine.newBuilder()
+			.maximumSize(resourcesCacheMaxSize)
+			.expireAfterWrite(resourcesCacheTtl)
+			.build();
+	}
+	
 	@Transactional
 	public Optional<Account> findAccount(Account account){
 		
 	     return accountRepository.findById(account.getId());	
 	}
+	
+	/**
+	 * account의 (type, modelId, unit)별 자원 현황과 ETag
+	 * 캐시에 있으면 DB 조회 없음
+	 * 
+	 * @return account가 없으면 empty
+	 */
+	public Optional<AccountResourcesView> findAccountResources(Long accountId) {
+		return Optional.ofNullable(accountResources.get(accountId, this::loadAccountResources));
+	}
+	
+	private AccountResourcesView loadAccountResources(Long accountId) {
+		if (!accountRepository.existsById(accountId)) {
+			// 없는 account는 캐시하지 않음
+			return null;
+		}
+		List<AccountResourceDto> resources = List.copyOf(resourceBridgeRepository.findAccountResources(accountId));
+		return new AccountResourcesView(etagOf(resources), resources);
+	}
+	
+	/**
+	 * 현황 내용으로 만든 강한 ETag
+	 * 같은 내용이면 노드/재시작/캐시 무효화와 관계없이 같은 값이라 다른 노드로 가도 304가 유지되고,
+	 * 내용이 하나라도 바뀌면 다른 값이 된다. (조회는 type, modelId, unit 순으로 정렬됨)
+	 */
+	static String etagOf(List<AccountResourceDto> resources) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		for (AccountResourceDto r : resources) {
+			String line = r.getType() + "|" + r.getModelId() + "|" + r.getUnit()
+					+ "|" + Quantity.milliOf(r.getQuota())
+					+ "|" + Quantity.milliOf(r.getAllocated())
+					+ "|" + Quantity.milliOf(r.getAvailable())
+					+ "|" + Quantity.milliOf(r.getUsed()) + "\n";
+			digest.update(line.getBytes(StandardCharsets.UTF_8));
+		}
+		// 128비트면 충돌 걱정 없이 헤더를 짧게 유지
+		return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), 16)) + "\"";
+	}
+	
+	/**
+	 * account 자원이 바뀐 트랜잭션이 커밋된 뒤 해당 account만 무효화
+	 * 무효화는 같은 키의 진행 중인 로드가 끝나기를 기다린 뒤 지우므로, 커밋 전에 읽은 값이 남지 않는다.
+	 * 다음 조회는 DB에서 다시 만들어지며, 내용이 바뀌었을 때만 ETag가 달라진다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountResourceChanged(AccountResourceChangedEvent event) {
+		accountResources.invalidate(event.accountId());
+	}
 
 }
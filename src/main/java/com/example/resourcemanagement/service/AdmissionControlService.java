@@ -0,0 +1,399 @@
+package com.example.resourcemanagement.service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.resourcemanagement.dto.AccountTypeQuotaDto;
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.ApprovalStatus;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceBridge;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.exception.AdmissionRejectedException;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * account의 타입별 승인 quota 한도를 쓰기 전에 메모리에서 확인
+ * ResourceRequestService(생성)와 ResourceAllocationService(승인)가 호출하므로 단건/일괄/비동기/NDJSON 등록 모두 같은 확인을 거친다.
+ *
+ * - 한도는 admission.limit.{type} (account마다 같은 값, 소수 가능, 설정이 없는 타입은 제한 없음, 하나도 없으면 비활성)
+ * - 수량은 모두 milli 값(Quantity.milli())으로 더하고 비교
+ * - account마다 타입별 승인 quota(approved)와 진행 중인 승인(inFlight)을 long 배열로 유지
+ * - 요청 quota는 생성 시 기록해 두고, 기록이 없으면(다른 노드에서 생성, 캐시에서 밀려남, 재시작) request 라인을 읽어 확인
+ * - approved는 AccountResourceChangedEvent(커밋 이후)로 갱신하므로 일괄/비동기 승인과 만료 회수도 반영됨
+ * - 다른 노드의 변경은 이벤트가 오지 않으므로 주기적으로 resource 테이블에서 다시 읽음 (AdmissionResyncScheduler)
+ *
+ * 확인은 생성/승인 트랜잭션을 열기 전에 한다. (기록이 없는 요청만 request와 라인을 트랜잭션 없이 읽음)
+ *
+ * 메모리 카운터는 빠른 거절용이며, 노드 간 재동기화 주기 안에서는 한도를 조금 넘는 승인이 통과할 수 있다.
+ */
+@Service
+public class AdmissionControlService {
+
+	private static final ResourceType[] TYPES = ResourceType.values();
+
+	// 승인할 수 없는 요청의 기록 (확인할 quota 없음)
+	private static final Demand NOT_ADMITTABLE = new Demand(null, new long[TYPES.length]);
+
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+
+	@Autowired
+	ResourceRequestRepository resourceRequestRepository;
+
+	@Autowired
+	Environment environment;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Value("${admission.request-cache.max-size:100000}")
+	long requestCacheMaxSize;
+
+	// 타입별 한도 (milli)
+	private final EnumMap<ResourceType, Long> limits = new EnumMap<>(ResourceType.class);
+
+	// 타입 ordinal → 한도 (milli), 제한 없는 타입은 -1
+	private final long[] limitsByType = new long[TYPES.length];
+
+	private final EnumMap<ResourceType, Counter> rejected = new EnumMap<>(ResourceType.class);
+
+	// accountId → 타입별 카운터
+	private final Map<Long, AccountCounters> counters = new ConcurrentHashMap<>();
+
+	// requestId → 요청 quota (생성 시 기록, 승인 확인에 사용)
+	private Cache<Long, Demand> requestDemands;
+
+	private volatile boolean loaded;
+
+	@PostConstruct
+	void init() {
+		for (ResourceType type : TYPES) {
+			String limit = environment.getProperty("admission.limit." + type.name());
+			limitsByType[type.ordinal()] = -1;
+			if (limit != null) {
+				limits.put(type, Quantity.parse(limit).milli());
+				limitsByType[type.ordinal()] = limits.get(type);
+			}
+			rejected.put(type, Counter.builder("admission.rejected")
+					.tag("type", type.name())
+					.description("한도 초과로 트랜잭션 전에 거절한 요청 수")
+					.register(meterRegistry));
+		}
+		requestDemands = Caffeine.newBuilder()
+				.maximumSize(requestCacheMaxSize)
+				.build();
+	}
+
+	public boolean isEnabled() {
+		return !limits.isEmpty();
+	}
+
+	/**
+	 * 자원요청 생성 전 확인: 이미 승인된 quota + 진행 중인 승인 + 요청 quota가 한도를 넘으면 거절
+	 *
+	 * @throws AdmissionRejectedException 한도를 넘는 타입이 있을 때
+	 */
+	public void checkCreate(ResourceRequestDto dto) {
+		if (!isEnabled() || dto.getResources() == null) {
+			return;
+		}
+		long[] requested = new long[TYPES.length];
+		for (Resource resource : dto.getResources()) {
+			if (resource.getType() != null) {
+				requested[resource.getType().ordinal()] += Quantity.milliOf(resource.getQuota());
+			}
+		}
+		AccountCounters account = countersOf(dto.getAccountId());
+		for (Map.Entry<ResourceType, Long> limit : limits.entrySet()) {
+			int type = limit.getKey().ordinal();
+			long committed = account.committed(type);
+			if (requested[type] > 0 && committed + requested[type] > limit.getValue()) {
+				throw reject(dto.getAccountId(), limit.getKey(), requested[type], committed, limit.getValue());
+			}
+		}
+	}
+
+	/**
+	 * 생성된 요청의 quota를 기록 (커밋된 뒤), 승인 시 DB를 읽지 않고 확인하기 위해 사용
+	 */
+	public void rememberRequests(Long accountId, List<Long> requestIds, List<Resource> resources) {
+		if (!isEnabled()) {
+			return;
+		}
+		Map<Long, Demand> demands = new HashMap<>(requestIds.size());
+		for (int i = 0; i < requestIds.size(); i++) {
+			Resource resource = resources.get(i);
+			long[] quotas = new long[TYPES.length];
+			quotas[resource.getType().ordinal()] = Quantity.milliOf(resource.getQuota());
+			demands.put(requestIds.get(i), new Demand(accountId, quotas));
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			requestDemands.putAll(demands);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				requestDemands.putAll(demands);
+			}
+		});
+	}
+
+	/**
+	 * 기록이 없는 요청의 quota를 request 라인에서 한 번에 읽어 채움 (일괄 승인에서 요청마다 조회하지 않도록)
+	 * 트랜잭션 없이 읽으며, 승인할 수 없는 요청(없음, 이미 승인, 전이 불가)은 확인할 quota가 없는 것으로 기록한다.
+	 */
+	public void loadDemands(Collection<Long> requestIds) {
+		if (!isEnabled()) {
+			return;
+		}
+		List<Long> missing = requestIds.stream()
+				.filter(requestId -> requestDemands.getIfPresent(requestId) == null)
+				.toList();
+		if (!missing.isEmpty()) {
+			requestDemands.putAll(readDemands(missing));
+		}
+	}
+
+	/**
+	 * 승인 전 확인 (JPA, 승인 트랜잭션을 열기 전에 호출)
+	 * 통과하면 요청 quota를 inFlight로 잡아 두고, 반환한 Ticket을 닫을 때 놓음
+	 * 기록이 없는 요청은 request와 라인을 읽어 확인한다.
+	 *
+	 * @throws AdmissionRejectedException 한도를 넘을 때
+	 */
+	public Ticket admitApproval(Long requestId) {
+		if (!isEnabled()) {
+			return Ticket.NONE;
+		}
+		Demand demand = requestDemands.asMap().remove(requestId);
+		if (demand == null) {
+			demand = readDemands(List.of(requestId)).get(requestId);
+		}
+		return admit(requestId, demand);
+	}
+
+	/**
+	 * 승인 전 확인 (reactive): 기록이 없으면 호출자가 이미 읽은 request 라인의 타입별 quota(milli)로 확인
+	 *
+	 * @throws AdmissionRejectedException 한도를 넘을 때
+	 */
+	public Ticket admitApproval(Long requestId, Long accountId, Map<ResourceType, Long> lineQuotas) {
+		if (!isEnabled()) {
+			return Ticket.NONE;
+		}
+		Demand demand = requestDemands.asMap().remove(requestId);
+		if (demand == null) {
+			long[] quotas = new long[TYPES.length];
+			lineQuotas.forEach((type, quota) -> quotas[type.ordinal()] += quota);
+			demand = new Demand(accountId, quotas);
+		}
+		return admit(requestId, demand);
+	}
+
+	/**
+	 * 꺼낸 요청 기록으로 확인 (승인된 요청의 재시도가 quota를 다시 세지 않도록 꺼내 두고, 실패하면 Ticket이 되돌림)
+	 */
+	private Ticket admit(Long requestId, Demand demand) {
+		if (demand == null || demand == NOT_ADMITTABLE) {
+			// request 라인이 없거나 승인할 수 없는 요청 (승인 경로가 not_found/already_approved/invalid_state로 처리)
+			return Ticket.NONE;
+		}
+		AccountCounters account = countersOf(demand.accountId());
+		int rejectedType = account.tryReserve(demand.quotas(), limitsByType);
+		if (rejectedType >= 0) {
+			requestDemands.put(requestId, demand);
+			ResourceType type = TYPES[rejectedType];
+			throw reject(demand.accountId(), type, demand.quotas()[rejectedType], account.committed(rejectedType), limits.get(type));
+		}
+		return new Ticket(this, requestId, demand, account);
+	}
+
+	/**
+	 * request를 읽어 승인할 수 있는 요청만 라인 quota를 읽음, 나머지는 NOT_ADMITTABLE
+	 */
+	private Map<Long, Demand> readDemands(Collection<Long> requestIds) {
+		Map<Long, Long> accountIdsByRequest = new HashMap<>();
+		for (ResourceRequest request : resourceRequestRepository.findAllById(requestIds)) {
+			if (request.getApprovalStatus().canTransitionTo(ApprovalStatus.approved)) {
+				accountIdsByRequest.put(request.getId(), request.getAccount().getId());
+			}
+		}
+		Map<Long, Demand> demands = accountIdsByRequest.isEmpty() ? new HashMap<>() : loadDemands(accountIdsByRequest);
+		for (Long requestId : requestIds) {
+			demands.putIfAbsent(requestId, NOT_ADMITTABLE);
+		}
+		return demands;
+	}
+
+	/**
+	 * request 라인을 읽어 요청별 타입 quota 합을 만듦 (requestId → accountId)
+	 */
+	private Map<Long, Demand> loadDemands(Map<Long, Long> accountIdsByRequest) {
+		Map<Long, Demand> demands = new HashMap<>(accountIdsByRequest.size());
+		for (ResourceBridge line : resourceBridgeRepository.findWithResourceByEntityAndEntityIdIn("request", accountIdsByRequest.keySet())) {
+			Long requestId = line.getEntityId();
+			Resource resource = line.getResource();
+			demands.computeIfAbsent(requestId, id -> new Demand(accountIdsByRequest.get(id), new long[TYPES.length]))
+					.quotas()[resource.getType().ordinal()] += resource.getQuota().milli();
+		}
+		return demands;
+	}
+
+	/**
+	 * 커밋된 account 자원 변경을 반영 (승인 누적, 만료 회수)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountResourceChanged(AccountResourceChangedEvent event) {
+		if (!isEnabled() || !loaded || event.quotaDelta() == 0) {
+			return;
+		}
+		counters.computeIfAbsent(event.accountId(), accountId -> new AccountCounters())
+				.add(event.key().type().ordinal(), event.quotaDelta());
+	}
+
+	/**
+	 * resource 테이블의 account 자원 합으로 approved를 다시 맞춤 (다른 노드의 변경 반영)
+	 */
+	public void resync() {
+		if (!isEnabled()) {
+			return;
+		}
+		Map<Long, long[]> approved = new HashMap<>();
+		for (AccountTypeQuotaDto row : resourceBridgeRepository.findAccountTypeQuotas()) {
+			approved.computeIfAbsent(row.getAccountId(), accountId -> new long[TYPES.length])[row.getType().ordinal()] += row.getQuota().milli();
+		}
+		counters.forEach((accountId, account) -> account.reset(approved.getOrDefault(accountId, new long[TYPES.length])));
+		approved.forEach((accountId, values) -> counters.computeIfAbsent(accountId, id -> new AccountCounters()).reset(values));
+		loaded = true;
+	}
+
+	private AccountCounters countersOf(Long accountId) {
+		if (!loaded) {
+			synchronized (this) {
+				if (!loaded) {
+					resync();
+				}
+			}
+		}
+		return counters.computeIfAbsent(accountId, id -> new AccountCounters());
+	}
+
+	private AdmissionRejectedException reject(Long accountId, ResourceType type, long requested, long committed, long limit) {
+		rejected.get(type).increment();
+		return new AdmissionRejectedException(accountId, type, Quantity.ofMilli(requested), Quantity.ofMilli(committed),
+				Quantity.ofMilli(limit));
+	}
+
+	/**
+	 * 요청 하나의 타입별 quota (타입 ordinal 인덱스, milli)
+	 */
+	private record Demand(Long accountId, long[] quotas) {
+	}
+
+	/**
+	 * account의 타입별 카운터 (타입 ordinal 인덱스)
+	 */
+	private static final class AccountCounters {
+		private final long[] approved = new long[TYPES.length];
+		private final long[] inFlight = new long[TYPES.length];
+
+		synchronized long committed(int type) {
+			return approved[type] + inFlight[type];
+		}
+
+		/**
+		 * 한도가 있는 타입을 모두 확인한 뒤 한꺼번에 예약
+		 *
+		 * @return 예약했으면 -1, 한도를 넘으면 그 타입 ordinal
+		 */
+		synchronized int tryReserve(long[] quotas, long[] limits) {
+			for (int type = 0; type < quotas.length; type++) {
+				if (quotas[type] > 0 && limits[type] >= 0 && approved[type] + inFlight[type] + quotas[type] > limits[type]) {
+					return type;
+				}
+			}
+			for (int type = 0; type < quotas.length; type++) {
+				inFlight[type] += quotas[type];
+			}
+			return -1;
+		}
+
+		synchronized void release(long[] quotas) {
+			for (int type = 0; type < quotas.length; type++) {
+				inFlight[type] -= quotas[type];
+			}
+		}
+
+		synchronized void add(int type, long delta) {
+			approved[type] += delta;
+		}
+
+		synchronized void reset(long[] values) {
+			System.arraycopy(values, 0, approved, 0, approved.length);
+		}
+	}
+
+	/**
+	 * 승인 한 건의 입장권 (승인 트랜잭션 전에 받아 try-with-resources로 사용)
+	 * 승인 트랜잭션이 커밋되면 approved()를 호출한다. (그사이 이미 승인되었거나 승인할 수 없게 된 요청도 기록을 버림)
+	 * 호출하지 않고 닫으면 요청 기록을 되돌려 다음 승인 시도에서 다시 확인한다.
+	 */
+	public static final class Ticket implements AutoCloseable {
+
+		static final Ticket NONE = new Ticket(null, null, null, null);
+
+		private final AdmissionControlService owner;
+		private final Long requestId;
+		private final Demand demand;
+		private final AccountCounters account;
+		private boolean approved;
+
+		private Ticket(AdmissionControlService owner, Long requestId, Demand demand, AccountCounters account) {
+			this.owner = owner;
+			this.requestId = requestId;
+			this.demand = demand;
+			this.account = account;
+		}
+
+		public void approved() {
+			approved = true;
+		}
+
+		@Override
+		public void close() {
+			if (demand == null) {
+				return;
+			}
+			if (account != null) {
+				account.release(demand.quotas());
+			}
+			if (!approved) {
+				owner.requestDemands.put(requestId, demand);
+			}
+		}
+	}
+}
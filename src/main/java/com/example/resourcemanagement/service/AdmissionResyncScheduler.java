@@ -0,0 +1,31 @@
+package com.example.resourcemanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한도 카운터를 resource 테이블 값으로 주기적으로 다시 맞춤 (다른 노드에서 커밋된 변경 반영)
+ * admission.resync.enabled=false이면 등록되지 않음 (테스트 프로필)
+ */
+@Component
+@ConditionalOnProperty(name = "admission.resync.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionResyncScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(AdmissionResyncScheduler.class);
+
+	@Autowired
+	AdmissionControlService admissionControlService;
+
+	@Scheduled(fixedDelayString = "${admission.resync.interval:PT5M}", initialDelayString = "${admission.resync.interval:PT5M}")
+	void resync() {
+		try {
+			admissionControlService.resync();
+		} catch (RuntimeException e) {
+			log.error("한도 카운터 재동기화 실패", e);
+		}
+	}
+}
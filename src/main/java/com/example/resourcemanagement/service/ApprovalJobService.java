@@ -0,0 +1,190 @@
+package com.example.resourcemanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.resourcemanagement.dto.ApprovalJobDto;
+import com.example.resourcemanagement.dto.ApprovalResultDto;
+import com.example.resourcemanagement.exception.ApprovalQueueFullException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 비동기 승인 파이프라인
+ * 승인 작업을 제한된 크기의 큐에 넣고 워커 풀이 처리한다.
+ * Tomcat 요청 스레드는 DB 커넥션을 잡지 않고 바로 반환되며, 동시에 커넥션을 쓰는 승인은 워커 수로 제한된다.
+ * 큐가 가득 차면 ApprovalQueueFullException (HTTP 429)으로 거절한다.
+ */
+@Service
+public class ApprovalJobService {
+
+	private static final Logger log = LoggerFactory.getLogger(ApprovalJobService.class);
+
+	@Autowired
+	ResourceAllocationService resourceAllocationService;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Value("${approval.async.workers:4}")
+	int workers;
+
+	@Value("${approval.async.queue-capacity:1000}")
+	int queueCapacity;
+
+	@Value("${approval.async.virtual-threads:false}")
+	boolean virtualThreads;
+
+	@Value("${approval.async.job-retention:PT1H}")
+	Duration jobRetention;
+
+	@Value("${approval.bulk.chunk-size:500}")
+	int chunkSize;
+
+	private final Map<String, ApprovalJob> jobs = new ConcurrentHashMap<>();
+
+	private ThreadPoolExecutor executor;
+
+	private Counter rejectedCounter;
+
+	@PostConstruct
+	void start() {
+		executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), workerThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+		Gauge.builder("approval.queue.depth", executor, e -> e.getQueue().size())
+				.description("대기 중인 비동기 승인 작업 수")
+				.register(meterRegistry);
+		Gauge.builder("approval.queue.active", executor, ThreadPoolExecutor::getActiveCount)
+				.description("처리 중인 비동기 승인 작업 수")
+				.register(meterRegistry);
+		rejectedCounter = Counter.builder("approval.queue.rejected")
+				.description("큐가 가득 차 거절된 승인 작업 수")
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * 승인 작업을 큐에 등록
+	 *
+	 * @param requestIds 승인할 ResourceRequest ID 목록
+	 * @return 작업 ID
+	 */
+	public String submit(List<Long> requestIds) {
+		purgeFinishedJobs();
+		ApprovalJob job = new ApprovalJob(UUID.randomUUID().toString(), List.copyOf(requestIds));
+		jobs.put(job.id, job);
+		try {
+			executor.execute(() -> run(job));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(job.id);
+			rejectedCounter.increment();
+			throw new ApprovalQueueFullException("승인 큐가 가득 찼습니다. 잠시 후 다시 시도하세요.", e);
+		}
+		return job.id;
+	}
+
+	public Optional<ApprovalJobDto> findJob(String jobId) {
+		return Optional.ofNullable(jobs.get(jobId)).map(ApprovalJob::toDto);
+	}
+
+	private void run(ApprovalJob job) {
+		job.status = "running";
+		try {
+			// chunk 단위로 처리해 진행률을 갱신 (chunk마다 별도 트랜잭션)
+			for (int from = 0; from < job.requestIds.size(); from += chunkSize) {
+				List<Long> chunk = job.requestIds.subList(from, Math.min(from + chunkSize, job.requestIds.size()));
+				List<ApprovalResultDto> chunkResults = resourceAllocationService.approveResourceRequests(chunk);
+				synchronized (job) {
+					job.results.addAll(chunkResults);
+				}
+				job.processed.addAndGet(chunk.size());
+			}
+			job.status = "completed";
+		} catch (RuntimeException e) {
+			log.error("승인 작업 실패: {}", job.id, e);
+			job.status = "failed";
+		} finally {
+			job.completedAt = LocalDateTime.now();
+		}
+	}
+
+	private void purgeFinishedJobs() {
+		LocalDateTime threshold = LocalDateTime.now().minus(jobRetention);
+		jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(threshold));
+	}
+
+	/**
+	 * JDK 21 이상에서 approval.async.virtual-threads=true이면 가상 스레드 사용
+	 * 빌드 대상이 17이므로 Thread.ofVirtual()은 리플렉션으로 호출
+	 */
+	private ThreadFactory workerThreadFactory() {
+		if (virtualThreads && Runtime.version().feature() >= 21) {
+			try {
+				Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+				Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+				builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "approval-worker-", 0L);
+				return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			} catch (ReflectiveOperationException e) {
+				log.warn("가상 스레드를 사용할 수 없어 플랫폼 스레드로 대체합니다.", e);
+			}
+		}
+		AtomicInteger sequence = new AtomicInteger();
+		ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+		return runnable -> {
+			Thread thread = defaultFactory.newThread(runnable);
+			thread.setName("approval-worker-" + sequence.getAndIncrement());
+			return thread;
+		};
+	}
+
+	private static final class ApprovalJob {
+		private final String id;
+		private final List<Long> requestIds;
+		private final LocalDateTime submittedAt = LocalDateTime.now();
+		private final List<ApprovalResultDto> results = new ArrayList<>();
+		private final AtomicInteger processed = new AtomicInteger();
+		private volatile String status = "queued";
+		private volatile LocalDateTime completedAt;
+
+		private ApprovalJob(String id, List<Long> requestIds) {
+			this.id = id;
+			this.requestIds = requestIds;
+		}
+
+		private ApprovalJobDto toDto() {
+			List<ApprovalResultDto> snapshot;
+			synchronized (this) {
+				snapshot = new ArrayList<>(results);
+			}
+			return new ApprovalJobDto(id, status, requestIds.size(), processed.get(), submittedAt, completedAt, snapshot);
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package com.example.resourcemanagement.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.resourcemanagement.dto.AccountResourceDto;
+import com.example.resourcemanagement.dto.CapacityDriftDto;
+import com.example.resourcemanagement.dto.CapacityDto;
+import com.example.resourcemanagement.dto.CapacityReconcileResultDto;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.repository.CapacityAggregateRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 전체 account 자원 합계 (CapacityKey별 quota/allocated/available) 유지와 재계산
+ *
+ * - account Resource를 바꾸는 트랜잭션이 add로 변화량을 남기면, 커밋 직전(beforeCommit)에 같은 트랜잭션에서 합계에 더함
+ *   (롤백되면 반영되지 않으므로 합계와 account 자원이 어긋나지 않음)
+ * - 트랜잭션 하나의 변화량은 키별로 모아 LOCK_ORDER 순서로 UPDATE 1회씩, 커밋 직전이라 합계 행 잠금은 짧게 유지
+ * - 키마다 slot 행을 여러 개 두고 트랜잭션마다 임의의 slot에 더해 동시 승인이 한 행에서 줄 서지 않게 함
+ * - 조회는 slot 행 합산 (account 수와 무관)
+ * - reconcile은 account 자원을 스트리밍으로 다시 합산해 차이를 보고하고, 설정 시 보정 delta를 더함
+ */
+@Service
+public class CapacityAggregateService {
+
+	private static final Logger log = LoggerFactory.getLogger(CapacityAggregateService.class);
+
+	@Autowired
+	CapacityAggregateRepository capacityAggregateRepository;
+
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Value("${capacity.aggregate.slots:16}")
+	int slots;
+
+	@Value("${capacity.reconcile.repair:false}")
+	boolean repair;
+
+	// 마지막 재계산에서 차이가 난 키 수
+	private final AtomicInteger driftKeys = new AtomicInteger();
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder("capacity.aggregate.drift.keys", driftKeys, AtomicInteger::get)
+				.description("마지막 재계산에서 합계와 account 자원 합산이 다른 키 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * account 자원 변화량을 현재 트랜잭션의 합계 변경에 추가 (트랜잭션이 없으면 바로 반영)
+	 *
+	 * @param key 변경된 account 자원 키
+	 * @param quotaDelta quota 변화량 (milli)
+	 * @param availableDelta available 변화량 (milli, allocated 변화량은 quotaDelta - availableDelta)
+	 */
+	public void add(AccountResourceKey key, long quotaDelta, long availableDelta) {
+		if (quotaDelta == 0 && availableDelta == 0) {
+			return;
+		}
+		CapacityKey capacityKey = CapacityKey.of(key);
+		long[] delta = { quotaDelta, quotaDelta - availableDelta, availableDelta };
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			Map<CapacityKey, long[]> single = Map.of(capacityKey, delta);
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> apply(single, randomSlot()));
+			return;
+		}
+		pendingDeltas().merge(capacityKey, delta, CapacityAggregateService::sum);
+	}
+
+	/**
+	 * 키별 전체 합계
+	 */
+	public List<CapacityDto> findCapacity() {
+		List<CapacityDto> totals = capacityAggregateRepository.findTotals();
+		for (CapacityDto total : totals) {
+			if (total.getModelId() != null && total.getModelId().isEmpty()) {
+				total.setModelId(null);
+			}
+		}
+		return totals;
+	}
+
+	/**
+	 * 합계 테이블과 account 자원 재합산을 비교
+	 *
+	 * 두 값은 같은 트랜잭션에서 갱신되므로 REPEATABLE READ 스냅샷 하나에서 읽으면 동시 승인 중에도 일치해야 하며,
+	 * 차이는 합계를 거치지 않은 변경(직접 SQL 수정 등)을 뜻한다.
+	 * 보정은 스냅샷 시점의 차이를 delta로 더하므로 그 사이 커밋된 변경과 겹쳐도 덮어쓰지 않는다.
+	 */
+	public CapacityReconcileResultDto reconcile() {
+		TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+		snapshot.setReadOnly(true);
+		snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+		Map<CapacityKey, long[]> aggregated = new HashMap<>();
+		Map<CapacityKey, long[]> recomputed = new HashMap<>();
+		long scanned = snapshot.execute(status -> {
+			for (CapacityDto total : capacityAggregateRepository.findTotals()) {
+				aggregated.put(new CapacityKey(total.getType(), total.getModelId(), total.getUnit()),
+						new long[] { total.getQuota().milli(), total.getAllocated().milli(), total.getAvailable().milli() });
+			}
+			long count = 0;
+			try (Stream<AccountResourceDto> resources = resourceBridgeRepository.streamAllAccountResources()) {
+				for (AccountResourceDto resource : (Iterable<AccountResourceDto>) resources::iterator) {
+					recomputed.merge(CapacityKey.of(resource.getType(), resource.getModelId(), resource.getUnit()),
+							new long[] { resource.getQuota().milli(), resource.getAllocated().milli(), resource.getAvailable().milli() },
+							CapacityAggregateService::sum);
+					count++;
+				}
+			}
+			return count;
+		});
+
+		// 합계 - 재계산 값
+		Map<CapacityKey, long[]> drifts = new TreeMap<>(CapacityKey.LOCK_ORDER);
+		aggregated.forEach((key, values) -> drifts.merge(key, values.clone(), CapacityAggregateService::sum));
+		recomputed.forEach((key, values) -> drifts.merge(key, negate(values), CapacityAggregateService::sum));
+		drifts.values().removeIf(values -> values[0] == 0 && values[1] == 0 && values[2] == 0);
+
+		driftKeys.set(drifts.size());
+		List<CapacityDriftDto> result = new ArrayList<>(drifts.size());
+		drifts.forEach((key, values) -> {
+			CapacityDriftDto drift = new CapacityDriftDto(key.type(), key.modelKey().isEmpty() ? null : key.modelKey(), key.unit(),
+					Quantity.ofMilli(values[0]), Quantity.ofMilli(values[1]), Quantity.ofMilli(values[2]));
+			log.warn("capacity 합계 차이 {}: quota {}, allocated {}, available {}", key,
+					drift.getQuotaDrift(), drift.getAllocatedDrift(), drift.getAvailableDrift());
+			result.add(drift);
+		});
+
+		boolean repaired = false;
+		if (repair && !drifts.isEmpty()) {
+			Map<CapacityKey, long[]> corrections = new TreeMap<>(CapacityKey.LOCK_ORDER);
+			drifts.forEach((key, values) -> corrections.put(key, negate(values)));
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> apply(corrections, 0));
+			repaired = true;
+			log.warn("capacity 합계 {}개 키 보정", corrections.size());
+		}
+		return new CapacityReconcileResultDto(scanned, result, repaired);
+	}
+
+	/**
+	 * 현재 트랜잭션에 등록된 변화량 (없으면 등록)
+	 * 동기화 객체에 보관하므로 REQUIRES_NEW로 중단된 바깥 트랜잭션의 변화량과 섞이지 않는다.
+	 */
+	private Map<CapacityKey, long[]> pendingDeltas() {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof PendingDeltas pending && pending.owner == this) {
+				return pending.deltas;
+			}
+		}
+		PendingDeltas pending = new PendingDeltas(this);
+		TransactionSynchronizationManager.registerSynchronization(pending);
+		return pending.deltas;
+	}
+
+	private void apply(Map<CapacityKey, long[]> deltas, int slot) {
+		deltas.forEach((key, values) -> capacityAggregateRepository.addDelta(key.type().name(), key.modelKey(), key.unit(),
+				slot, values[0], values[1], values[2]));
+	}
+
+	/**
+	 * 트랜잭션마다 slot 하나 (합계 행 [0, slots) 중 임의)
+	 */
+	public int randomSlot() {
+		return ThreadLocalRandom.current().nextInt(Math.max(slots, 1));
+	}
+
+	private static long[] sum(long[] a, long[] b) {
+		return new long[] { a[0] + b[0], a[1] + b[1], a[2] + b[2] };
+	}
+
+	private static long[] negate(long[] values) {
+		return new long[] { -values[0], -values[1], -values[2] };
+	}
+
+	private static final class PendingDeltas implements TransactionSynchronization {
+		private final CapacityAggregateService owner;
+		// 키 순서대로 갱신 (합계 행끼리 교착 방지)
+		private final Map<CapacityKey, long[]> deltas = new TreeMap<>(CapacityKey.LOCK_ORDER);
+
+		private PendingDeltas(CapacityAggregateService owner) {
+			this.owner = owner;
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			owner.apply(deltas, owner.randomSlot());
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.resourcemanagement.service;
+
+import java.util.Comparator;
+
+import com.example.resourcemanagement.entity.ResourceType;
+
+/**
+ * 전체 자원 합계를 구분하는 키 (type, modelKey, unit)
+ * gpu만 모델별로 나누고 그 외 타입은 modelId와 무관하게 합산한다. capacity_aggregate 컬럼에는 null 대신 빈 문자열로 저장된다.
+ */
+public record CapacityKey(ResourceType type, String modelKey, String unit) {
+
+	/**
+	 * capacity_aggregate 행을 갱신하는 순서 (AccountResourceKey.LOCK_ORDER와 같은 목적)
+	 */
+	public static final Comparator<CapacityKey> LOCK_ORDER =
+		Comparator.comparing(CapacityKey::type).thenComparing(CapacityKey::modelKey).thenComparing(CapacityKey::unit);
+
+	public static CapacityKey of(AccountResourceKey key) {
+		return of(key.type(), key.modelId(), key.unit());
+	}
+
+	/**
+	 * V9 마이그레이션의 CASE/COALESCE 식과 같은 규칙이어야 한다.
+	 */
+	public static CapacityKey of(ResourceType type, String modelId, String unit) {
+		String modelKey = type == ResourceType.gpu ? nullToEmpty(modelId) : "";
+		return new CapacityKey(type, modelKey, nullToEmpty(unit));
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.resourcemanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 자원 합계 재계산을 주기적으로 실행
+ * capacity.reconcile.enabled=false이면 등록되지 않음 (테스트 프로필)
+ */
+@Component
+@ConditionalOnProperty(name = "capacity.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class CapacityReconcileScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(CapacityReconcileScheduler.class);
+
+	@Autowired
+	CapacityAggregateService capacityAggregateService;
+
+	@Scheduled(fixedDelayString = "${capacity.reconcile.interval:PT1H}", initialDelayString = "${capacity.reconcile.interval:PT1H}")
+	void reconcile() {
+		try {
+			capacityAggregateService.reconcile();
+		} catch (RuntimeException e) {
+			log.error("capacity 합계 재계산 실패", e);
+		}
+	}
+}
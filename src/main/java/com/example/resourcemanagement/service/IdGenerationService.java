@@ -1,95 +1,285 @@
 package com.example.resourcemanagement.service;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.stereotype.Service;
 
-import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.NodeRepository;
+import com.example.resourcemanagement.repository.PlacementRepository;
+import com.example.resourcemanagement.repository.ProjectRepository;
 import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
 import com.example.resourcemanagement.repository.ResourceRepository;
 import com.example.resourcemanagement.repository.ResourceRequestRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
+/**
+ * 엔티티 ID 생성 서비스
+ * id_sequence 테이블에서 ID 블록(hi/lo)을 임대한 뒤 메모리의 원자 카운터로 발급하므로
+ * DB 접근은 블록당 한 번만 발생한다.
+ * 블록 임대는 시퀀스 행 잠금으로 직렬화되므로 여러 노드가 동시에 임대해도 구간이 겹치지 않는다.
+ *
+ * 엔티티별 고정 범위 없이 BIGINT 전체를 사용하며, 블록은 증가 순으로 임대되므로
+ * ID는 대략 삽입 순서를 따른다 (InnoDB 클러스터드 인덱스의 끝에 추가됨).
+ * Account는 AUTO_INCREMENT를 사용하므로 여기서 생성하지 않는다.
+ *
+ * 호출자는 대부분 이미 트랜잭션(공용 풀 커넥션)을 잡고 있으므로, id_sequence 접근은 공용 풀이 아닌
+ * 이 서비스 전용의 작은 풀(id.lease.pool-size)에서 한다. 공용 풀에서 두 번째 커넥션을 받으면
+ * 블록 모니터에서 기다리는 호출자들이 공용 풀을 다 잡고 있을 때 임대 스레드가 커넥션을 얻지 못해 멈춘다.
+ */
 @Service
 public class IdGenerationService {
-    
-    @Autowired
-    private AccountRepository accountRepository;
-    
+
+    static final String RESOURCE_REQUEST = "resource_request";
+    static final String RESOURCE = "resource";
+    static final String RESOURCE_ALLOCATION = "resource_allocation";
+    static final String RESOURCE_BRIDGE = "resource_bridge";
+    static final String PROJECT = "project";
+    static final String NODE = "node";
+    static final String PLACEMENT = "placement";
+
     @Autowired
     private ResourceRequestRepository resourceRequestRepository;
-    
+
     @Autowired
     private ResourceRepository resourceRepository;
-    
+
     @Autowired
     private ResourceAllocationRepository resourceAllocationRepository;
-    
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private NodeRepository nodeRepository;
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Value("${id.block-size:100}")
+    private int blockSize;
+
+    @Value("${id.lease.pool-size:2}")
+    private int leasePoolSize;
+
+    // id_sequence 전용 커넥션 풀 (트랜잭션 중인 호출자가 잡고 있을 수 없음)
+    private HikariDataSource leaseDataSource;
+
+    private final Map<String, IdBlock> blocks = new ConcurrentHashMap<>();
+
+    // 이 노드에서 이미 존재를 확인한 시퀀스 행
+    private final Set<String> initializedSequences = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void initLeaseDataSource() {
+        leaseDataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        leaseDataSource.setPoolName("id-lease");
+        leaseDataSource.setMaximumPoolSize(leasePoolSize);
+        leaseDataSource.setMinimumIdle(0);
+    }
+
+    @PreDestroy
+    void closeLeaseDataSource() {
+        leaseDataSource.close();
+    }
+
     /**
-     * Account ID 생성 (1~9)
+     * ResourceRequest ID 생성
      */
-    public Long generateAccountId() {
-        Long maxId = accountRepository.findAll().stream()
-            .map(acc -> acc.getId())
-            .max(Long::compareTo)
-            .orElse(0L);
-        Long nextId = maxId + 1;
-        if (nextId > 9) {
-            throw new IllegalStateException("Account ID 범위를 초과했습니다. (최대: 9)");
-        }
-        return nextId;
+    public Long generateRequestId() {
+        return nextId(RESOURCE_REQUEST, resourceRequestRepository::findMaxId);
     }
-    
+
     /**
-     * ResourceRequest ID 생성 (10~99)
+     * Resource ID 생성
      */
-    public Long generateRequestId() {
-        Long maxId = resourceRequestRepository.findAll().stream()
-            .map(req -> req.getId())
-            .max(Long::compareTo)
-            .orElse(9L); // 9는 account의 최대값
-        Long nextId = maxId + 1;
-        if (nextId < 10) {
-            nextId = 10L;
+    public Long generateResourceId() {
+        return nextId(RESOURCE, resourceRepository::findMaxId);
+    }
+
+    /**
+     * ResourceAllocation ID 생성
+     */
+    public Long generateAllocationId() {
+        return nextId(RESOURCE_ALLOCATION, resourceAllocationRepository::findMaxId);
+    }
+
+    /**
+     * ResourceBridge ID 생성
+     * IDENTITY는 INSERT마다 생성 키를 돌려받아야 해서 JDBC 배치가 꺼지므로 미리 할당한다.
+     */
+    public Long generateBridgeId() {
+        return nextId(RESOURCE_BRIDGE, resourceBridgeRepository::findMaxId);
+    }
+
+    /**
+     * Project ID 생성
+     */
+    public Long generateProjectId() {
+        return nextId(PROJECT, projectRepository::findMaxId);
+    }
+
+    /**
+     * Node ID 생성
+     */
+    public Long generateNodeId() {
+        return nextId(NODE, nodeRepository::findMaxId);
+    }
+
+    /**
+     * Placement ID 생성
+     */
+    public Long generatePlacementId() {
+        return nextId(PLACEMENT, placementRepository::findMaxId);
+    }
+
+    Long nextId(String name, Supplier<Long> maxIdLookup) {
+        IdBlock block = blocks.computeIfAbsent(name, key -> new IdBlock());
+        while (true) {
+            if (!initializedSequences.contains(name)) {
+                // 블록 모니터 밖에서 초기화 (최대 ID 조회는 호출자 트랜잭션의 커넥션 사용)
+                initializeSequence(name, maxIdLookup);
+                initializedSequences.add(name);
+            }
+            Long id = block.next(() -> leaseBlock(name));
+            if (id != null) {
+                return id;
+            }
+            // 다른 곳에서 시퀀스 행이 삭제된 경우 다시 초기화
+            initializedSequences.remove(name);
         }
-        if (nextId > 99) {
-            throw new IllegalStateException("ResourceRequest ID 범위를 초과했습니다. (최대: 99)");
+    }
+
+    /**
+     * 시퀀스 행을 잠그고 blockSize 만큼 전진시킨 뒤 임대한 블록의 시작 ID를 반환
+     * 호출자의 트랜잭션과 무관하게 즉시 커밋해야 잠금이 짧게 유지되므로 전용 풀의 커넥션에서 따로 커밋
+     *
+     * @return 시퀀스 행이 없으면 null
+     */
+    private Long leaseBlock(String name) {
+        try (Connection connection = leaseDataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                Long leased = null;
+                try (PreparedStatement select = connection.prepareStatement(
+                        "select next_val from id_sequence where name = ? for update")) {
+                    select.setString(1, name);
+                    try (ResultSet rs = select.executeQuery()) {
+                        if (rs.next()) {
+                            leased = rs.getLong(1);
+                        }
+                    }
+                }
+                if (leased != null) {
+                    try (PreparedStatement update = connection.prepareStatement(
+                            "update id_sequence set next_val = ? where name = ?")) {
+                        update.setLong(1, leased + blockSize);
+                        update.setString(2, name);
+                        update.executeUpdate();
+                    }
+                }
+                connection.commit();
+                return leased;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("ID 블록을 임대할 수 없습니다: " + name, e);
         }
-        return nextId;
     }
-    
+
     /**
-     * Resource ID 생성 (100~999)
+     * 시퀀스 행이 없으면 기존 테이블의 최대 ID 다음 값으로 생성
+     * 없는 행에 대한 잠금 조회(FOR UPDATE)는 갭 락 때문에 동시 초기화 시 교착이 생기므로
+     * 잠금 없이 INSERT IGNORE로 먼저 만든 뒤 임대 트랜잭션에서 잠근다.
+     * 존재 확인과 INSERT IGNORE는 전용 풀에서 자동 커밋되고, 최대 ID 조회는 전용 커넥션을 돌려준 뒤
+     * 호출자 쪽(트랜잭션 중이면 그 커넥션)에서 한다. (전용 커넥션을 쥔 채 공용 풀을 기다리지 않도록)
      */
-    public Long generateResourceId() {
-        Long maxId = resourceRepository.findAll().stream()
-            .map(res -> res.getId())
-            .max(Long::compareTo)
-            .orElse(99L); // 99는 request의 최대값
-        Long nextId = maxId + 1;
-        if (nextId < 100) {
-            nextId = 100L;
+    private void initializeSequence(String name, Supplier<Long> maxIdLookup) {
+        if (sequenceExists(name)) {
+            return;
         }
-        if (nextId > 999) {
-            throw new IllegalStateException("Resource ID 범위를 초과했습니다. (최대: 999)");
+        Long maxId = maxIdLookup.get();
+        long start = maxId == null ? 1L : maxId + 1;
+        try (Connection connection = leaseDataSource.getConnection();
+                PreparedStatement insert = connection.prepareStatement(
+                    "insert ignore into id_sequence (name, next_val) values (?, ?)")) {
+            insert.setString(1, name);
+            insert.setLong(2, start);
+            insert.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("ID 시퀀스를 초기화할 수 없습니다: " + name, e);
         }
-        return nextId;
     }
-    
+
+    private boolean sequenceExists(String name) {
+        try (Connection connection = leaseDataSource.getConnection();
+                PreparedStatement exists = connection.prepareStatement(
+                    "select 1 from id_sequence where name = ?")) {
+            exists.setString(1, name);
+            try (ResultSet rs = exists.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("ID 시퀀스를 조회할 수 없습니다: " + name, e);
+        }
+    }
+
     /**
-     * ResourceAllocation ID 생성 (1000~9999)
+     * 임대한 ID 블록 [next, limit)
+     * 블록 안에서는 원자 카운터로만 발급하고, 소진되었을 때만 잠금을 잡고 새 블록을 임대
      */
-    public Long generateAllocationId() {
-        Long maxId = resourceAllocationRepository.findAll().stream()
-            .map(alloc -> alloc.getId())
-            .max(Long::compareTo)
-            .orElse(999L); // 999는 resource의 최대값
-        Long nextId = maxId + 1;
-        if (nextId < 1000) {
-            nextId = 1000L;
-        }
-        if (nextId > 9999) {
-            throw new IllegalStateException("ResourceAllocation ID 범위를 초과했습니다. (최대: 9999)");
+    private final class IdBlock {
+        private final AtomicLong next = new AtomicLong();
+        private volatile long limit;
+
+        /**
+         * @return lease가 null을 반환하면(시퀀스 행 없음) null
+         */
+        Long next(Supplier<Long> lease) {
+            while (true) {
+                long current = next.get();
+                if (current < limit) {
+                    if (next.compareAndSet(current, current + 1)) {
+                        return current;
+                    }
+                    continue;
+                }
+                synchronized (this) {
+                    if (next.get() >= limit) {
+                        Long start = lease.get();
+                        if (start == null) {
+                            return null;
+                        }
+                        next.set(start);
+                        limit = start + blockSize;
+                    }
+                }
+            }
         }
-        return nextId;
     }
 }
-
@@ -0,0 +1,178 @@
+package com.example.resourcemanagement.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.IdempotencyRecord;
+import com.example.resourcemanagement.exception.AdmissionRejectedException;
+import com.example.resourcemanagement.exception.IdempotencyKeyConflictException;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+
+/**
+ * Idempotency-Key 처리
+ *
+ * 키는 자원요청과 같은 트랜잭션에서 idempotency_record에 INSERT IGNORE로 기록한다.
+ * - 키 행이 있으면 그 요청은 이미 커밋된 것이므로 resource/resource_bridge를 건드리지 않고 반환
+ * - 같은 키로 동시에 들어온 재시도는 INSERT IGNORE에서 먼저 온 트랜잭션이 끝나기를 기다린 뒤 재생으로 처리
+ * - 커밋된 키는 크기와 TTL이 제한된 프로세스 내 캐시에 두어 재시도 대부분은 DB 조회 없이 끝남
+ */
+@Service
+public class IdempotencyService {
+
+	@Autowired
+	IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	ResourceRequestService resourceRequestService;
+
+	@Autowired
+	AdmissionControlService admissionControlService;
+
+	@Autowired
+	AccountRepository accountRepository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Value("${idempotency.ttl:PT24H}")
+	Duration ttl;
+
+	@Value("${idempotency.cache.max-size:100000}")
+	long cacheMaxSize;
+
+	private Cache<String, CompletedKey> completedKeys;
+
+	@PostConstruct
+	void init() {
+		completedKeys = Caffeine.newBuilder()
+			.maximumSize(cacheMaxSize)
+			.expireAfterWrite(ttl)
+			.build();
+	}
+
+	/**
+	 * 키가 처음이면 자원요청을 생성하고, 이미 처리한 키면 아무것도 쓰지 않음
+	 * 캐시된 키의 재생과 account 타입별 한도 확인은 트랜잭션을 열기 전에 끝낸다.
+	 *
+	 * @return 이미 처리한 키라서 재생한 경우 true
+	 * @throws IdempotencyKeyConflictException 같은 키에 다른 요청 본문
+	 * @throws AdmissionRejectedException 처음 보는 키인데 한도를 넘을 때
+	 */
+	public boolean createResourceRequest(String key, ResourceRequestDto dto) {
+		String requestHash = hash(dto);
+		LocalDateTime now = LocalDateTime.now();
+
+		CompletedKey cached = completedKeys.getIfPresent(key);
+		if (cached != null && cached.expiresAt().isAfter(now)) {
+			verify(key, cached.requestHash(), requestHash);
+			return true;
+		}
+
+		try {
+			admissionControlService.checkCreate(dto);
+		} catch (AdmissionRejectedException e) {
+			// 다른 노드에서 이미 처리한 키면 거절하지 않고 재생 (키 행만 읽음)
+			boolean processed = idempotencyRecordRepository.findById(key)
+				.filter(record -> record.getExpiresAt().isAfter(now))
+				.isPresent();
+			if (!processed) {
+				throw e;
+			}
+		}
+		return new TransactionTemplate(transactionManager).execute(status -> createOnce(key, dto, requestHash, now));
+	}
+
+	/**
+	 * 키 행을 기록하고 처음이면 자원요청 생성 (트랜잭션 안에서 실행, 한도는 호출자가 이미 확인)
+	 */
+	private boolean createOnce(String key, ResourceRequestDto dto, String requestHash, LocalDateTime now) {
+		LocalDateTime expiresAt = now.plus(ttl);
+		if (idempotencyRecordRepository.insertIfAbsent(key, requestHash, now, expiresAt) == 0) {
+			IdempotencyRecord existing = idempotencyRecordRepository.findByKeyForUpdate(key)
+				.orElseThrow(() -> new IllegalStateException("Idempotency-Key 기록을 찾을 수 없습니다: " + key));
+			if (existing.getExpiresAt().isAfter(now)) {
+				verify(key, existing.getRequestHash(), requestHash);
+				putAfterCommit(key, new CompletedKey(existing.getRequestHash(), existing.getExpiresAt()));
+				return true;
+			}
+			// 보관 기간이 지난 키는 새 요청으로 취급
+			existing.setRequestHash(requestHash);
+			existing.setCreatedAt(now);
+			existing.setExpiresAt(expiresAt);
+		}
+
+		Account account = accountRepository.findById(dto.getAccountId())
+			.orElseThrow(() -> new IllegalArgumentException("Account not found"));
+		resourceRequestService.createResourceRequest(account, dto);
+		putAfterCommit(key, new CompletedKey(requestHash, expiresAt));
+		return false;
+	}
+
+	/**
+	 * 보관 기간이 지난 키 정리
+	 */
+	@Scheduled(fixedDelayString = "${idempotency.purge-interval:PT10M}", initialDelayString = "${idempotency.purge-interval:PT10M}")
+	@Transactional
+	public void purgeExpired() {
+		idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+	}
+
+	private void verify(String key, String storedHash, String requestHash) {
+		if (!storedHash.equals(requestHash)) {
+			throw new IdempotencyKeyConflictException(key);
+		}
+	}
+
+	/**
+	 * 커밋된 뒤에만 캐시에 등록 (롤백된 키가 캐시에 남지 않도록)
+	 */
+	private void putAfterCommit(String key, CompletedKey completedKey) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			completedKeys.put(key, completedKey);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				completedKeys.put(key, completedKey);
+			}
+		});
+	}
+
+	private String hash(ResourceRequestDto dto) {
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(dto);
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException("요청 해시를 계산할 수 없습니다.", e);
+		}
+	}
+
+	private record CompletedKey(String requestHash, LocalDateTime expiresAt) {
+	}
+}
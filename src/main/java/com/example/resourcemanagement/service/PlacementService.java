@@ -0,0 +1,298 @@
+package com.example.resourcemanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.resourcemanagement.dto.NodeCapacityDto;
+import com.example.resourcemanagement.dto.NodeDto;
+import com.example.resourcemanagement.dto.PlacementDto;
+import com.example.resourcemanagement.entity.ApprovalStatus;
+import com.example.resourcemanagement.entity.Node;
+import com.example.resourcemanagement.entity.Placement;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceAllocation;
+import com.example.resourcemanagement.entity.ResourceBridge;
+import com.example.resourcemanagement.exception.PlacementFailedException;
+import com.example.resourcemanagement.placement.NodePool.NodeSlot;
+import com.example.resourcemanagement.placement.PlacementEngine;
+import com.example.resourcemanagement.placement.PlacementPolicy;
+import com.example.resourcemanagement.repository.NodeRepository;
+import com.example.resourcemanagement.repository.PlacementRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * 노드 인벤토리 관리와 allocation 라인 배치
+ *
+ * - 노드 선택은 메모리의 PlacementEngine (자원 키별 남은 용량 색인, 배치 1건 O(log n))
+ * - 확정은 노드 Resource에 "available >= ?" 조건부 UPDATE (reserveAvailable), 노드 Resource ID 순으로 잠금
+ * - 메모리 사본은 힌트이며 DB가 기준: UPDATE가 실패하면 해당 노드를 잠금 조회 값으로 맞추고 다시 고름
+ *   (다른 인스턴스의 배치/회수는 이 경로와 풀 재동기화로 반영됨)
+ * - 롤백되면 메모리에서 차감한 양을 되돌리고, 회수는 커밋된 뒤에 메모리에 반영
+ * - allocation 라인 하나는 노드 하나에 배치 (여러 노드에 나누지 않음)
+ */
+@Service
+public class PlacementService {
+
+	// 조건부 UPDATE 실패 후 다시 고르는 횟수 (라인당)
+	private static final int MAX_RETRIES = 8;
+
+	@Autowired
+	NodeRepository nodeRepository;
+
+	@Autowired
+	PlacementRepository placementRepository;
+
+	@Autowired
+	ResourceRepository resourceRepository;
+
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+
+	@Autowired
+	ResourceAllocationRepository resourceAllocationRepository;
+
+	@Autowired
+	ResourceBridgeService resourceBridgeService;
+
+	@Autowired
+	IdGenerationService idGenerationService;
+
+	@Autowired
+	List<PlacementPolicy> policies;
+
+	@Value("${placement.policy:best-fit}")
+	String policyName;
+
+	private volatile PlacementEngine engine;
+
+	/**
+	 * 노드 등록 (resources의 quota가 노드 용량)
+	 */
+	@Transactional
+	public List<NodeCapacityDto> addNode(NodeDto dto) {
+		if (dto.getName() == null || dto.getResources() == null || dto.getResources().isEmpty()) {
+			throw new IllegalArgumentException("name과 resources는 필수입니다.");
+		}
+		Node node = new Node(idGenerationService.generateNodeId(), dto.getName());
+		nodeRepository.persistAll(List.of(node));
+		List<Resource> resources = resourceBridgeService.createKeyedResourcesAndBridges("node", node.getId(), dto.getResources());
+
+		List<NodeCapacityDto> capacities = new ArrayList<>(resources.size());
+		for (Resource resource : resources) {
+			capacities.add(new NodeCapacityDto(node.getId(), resource.getId(),
+				AccountResourceKey.columnValue(resource.getType(), resource.getModelId(), resource.getUnit()),
+				resource.getType(), resource.getModelId(), resource.getUnit(),
+				resource.getQuota(), resource.getAllocated(), resource.getAvailable()));
+		}
+		afterCommit(() -> {
+			PlacementEngine loaded = engine;
+			if (loaded != null) {
+				capacities.forEach(capacity -> loaded.put(capacity.getResourceKey(), capacity.getNodeId(),
+					capacity.getNodeResourceId(), capacity.getAvailable().milli()));
+			}
+		});
+		return capacities;
+	}
+
+	/**
+	 * 노드의 자원 키별 용량
+	 */
+	public Optional<List<NodeCapacityDto>> findNode(Long nodeId) {
+		if (!nodeRepository.existsById(nodeId)) {
+			return Optional.empty();
+		}
+		return Optional.of(resourceBridgeRepository.findNodeCapacitiesByNodeId(nodeId));
+	}
+
+	public List<PlacementDto> findPlacements(Long allocationId) {
+		return placementRepository.findByAllocationId(allocationId).stream().map(this::toDto).toList();
+	}
+
+	/**
+	 * approved allocation의 라인을 노드에 배치
+	 * 이미 배치된 allocation은 기존 배치를 그대로 반환 (재시도 안전)
+	 *
+	 * @throws PlacementFailedException 라인이 들어갈 노드가 없을 때 (아무것도 배치하지 않음)
+	 */
+	@Transactional
+	public List<PlacementDto> placeAllocation(Long allocationId) {
+		ResourceAllocation allocation = resourceAllocationRepository.findById(allocationId)
+			.orElseThrow(() -> new IllegalArgumentException("ResourceAllocation not found"));
+		if (allocation.getApprovalStatus() != ApprovalStatus.approved) {
+			throw new PlacementFailedException("approved 상태의 allocation만 배치할 수 있습니다. (현재 " + allocation.getApprovalStatus() + ")");
+		}
+		List<Placement> existing = placementRepository.findByAllocationId(allocationId);
+		if (!existing.isEmpty()) {
+			return existing.stream().map(this::toDto).toList();
+		}
+
+		PlacementEngine engine = engine();
+		List<Reservation> reservations = new ArrayList<>();
+		// 실패나 롤백 시 메모리에서 차감한 양을 되돌림 (커밋되면 그대로 유지)
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					reservations.forEach(reservation -> engine.release(reservation.resourceKey(),
+						reservation.slot().nodeResourceId(), reservation.quantity().milli()));
+				}
+			}
+		});
+
+		// 1. 메모리에서 노드 선택 (큰 라인부터 골라 작은 라인이 큰 라인의 자리를 먼저 차지하지 않게 함)
+		List<ResourceBridge> lines = new ArrayList<>(resourceBridgeRepository
+			.findWithResourceByEntityAndEntityIdIn("allocation", List.of(allocationId)));
+		lines.sort(Comparator.comparing((ResourceBridge line) -> line.getResource().getQuota()).reversed());
+		for (ResourceBridge line : lines) {
+			Resource resource = line.getResource();
+			String resourceKey = AccountResourceKey.columnValue(resource.getType(), resource.getModelId(), resource.getUnit());
+			reservations.add(new Reservation(resource.getId(), resourceKey, resource.getQuota(),
+				reserve(engine, resourceKey, resource.getQuota())));
+		}
+
+		// 2. DB 확정 (노드 Resource ID 순으로 잠가 동시 배치끼리 교착하지 않게 함)
+		reservations.sort(Comparator.comparingLong(reservation -> reservation.slot().nodeResourceId()));
+		for (int i = 0; i < reservations.size(); i++) {
+			reservations.set(i, confirm(engine, reservations.get(i)));
+		}
+
+		List<Placement> placements = new ArrayList<>(reservations.size());
+		LocalDateTime now = LocalDateTime.now();
+		for (Reservation reservation : reservations) {
+			placements.add(new Placement(idGenerationService.generatePlacementId(), allocationId, reservation.resourceId(),
+				reservation.slot().nodeId(), reservation.slot().nodeResourceId(), reservation.resourceKey(),
+				reservation.quantity(), now));
+		}
+		placementRepository.persistAll(placements);
+		return placements.stream().map(this::toDto).toList();
+	}
+
+	/**
+	 * allocation들의 배치를 회수해 노드 용량을 되돌림 (만료, 배치 취소)
+	 */
+	@Transactional
+	public int releaseAllocations(Collection<Long> allocationIds) {
+		if (allocationIds.isEmpty()) {
+			return 0;
+		}
+		List<Placement> placements = new ArrayList<>(placementRepository.findByAllocationIdIn(allocationIds));
+		if (placements.isEmpty()) {
+			return 0;
+		}
+		placements.sort(Comparator.comparingLong(Placement::getNodeResourceId));
+		for (Placement placement : placements) {
+			resourceRepository.releaseAllocated(placement.getNodeResourceId(), placement.getQuantity().milli());
+			resourceBridgeService.evictResource(placement.getNodeResourceId());
+		}
+		placementRepository.deleteAllInBatch(placements);
+		afterCommit(() -> {
+			PlacementEngine loaded = engine;
+			if (loaded != null) {
+				placements.forEach(placement -> loaded.release(placement.getResourceKey(),
+					placement.getNodeResourceId(), placement.getQuantity().milli()));
+			}
+		});
+		return placements.size();
+	}
+
+	/**
+	 * 메모리에서 노드 선택, 없으면 풀을 DB 값으로 다시 맞춘 뒤 한 번 더 시도
+	 */
+	private NodeSlot reserve(PlacementEngine engine, String resourceKey, Quantity quantity) {
+		NodeSlot slot = engine.reserve(resourceKey, quantity.milli());
+		if (slot == null) {
+			resync(engine, resourceKey);
+			slot = engine.reserve(resourceKey, quantity.milli());
+		}
+		if (slot == null) {
+			throw new PlacementFailedException(resourceKey + " " + quantity + "개가 들어갈 노드가 없습니다.");
+		}
+		return slot;
+	}
+
+	/**
+	 * 노드 Resource에서 조건부 차감, 실패하면 해당 노드를 현재 값으로 맞추고 다른 노드를 고름
+	 */
+	private Reservation confirm(PlacementEngine engine, Reservation reservation) {
+		Reservation current = reservation;
+		for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
+			long nodeResourceId = current.slot().nodeResourceId();
+			if (resourceRepository.reserveAvailable(nodeResourceId, current.quantity().milli()) == 1) {
+				resourceBridgeService.evictResource(nodeResourceId);
+				return current;
+			}
+			// 메모리 사본이 실제보다 많이 남았다고 본 경우: 차감을 되돌리고 최신 값으로 덮어씀
+			Long available = resourceRepository.lockAvailable(nodeResourceId);
+			engine.put(current.resourceKey(), current.slot().nodeId(), nodeResourceId, available == null ? 0L : available);
+			current = new Reservation(current.resourceId(), current.resourceKey(), current.quantity(),
+				reserve(engine, current.resourceKey(), current.quantity()));
+		}
+		throw new PlacementFailedException(reservation.resourceKey() + " 배치가 다른 배치와 계속 충돌했습니다.");
+	}
+
+	private void resync(PlacementEngine engine, String resourceKey) {
+		for (NodeCapacityDto capacity : resourceBridgeRepository.findNodeCapacitiesByKey(resourceKey)) {
+			engine.put(resourceKey, capacity.getNodeId(), capacity.getNodeResourceId(), capacity.getAvailable().milli());
+		}
+	}
+
+	/**
+	 * 첫 사용 시 전체 노드 용량을 읽어 엔진 생성
+	 */
+	PlacementEngine engine() {
+		PlacementEngine current = engine;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (engine == null) {
+				PlacementPolicy policy = policies.stream()
+					.filter(candidate -> candidate.name().equals(policyName))
+					.findFirst()
+					.orElseThrow(() -> new IllegalStateException("알 수 없는 placement.policy: " + policyName));
+				PlacementEngine loaded = new PlacementEngine(policy);
+				for (NodeCapacityDto capacity : resourceBridgeRepository.findNodeCapacities()) {
+					loaded.put(capacity.getResourceKey(), capacity.getNodeId(), capacity.getNodeResourceId(), capacity.getAvailable().milli());
+				}
+				engine = loaded;
+			}
+			return engine;
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private PlacementDto toDto(Placement placement) {
+		return new PlacementDto(placement.getAllocationId(), placement.getResourceId(), placement.getNodeId(),
+			placement.getResourceKey(), placement.getQuantity());
+	}
+
+	private record Reservation(Long resourceId, String resourceKey, Quantity quantity, NodeSlot slot) {
+	}
+}
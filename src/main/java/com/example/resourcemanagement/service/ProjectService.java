@@ -0,0 +1,154 @@
+package com.example.resourcemanagement.service;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.example.resourcemanagement.dto.ProjectDto;
+import com.example.resourcemanagement.dto.ProjectQuotaDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Project;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.exception.InsufficientQuotaException;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ProjectRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * project 하위 quota 배정
+ * project는 account 자원 키 (type, modelId, unit) 하나에 대한 몫이며, account의 같은 키 Resource에서 떼어 온다.
+ *
+ * - 배정: account Resource의 available → allocated, project quota/available 증가
+ * - 회수: project의 미사용(available) 안에서만, account allocated → available
+ * - account.allocated는 project quota의 합으로 유지되며 합계를 다시 구하지 않고 UPDATE마다 증감
+ * - 잔여량 확인과 차감은 조건부 UPDATE 1회 (account Resource → project 순으로 잠금)
+ */
+@Service
+public class ProjectService {
+
+	@Autowired
+	ProjectRepository projectRepository;
+
+	@Autowired
+	AccountRepository accountRepository;
+
+	@Autowired
+	ResourceRepository resourceRepository;
+
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+
+	@Autowired
+	ResourceBridgeService resourceBridgeService;
+
+	@Autowired
+	IdGenerationService idGenerationService;
+
+	@Autowired
+	CapacityAggregateService capacityAggregateService;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * quota 0인 project 생성 (배정은 changeProjectQuota로)
+	 */
+	@Transactional
+	public ProjectQuotaDto createProject(ProjectDto dto) {
+		Account account = accountRepository.findById(dto.getAccountId())
+			.orElseThrow(() -> new IllegalArgumentException("Account not found"));
+		if (dto.getType() == null || dto.getUnit() == null) {
+			throw new IllegalArgumentException("type과 unit은 필수입니다.");
+		}
+		Project project = new Project();
+		project.setId(idGenerationService.generateProjectId());
+		project.setName(dto.getName());
+		project.setAdmin(dto.getAdmin());
+		project.setAccount(account);
+		project.setType(dto.getType());
+		project.setModelId(dto.getModelId());
+		project.setUnit(dto.getUnit());
+		project.setQuota(Quantity.ZERO);
+		project.setAllocated(Quantity.ZERO);
+		project.setAvailable(Quantity.ZERO);
+		projectRepository.save(project);
+		return toQuotaDto(project);
+	}
+
+	/**
+	 * project quota 현황 (project 1건 + account Resource 1건 조회, project 수와 무관)
+	 */
+	public Optional<ProjectQuotaDto> findProjectQuota(Long projectId) {
+		return projectRepository.findById(projectId).map(this::toQuotaDto);
+	}
+
+	/**
+	 * account 자원에서 project로 quantity만큼 배정 (음수면 회수)
+	 *
+	 * @throws InsufficientQuotaException account 잔여량 또는 project 미사용량이 부족할 때
+	 */
+	@Transactional
+	public ProjectQuotaDto changeProjectQuota(Long projectId, Quantity quantity) {
+		Project project = projectRepository.findById(projectId)
+			.orElseThrow(() -> new IllegalArgumentException("Project not found"));
+		if (quantity == null || quantity.isZero()) {
+			return toQuotaDto(project);
+		}
+		long delta = quantity.milli();
+		AccountResourceKey key = keyOf(project);
+		boolean linked = project.getResource() != null;
+		Long accountResourceId = linked ? project.getResource().getId() : findAccountResourceId(key);
+		if (accountResourceId == null) {
+			throw new InsufficientQuotaException("account에 " + key.toColumnValue() + " 자원이 없습니다.");
+		}
+
+		if (delta > 0) {
+			if (resourceRepository.reserveAvailable(accountResourceId, delta) == 0) {
+				throw new InsufficientQuotaException("account 잔여 quota가 부족합니다. (요청 " + quantity + ")");
+			}
+			projectRepository.adjustQuota(projectId, delta);
+		} else {
+			if (resourceRepository.releaseAllocated(accountResourceId, -delta) == 0) {
+				throw new InsufficientQuotaException("account에 배정된 양보다 많이 회수할 수 없습니다. (요청 " + quantity.negate() + ")");
+			}
+			if (projectRepository.adjustQuota(projectId, delta) == 0) {
+				throw new InsufficientQuotaException("project의 미사용 quota가 부족합니다. (요청 " + quantity.negate() + ")");
+			}
+		}
+		resourceBridgeService.evictResource(accountResourceId);
+		if (!linked) {
+			projectRepository.linkAccountResource(projectId, accountResourceId);
+		}
+		// quota는 그대로, available만 변함 (조회 캐시 무효화, SSE 전송은 커밋 이후)
+		capacityAggregateService.add(key, 0, -delta);
+		eventPublisher.publishEvent(new AccountResourceChangedEvent(key, 0, -delta));
+
+		return projectRepository.findById(projectId).map(this::toQuotaDto)
+			.orElseThrow(() -> new IllegalStateException("Project not found after update: " + projectId));
+	}
+
+	private AccountResourceKey keyOf(Project project) {
+		return new AccountResourceKey(project.getAccount().getId(), project.getType(), project.getModelId(), project.getUnit());
+	}
+
+	private Long findAccountResourceId(AccountResourceKey key) {
+		return resourceBridgeRepository.findResourceIdByKey("account", key.accountId(), key.toColumnValue()).orElse(null);
+	}
+
+	private ProjectQuotaDto toQuotaDto(Project project) {
+		Resource accountResource = project.getResource();
+		if (accountResource == null) {
+			Long accountResourceId = findAccountResourceId(keyOf(project));
+			accountResource = accountResourceId == null ? null : resourceRepository.findById(accountResourceId).orElse(null);
+		}
+		return new ProjectQuotaDto(project.getId(), project.getAccount().getId(), project.getType(), project.getModelId(),
+			project.getUnit(), project.getQuota(), project.getAllocated(), project.getAvailable(),
+			accountResource == null ? Quantity.ZERO : accountResource.getAvailable());
+	}
+}
@@ -0,0 +1,135 @@
+package com.example.resourcemanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.resourcemanagement.dto.ReservationUsageDto;
+import com.example.resourcemanagement.dto.ReservationWindowDto;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.reservation.ReservationTimeline;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 시간 구간별 예약 현황 ("account A가 T1~T2 사이에 gpu를 얼마나 잡아 두었나")
+ * 승인된 allocation의 [requestedAt, expiresAt)를 account/type마다 ReservationTimeline으로 색인한다.
+ *
+ * - 색인은 idx_resource_allocation_account_status_expires로 한 번에 적재해 캐시하고, 조회는 O(log n + k)
+ * - account 자원 quota가 바뀐 트랜잭션(승인, 만료 회수)이 커밋되면 해당 account/type만 무효화
+ * - project 배정처럼 available만 바뀌는 변경은 예약 구간과 무관하므로 무시
+ */
+@Service
+public class ReservationWindowService {
+
+	@Autowired
+	AccountRepository accountRepository;
+
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+
+	@Value("${reservation.index-cache.max-size:10000}")
+	long indexCacheMaxSize;
+
+	@Value("${reservation.index-cache.ttl:PT10M}")
+	Duration indexCacheTtl;
+
+	// (accountId, type) → 예약 구간 색인
+	private Cache<IndexKey, ReservationIndex> indexes;
+
+	@PostConstruct
+	void initCache() {
+		indexes = Caffeine.newBuilder()
+			.maximumSize(indexCacheMaxSize)
+			.expireAfterWrite(indexCacheTtl)
+			.build();
+	}
+
+	/**
+	 * [from, to)와 겹치는 예약과 그 구간의 최대 동시 예약량
+	 * 캐시에 색인이 있으면 DB 조회 없음
+	 *
+	 * @return account가 없으면 empty
+	 */
+	public Optional<ReservationUsageDto> findUsage(Long accountId, ResourceType type, LocalDateTime from, LocalDateTime to) {
+		ReservationIndex index = indexes.get(new IndexKey(accountId, type), this::loadIndex);
+		if (index == null) {
+			return Optional.empty();
+		}
+		long fromKey = toKey(from, Long.MIN_VALUE);
+		long toKey = toKey(to, Long.MAX_VALUE);
+		List<Integer> hits = new ArrayList<>();
+		index.timeline().overlaps(fromKey, toKey, hits::add);
+		// 적재 순서 (requestedAt, allocationId)로 되돌림
+		hits.sort(null);
+		List<ReservationWindowDto> reservations = new ArrayList<>(hits.size());
+		for (Integer hit : hits) {
+			reservations.add(index.windows().get(hit));
+		}
+		Quantity peak = Quantity.ofMilli(index.timeline().peak(fromKey, toKey));
+		return Optional.of(new ReservationUsageDto(accountId, type, from, to, peak, reservations));
+	}
+
+	private ReservationIndex loadIndex(IndexKey key) {
+		if (!accountRepository.existsById(key.accountId())) {
+			// 없는 account는 캐시하지 않음
+			return null;
+		}
+		List<ReservationWindowDto> windows = List.copyOf(resourceBridgeRepository.findReservationWindows(key.accountId(), key.type()));
+		int size = windows.size();
+		long[] starts = new long[size];
+		long[] ends = new long[size];
+		long[] quantities = new long[size];
+		for (int i = 0; i < size; i++) {
+			ReservationWindowDto window = windows.get(i);
+			starts[i] = toKey(window.getRequestedAt(), Long.MIN_VALUE);
+			ends[i] = toKey(window.getExpiresAt(), Long.MAX_VALUE);
+			quantities[i] = Quantity.milliOf(window.getQuantity());
+		}
+		ReservationTimeline timeline = size == 0 ? ReservationTimeline.EMPTY : ReservationTimeline.build(starts, ends, quantities);
+		return new ReservationIndex(windows, timeline);
+	}
+
+	/**
+	 * account 자원 quota가 바뀐 트랜잭션이 커밋된 뒤 해당 account/type 색인만 무효화
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountResourceChanged(AccountResourceChangedEvent event) {
+		if (event.quotaDelta() != 0) {
+			indexes.invalidate(new IndexKey(event.accountId(), event.key().type()));
+		}
+	}
+
+	/**
+	 * 색인 시각 키 (UTC epoch 마이크로초, DATETIME(6) 정밀도), null이면 열린 끝
+	 */
+	static long toKey(LocalDateTime time, long open) {
+		if (time == null) {
+			return open;
+		}
+		return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+	}
+
+	private record IndexKey(Long accountId, ResourceType type) {
+	}
+
+	/**
+	 * @param windows 적재 순서의 예약 (timeline의 예약 번호 = 목록 위치)
+	 */
+	private record ReservationIndex(List<ReservationWindowDto> windows, ReservationTimeline timeline) {
+	}
+}
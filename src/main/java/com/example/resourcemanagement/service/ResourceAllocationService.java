@@ -1,17 +1,33 @@
 package com.example.resourcemanagement.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.resourcemanagement.dto.ApprovalResultDto;
+import com.example.resourcemanagement.dto.KeysetPageDto;
+import com.example.resourcemanagement.dto.ResourceAllocationSummaryDto;
+import com.example.resourcemanagement.dto.ResourceListQueryDto;
 import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.ApprovalStatus;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceAllocation;
 import com.example.resourcemanagement.entity.ResourceBridge;
 import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.exception.AdmissionRejectedException;
 import com.example.resourcemanagement.repository.AccountRepository;
 import com.example.resourcemanagement.repository.ResourceAllocationRepository;
 import com.example.resourcemanagement.repository.ResourceBridgeRepository;
@@ -44,35 +60,200 @@ public class ResourceAllocationService {
 	@Autowired
 	IdGenerationService idGenerationService; 
 	
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	
+	@Autowired
+	AdmissionControlService admissionControlService;
+	
+	@Value("${approval.bulk.chunk-size:500}")
+	int bulkChunkSize;
+	
 	/**
 	 * ResourceRequest 승인 시 ResourceAllocation 생성
 	 * 승인 시 allocation, bridge, resource 생성
+	 * 이미 승인된 요청은 아무것도 쓰지 않고 반환 (재시도 안전)
+	 * account 타입별 한도는 트랜잭션을 열기 전에 확인한다. (요청 기록이 없으면 request와 라인을 트랜잭션 없이 읽음)
+	 * 
+	 * @throws AdmissionRejectedException account 타입별 한도를 넘을 때 (아무것도 쓰지 않음)
 	 */
-	@Transactional
 	public void approveResourceRequest(Long requestId) {
-	    ResourceRequest resourceRequest = resourceRequestRepository.findById(requestId)
-	        .orElseThrow(() -> new IllegalArgumentException("ResourceRequest not found"));
-
-	    resourceRequest.setStatus("approved");
-	    resourceRequestRepository.save(resourceRequest);
+	    try (AdmissionControlService.Ticket ticket = admissionControlService.admitApproval(requestId)) {
+	        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+	            ResourceRequest resourceRequest = resourceRequestRepository.findById(requestId)
+	                .orElseThrow(() -> new IllegalArgumentException("ResourceRequest not found"));
+	            if (resourceRequest.getApprovalStatus() == ApprovalStatus.approved) {
+	                // 재시도/중복 클릭: 추가 쓰기 없이 종료
+	                return;
+	            }
+	            approve(List.of(resourceRequest));
+	        });
+	        ticket.approved();
+	    }
+	}
+	
+	/**
+	 * 여러 ResourceRequest 일괄 승인
+	 * approval.bulk.chunk-size 단위로 트랜잭션을 나누며, 실패한 chunk만 롤백되고 나머지는 계속 진행
+	 * chunk가 실패하면(동시 승인과 version 충돌 등) 그 chunk를 ID별 트랜잭션으로 다시 처리해
+	 * 실패 원인인 ID만 failed가 되고, 그사이 다른 곳에서 승인된 ID는 already_approved로 나온다.
+	 * 한도를 넘는 ID는 chunk 트랜잭션을 열기 전에 rejected로 빠진다.
+	 * 
+	 * @param requestIds 승인할 ResourceRequest ID 목록
+	 * @return ID별 처리 결과
+	 */
+	public List<ApprovalResultDto> approveResourceRequests(List<Long> requestIds) {
+	    List<Long> distinctIds = requestIds.stream().distinct().toList();
+	    List<ApprovalResultDto> results = new ArrayList<>(distinctIds.size());
+	    TransactionTemplate template = new TransactionTemplate(transactionManager);
+	    for (int from = 0; from < distinctIds.size(); from += bulkChunkSize) {
+	        List<Long> chunk = distinctIds.subList(from, Math.min(from + bulkChunkSize, distinctIds.size()));
+	        try {
+	            results.addAll(approveChunk(template, chunk));
+	        } catch (RuntimeException e) {
+	            if (chunk.size() == 1) {
+	                results.add(new ApprovalResultDto(chunk.get(0), ApprovalResultDto.FAILED, e.getMessage()));
+	                continue;
+	            }
+	            for (Long requestId : chunk) {
+	                try {
+	                    results.addAll(approveChunk(template, List.of(requestId)));
+	                } catch (RuntimeException single) {
+	                    results.add(new ApprovalResultDto(requestId, ApprovalResultDto.FAILED, single.getMessage()));
+	                }
+	            }
+	        }
+	    }
+	    return results;
+	}
+	
+	/**
+	 * chunk 하나를 한도 확인 후 트랜잭션 하나로 승인
+	 * 한도 확인은 트랜잭션 밖에서 하며, 기록이 없는 요청은 먼저 한 번에 읽어 둔다.
+	 * 트랜잭션이 실패하면 Ticket을 닫아 요청 기록을 되돌리므로 ID별 재시도에서 다시 확인된다.
+	 */
+	private List<ApprovalResultDto> approveChunk(TransactionTemplate template, List<Long> requestIds) {
+	    admissionControlService.loadDemands(requestIds);
+	    
+	    Map<Long, ApprovalResultDto> rejected = new HashMap<>();
+	    List<Long> admitted = new ArrayList<>(requestIds.size());
+	    List<AdmissionControlService.Ticket> tickets = new ArrayList<>(requestIds.size());
+	    try {
+	        for (Long requestId : requestIds) {
+	            try {
+	                tickets.add(admissionControlService.admitApproval(requestId));
+	                admitted.add(requestId);
+	            } catch (AdmissionRejectedException e) {
+	                rejected.put(requestId, new ApprovalResultDto(requestId, ApprovalResultDto.REJECTED, e.getMessage()));
+	            }
+	        }
+	        Map<Long, ApprovalResultDto> approved = admitted.isEmpty() ? Map.of()
+	            : template.execute(status -> approveAdmitted(admitted)).stream()
+	                .collect(Collectors.toMap(ApprovalResultDto::getRequestId, Function.identity()));
+	        tickets.forEach(AdmissionControlService.Ticket::approved);
+	        
+	        List<ApprovalResultDto> results = new ArrayList<>(requestIds.size());
+	        for (Long requestId : requestIds) {
+	            results.add(rejected.containsKey(requestId) ? rejected.get(requestId) : approved.get(requestId));
+	        }
+	        return results;
+	    } finally {
+	        tickets.forEach(AdmissionControlService.Ticket::close);
+	    }
+	}
+	
+	/**
+	 * 한도 확인을 통과한 요청 승인 (호출자의 트랜잭션 안에서 실행)
+	 */
+	private List<ApprovalResultDto> approveAdmitted(List<Long> requestIds) {
+	    Map<Long, ResourceRequest> found = resourceRequestRepository.findAllById(requestIds).stream()
+	        .collect(Collectors.toMap(ResourceRequest::getId, Function.identity()));
+	    
+	    List<ResourceRequest> pending = new ArrayList<>();
+	    List<ApprovalResultDto> results = new ArrayList<>(requestIds.size());
+	    for (Long requestId : requestIds) {
+	        ResourceRequest resourceRequest = found.get(requestId);
+	        if (resourceRequest == null) {
+	            results.add(new ApprovalResultDto(requestId, ApprovalResultDto.NOT_FOUND, "ResourceRequest not found"));
+	        } else if (resourceRequest.getApprovalStatus() == ApprovalStatus.approved) {
+	            results.add(new ApprovalResultDto(requestId, ApprovalResultDto.ALREADY_APPROVED, null));
+	        } else if (!resourceRequest.getApprovalStatus().canTransitionTo(ApprovalStatus.approved)) {
+	            results.add(new ApprovalResultDto(requestId, ApprovalResultDto.INVALID_STATE,
+	                resourceRequest.getStatus() + " 상태는 승인할 수 없습니다."));
+	        } else {
+	            pending.add(resourceRequest);
+	            results.add(new ApprovalResultDto(requestId, ApprovalResultDto.APPROVED, null));
+	        }
+	    }
+	    approve(pending);
+	    return results;
+	}
+	
+	/**
+	 * 승인 공통 처리 (호출자의 트랜잭션 안에서 실행)
+	 * - request의 resource 라인마다 allocation 생성 (ID 선할당 후 배치 INSERT)
+	 * - allocation Resource/Bridge 일괄 생성
+	 * - account 누적은 (account, type, modelId, unit) 그룹당 1회
+	 */
+	private void approve(List<ResourceRequest> resourceRequests) {
+	    if (resourceRequests.isEmpty()) {
+	        return;
+	    }
+	    Map<Long, ResourceRequest> requestsById = new HashMap<>();
+	    for (ResourceRequest resourceRequest : resourceRequests) {
+	        resourceRequest.transitionTo(ApprovalStatus.approved);
+	        requestsById.put(resourceRequest.getId(), resourceRequest);
+	    }
+	    // version 조건 UPDATE를 먼저 보내 동시 승인과 겹치면 무거운 쓰기 전에 실패하도록 함
+	    resourceRequestRepository.flush();
 	    List<ResourceBridge> requestBridges =
-	        resourceBridgeRepository.findByEntityAndEntityId("request", requestId);
-
-	    ResourceAllocation allocation = new ResourceAllocation();
-	    allocation.setStatus("ACTIVE");
+	        resourceBridgeRepository.findWithResourceByEntityAndEntityIdIn("request", requestsById.keySet());
+	    
+	    List<ResourceAllocation> allocations = new ArrayList<>(requestBridges.size());
+	    List<Long> allocationIds = new ArrayList<>(requestBridges.size());
+	    List<Resource> allocationResources = new ArrayList<>(requestBridges.size());
+	    // 동시 승인끼리 account Resource 행을 같은 순서로 잠그도록 정렬
+	    Map<AccountResourceKey, Long> accountDeltas = new TreeMap<>(AccountResourceKey.LOCK_ORDER);
+	    
 	    for (ResourceBridge requestBridge : requestBridges) {
+	        ResourceRequest resourceRequest = requestsById.get(requestBridge.getEntityId());
 	        Resource resource = requestBridge.getResource();
-
-	        Long allocationId = idGenerationService.generateAllocationId();
-	        allocation.setId(allocationId);
+	        
+	        ResourceAllocation allocation = new ResourceAllocation();
+	        allocation.setId(idGenerationService.generateAllocationId());
+	        allocation.setStatus(ApprovalStatus.approved.name());
 	        allocation.setResourceRequest(resourceRequest);
-	        resourceAllocationRepository.save(allocation);
-
-	        resourceBridgeService.createResourceAndBridge("allocation", allocationId, resource);
-	        resourceBridgeService.createOrAccumulateAccountResource(
-	            resourceRequest.getAccount().getId(), resource
-	        );
+	        allocation.setAccountId(resourceRequest.getAccount().getId());
+	        allocation.setRequestedAt(resourceRequest.getRequestedAt());
+	        allocation.setExpiresAt(resourceRequest.getExpiresAt());
+	        allocations.add(allocation);
+	        allocationIds.add(allocation.getId());
+	        allocationResources.add(resource);
+	        
+	        accountDeltas.merge(AccountResourceKey.of(resourceRequest.getAccount().getId(), resource),
+	            resource.getQuota().milli(), Long::sum);
 	    }
+	    
+	    // account Resource ID는 resource_bridge INSERT 전에 조회 (이후에는 쿼리 캐시를 쓰지 못함), 누적 UPDATE는 잠금을 짧게 잡도록 마지막에
+	    Map<AccountResourceKey, Long> accountResourceIds = resourceBridgeService.findAccountResourceIds(accountDeltas.keySet());
+	    resourceAllocationRepository.persistAll(allocations);
+	    resourceBridgeService.createResourcesAndBridges("allocation", allocationIds, allocationResources);
+	    accountDeltas.forEach((key, delta) ->
+	        resourceBridgeService.accumulateAccountResource(key, delta, accountResourceIds.get(key)));
+	}
+	
+	/**
+	 * ResourceAllocation 목록 (requestedAt, id 순 키셋 페이지)
+	 */
+	public KeysetPageDto<ResourceAllocationSummaryDto> listResourceAllocations(ResourceListQueryDto query) {
+		int size = query.pageSize();
+		List<ResourceAllocationSummaryDto> rows = resourceAllocationRepository.findPage(
+			query.getAccountId(), query.getStatus(),
+			query.getRequestedFrom(), query.getRequestedTo(),
+			query.getExpiresFrom(), query.getExpiresTo(),
+			query.getAfterRequestedAt(), query.getAfterId(),
+			PageRequest.ofSize(size + 1));
+		return KeysetPageDto.of(rows, size, ResourceAllocationSummaryDto::getRequestedAt, ResourceAllocationSummaryDto::getId);
 	}
 	
 	@Transactional
@@ -1,15 +1,29 @@
 package com.example.resourcemanagement.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.resourcemanagement.entity.Quantity;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceBridge;
 import com.example.resourcemanagement.repository.ResourceBridgeRepository;
 import com.example.resourcemanagement.repository.ResourceRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 
 /**
@@ -19,6 +33,8 @@ import jakarta.transaction.Transactional;
 @Service
 public class ResourceBridgeService {
     
+    private static final Logger log = LoggerFactory.getLogger(ResourceBridgeService.class);
+    
     @Autowired
     private ResourceRepository resourceRepository;
     
@@ -28,6 +44,30 @@ public class ResourceBridgeService {
     @Autowired
     private IdGenerationService idGenerationService;
     
+    @Autowired
+    private AccountResourceIndex accountResourceIndex;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private CapacityAggregateService capacityAggregateService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private Counter releaseShortfall;
+    
+    @PostConstruct
+    void init() {
+        releaseShortfall = Counter.builder("resource.release.shortfall")
+            .description("만료 회수 시 available 부족으로 차감하지 못한 quota (milli)")
+            .register(meterRegistry);
+    }
+    
     /**
      * Resource를 생성하고 해당 엔티티와 연결하는 Bridge를 생성
      * 
@@ -47,11 +87,64 @@ public class ResourceBridgeService {
         return resource;
     }
     
+    /**
+     * 여러 엔티티에 대해 Resource와 Bridge를 한 번에 생성
+     * Resource와 Bridge 모두 미리 ID를 할당해 persist하므로 flush 시 테이블별 배치 INSERT로 전송됨
+     * 
+     * @param entityType "request", "allocation" 등
+     * @param entityIds 엔티티 ID 목록 (sourceResources와 같은 순서)
+     * @param sourceResources 복사할 소스 Resource 목록
+     * @return 생성된 Resource 목록
+     */
+    @Transactional
+    public List<Resource> createResourcesAndBridges(String entityType, List<Long> entityIds, List<Resource> sourceResources) {
+        List<Resource> resources = new ArrayList<>(sourceResources.size());
+        List<ResourceBridge> bridges = new ArrayList<>(sourceResources.size());
+        for (int i = 0; i < sourceResources.size(); i++) {
+            Resource resource = copyOf(sourceResources.get(i));
+            resources.add(resource);
+            bridges.add(newBridge(entityType, entityIds.get(i), resource, null));
+        }
+        resourceRepository.persistAll(resources);
+        resourceBridgeRepository.persistAll(bridges);
+        return resources;
+    }
+    
+    /**
+     * 엔티티 하나에 Resource와 Bridge를 생성하며 bridge.resource_key에 "type|modelId|unit"을 기록
+     * uk_resource_bridge_entity_key로 엔티티당 같은 키의 Resource는 하나만 생성됨 (node 용량 등)
+     * 
+     * @param entityType "node" 등
+     * @param entityId 엔티티 ID
+     * @param sourceResources 복사할 소스 Resource 목록
+     * @return 생성된 Resource 목록
+     */
+    @Transactional
+    public List<Resource> createKeyedResourcesAndBridges(String entityType, Long entityId, List<Resource> sourceResources) {
+        List<Resource> resources = new ArrayList<>(sourceResources.size());
+        List<ResourceBridge> bridges = new ArrayList<>(sourceResources.size());
+        for (Resource sourceResource : sourceResources) {
+            Resource resource = copyOf(sourceResource);
+            resources.add(resource);
+            bridges.add(newBridge(entityType, entityId, resource,
+                AccountResourceKey.columnValue(resource.getType(), resource.getModelId(), resource.getUnit())));
+        }
+        resourceRepository.persistAll(resources);
+        resourceBridgeRepository.persistAll(bridges);
+        return resources;
+    }
+    
     /**
      * 소스 Resource를 기반으로 새로운 Resource 생성 (ID 자동 생성)
      * 내부 helper 메서드이므로 @Transactional 제거 (외부 진입점의 트랜잭션에 포함됨)
      */
     private Resource createResourceFromSource(Resource sourceResource) {
+        Resource resource = copyOf(sourceResource);
+        resourceRepository.persistAll(List.of(resource));
+        return resource;
+    }
+    
+    private Resource copyOf(Resource sourceResource) {
         Resource resource = new Resource();
         Long resourceId = idGenerationService.generateResourceId();
         resource.setId(resourceId);
@@ -59,9 +152,8 @@ public class ResourceBridgeService {
         resource.setModelId(sourceResource.getModelId());
         resource.setQuota(sourceResource.getQuota());
         resource.setUnit(sourceResource.getUnit());
-        resource.setAllocated(0);
+        resource.setAllocated(Quantity.ZERO);
         resource.setAvailable(sourceResource.getQuota());
-        resourceRepository.save(resource);
         return resource;
     }
     
@@ -70,58 +162,199 @@ public class ResourceBridgeService {
      * 내부 helper 메서드이므로 @Transactional 제거 (외부 진입점의 트랜잭션에 포함됨)
      */
     private ResourceBridge createBridge(String entityType, Long entityId, Resource resource) {
+        return createBridge(entityType, entityId, resource, null);
+    }
+    
+    private ResourceBridge createBridge(String entityType, Long entityId, Resource resource, String resourceKey) {
+        ResourceBridge bridge = newBridge(entityType, entityId, resource, resourceKey);
+        resourceBridgeRepository.persistAll(List.of(bridge));
+        return bridge;
+    }
+    
+    private ResourceBridge newBridge(String entityType, Long entityId, Resource resource, String resourceKey) {
         ResourceBridge bridge = new ResourceBridge();
+        bridge.setId(idGenerationService.generateBridgeId());
         bridge.setEntity(entityType);
         bridge.setEntityId(entityId);
         bridge.setResource(resource);
-        resourceBridgeRepository.save(bridge);
+        bridge.setResourceKey(resourceKey);
         return bridge;
     }
     
     /**
-     * Account의 기존 Resource를 찾아서 quota를 누적하거나, 없으면 새로 생성
+     * Account의 기존 Resource에 quota를 누적하거나, 없으면 새로 생성
+     * 누적은 "quota = quota + ?" 단일 UPDATE로 DB에서 수행하므로 동시 승인에서도 증가분이 유실되지 않음
+     * 변경 후 AccountResourceChangedEvent 발행 (조회 캐시 무효화 등은 커밋 이후 처리)
+     * 누적/차감은 milli 값(long)으로만 계산하므로 소수 수량도 잘리지 않고 Quantity 객체를 만들지 않음
+     * 전체 합계(capacity_aggregate)는 같은 트랜잭션의 커밋 직전에 함께 갱신
      * 
      * @param accountId Account ID
      * @param sourceResource 누적할 Resource 정보
-     * @return 기존 Resource가 있으면 기존 Resource, 없으면 새로 생성한 Resource
+     * @return 누적된(또는 생성된) account Resource ID
      */
     @Transactional
-    public Resource createOrAccumulateAccountResource(Long accountId, Resource sourceResource) {
-        // Account의 기존 Resource들을 조회
-        List<ResourceBridge> accountBridges = resourceBridgeRepository.findByEntityAndEntityId("account", accountId);
-        
-        // 같은 type, modelId, unit을 가진 Resource 찾기
-        Resource existingResource = null;
-        
-        for (ResourceBridge bridge : accountBridges) {
-            Resource resource = bridge.getResource();
-            if (isResourceMatching(resource, sourceResource)) {
-                existingResource = resource;
-                break; 
+    public Long createOrAccumulateAccountResource(Long accountId, Resource sourceResource) {
+        return accumulateAccountResource(AccountResourceKey.of(accountId, sourceResource), Quantity.milliOf(sourceResource.getQuota()));
+    }
+    
+    /**
+     * 키에 해당하는 account Resource에 delta를 누적하거나, 없으면 quota=delta로 생성
+     * 
+     * @param key (accountId, type, modelId, unit)
+     * @param delta 누적할 quota (milli)
+     * @return 누적된(또는 생성된) account Resource ID
+     */
+    @Transactional
+    public Long accumulateAccountResource(AccountResourceKey key, long delta) {
+        return accumulateAccountResource(key, delta, findAccountResourceId(key));
+    }
+    
+    /**
+     * 미리 조회한 account Resource ID로 누적 (findAccountResourceIds 결과, 없던 키는 null)
+     * 
+     * @param resourceId 키의 account Resource ID, null이면 다시 조회하고 없으면 생성
+     */
+    @Transactional
+    public Long accumulateAccountResource(AccountResourceKey key, long delta, Long resourceId) {
+        if (resourceId == null) {
+            resourceId = findAccountResourceId(key);
+        }
+        if (resourceId != null) {
+            if (resourceRepository.accumulateQuota(resourceId, delta) == 1) {
+                evictResource(resourceId);
+                accountResourceChanged(key, delta);
+                return resourceId;
             }
+            // 캐시된 Resource가 삭제된 경우
+            accountResourceIndex.evict(key);
         }
         
-        if (existingResource != null) {
-            // 기존 Resource의 quota와 available 증가
-            int newQuota = existingResource.getQuota() + sourceResource.getQuota();
-            int newAvailable = existingResource.getAvailable() + sourceResource.getQuota();
-            existingResource.setQuota(newQuota);
-            existingResource.setAvailable(newAvailable);
-            resourceRepository.save(existingResource);
-            return existingResource;
+        // 없으면 생성: bridge의 유니크 키로 동시 생성 중 하나만 성공
+        Resource resource = createResourceFromSource(sourceOf(key, delta));
+        resourceRepository.flush();
+        if (resourceBridgeRepository.insertAccountBridgeIfAbsent(
+                idGenerationService.generateBridgeId(), key.accountId(), key.toColumnValue(), resource.getId()) == 1) {
+            accountResourceIndex.putAfterCommit(key, resource.getId());
+            accountResourceChanged(key, delta);
+            return resource.getId();
+        }
+        
+        // 다른 트랜잭션이 먼저 생성함 → 방금 만든 Resource는 버리고 승자에게 누적
+        resourceRepository.delete(resource);
+        Long winnerId = resourceBridgeRepository.lockAccountResourceId(key.accountId(), key.toColumnValue());
+        if (winnerId == null) {
+            throw new IllegalStateException("account Resource bridge 생성에 실패했습니다: " + key);
+        }
+        resourceRepository.accumulateQuota(winnerId, delta);
+        evictResource(winnerId);
+        accountResourceIndex.putAfterCommit(key, winnerId);
+        accountResourceChanged(key, delta);
+        return winnerId;
+    }
+    
+    /**
+     * account Resource에서 quota를 차감 (만료 회수)
+     * available이 충분하면 조건부 UPDATE 1회로 차감하므로 행을 읽고 쓰는 사이에 잠금을 오래 잡지 않음
+     * project에 배정된 몫 때문에 available이 부족하면 available만큼만 차감하고 나머지는 부족분으로 기록 (available은 음수가 되지 않음)
+     * 
+     * @param key (accountId, type, modelId, unit)
+     * @param quota 차감할 quota (milli)
+     * @return 차감된 account Resource ID, 해당 자원이 없으면 null
+     */
+    @Transactional
+    public Long releaseAccountResource(AccountResourceKey key, long quota) {
+        Long resourceId = findAccountResourceId(key);
+        if (resourceId == null) {
+            return null;
+        }
+        if (resourceRepository.releaseQuota(resourceId, quota) == 1) {
+            evictResource(resourceId);
+            accountResourceChanged(key, -quota);
+            return resourceId;
+        }
+        Long available = resourceRepository.lockAvailable(resourceId);
+        if (available == null) {
+            accountResourceIndex.evict(key);
+            return null;
+        }
+        long released = Math.max(0, Math.min(quota, available));
+        if (released > 0 && resourceRepository.releaseQuota(resourceId, released) == 1) {
+            evictResource(resourceId);
+            accountResourceChanged(key, -released);
         } else {
-            return createResourceAndBridge("account", accountId, sourceResource);
+            released = 0;
+        }
+        long shortfall = quota - released;
+        releaseShortfall.increment(shortfall);
+        log.warn("account 자원 {}/{}의 available 부족으로 quota {} 중 {}만 회수 (부족분 {})",
+            key.accountId(), key.toColumnValue(), Quantity.ofMilli(quota), Quantity.ofMilli(released), Quantity.ofMilli(shortfall));
+        return resourceId;
+    }
+    
+    /**
+     * 수량 UPDATE(native)로 바뀐 Resource를 2차 캐시에서 제거
+     * 지금 비워 같은 트랜잭션의 다음 조회가 DB 값을 읽게 하고, 커밋 전에 다른 트랜잭션이 옛 값을 다시 넣었을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 비운다.
+     * ResourceRepository의 수량 UPDATE를 호출하는 곳은 모두 이 메서드를 함께 호출해야 한다.
+     */
+    public void evictResource(Long resourceId) {
+        entityManagerFactory.getCache().evict(Resource.class, resourceId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entityManagerFactory.getCache().evict(Resource.class, resourceId);
+                }
+            });
         }
     }
     
-   
-    private boolean isResourceMatching(Resource resource1, Resource resource2) {
-        boolean typeMatches = resource1.getType().equals(resource2.getType());
-        boolean modelIdMatches = (resource1.getModelId() == null && resource2.getModelId() == null) ||
-                                 (resource1.getModelId() != null && resource1.getModelId().equals(resource2.getModelId()));
-        boolean unitMatches = (resource1.getUnit() == null && resource2.getUnit() == null) ||
-                              (resource1.getUnit() != null && resource1.getUnit().equals(resource2.getUnit()));
-        return typeMatches && modelIdMatches && unitMatches;
+    /**
+     * quota와 available이 delta만큼 바뀐 account 자원을 합계와 이벤트에 반영
+     */
+    private void accountResourceChanged(AccountResourceKey key, long delta) {
+        capacityAggregateService.add(key, delta, delta);
+        eventPublisher.publishEvent(new AccountResourceChangedEvent(key, delta));
+    }
+    
+    private Resource sourceOf(AccountResourceKey key, long quota) {
+        Resource source = new Resource();
+        source.setType(key.type());
+        source.setModelId(key.modelId());
+        source.setUnit(key.unit());
+        source.setQuota(Quantity.ofMilli(quota));
+        return source;
+    }
+    
+    /**
+     * 키별 account Resource ID를 한 번에 조회 (없는 키는 결과에 없음)
+     * 같은 트랜잭션에서 resource_bridge를 쓰기 전에 호출해야 findResourceIdByKey 쿼리 캐시를 사용할 수 있다.
+     */
+    public Map<AccountResourceKey, Long> findAccountResourceIds(Collection<AccountResourceKey> keys) {
+        Map<AccountResourceKey, Long> resourceIds = new HashMap<>();
+        for (AccountResourceKey key : keys) {
+            Long resourceId = findAccountResourceId(key);
+            if (resourceId != null) {
+                resourceIds.put(key, resourceId);
+            }
+        }
+        return resourceIds;
+    }
+    
+    /**
+     * (accountId, type, modelId, unit)에 해당하는 account Resource ID 조회
+     * 캐시에 있으면 DB 조회 없음, 없으면 uk_resource_bridge_entity_key 인덱스 조회 1회 (쿼리 캐시)
+     */
+    private Long findAccountResourceId(AccountResourceKey key) {
+        Long cachedId = accountResourceIndex.get(key);
+        if (cachedId != null) {
+            return cachedId;
+        }
+        Long resourceId = resourceBridgeRepository
+            .findResourceIdByKey("account", key.accountId(), key.toColumnValue())
+            .orElse(null);
+        if (resourceId != null) {
+            accountResourceIndex.putAfterCommit(key, resourceId);
+        }
+        return resourceId;
     }
 }
-
@@ -0,0 +1,34 @@
+package com.example.resourcemanagement.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 요청 회수를 주기적으로 실행
+ * resource.expiry.enabled=false이면 등록되지 않음 (테스트 프로필)
+ */
+@Component
+@ConditionalOnProperty(name = "resource.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class ResourceExpiryScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(ResourceExpiryScheduler.class);
+
+	@Autowired
+	ResourceExpiryService resourceExpiryService;
+
+	@Scheduled(fixedDelayString = "${resource.expiry.interval:PT1M}", initialDelayString = "${resource.expiry.interval:PT1M}")
+	void sweep() {
+		try {
+			resourceExpiryService.expireRequests(LocalDateTime.now());
+		} catch (RuntimeException e) {
+			// 처리하지 못한 batch는 롤백되어 다음 주기에 다시 조회됨
+			log.error("만료 요청 회수 실패", e);
+		}
+	}
+}
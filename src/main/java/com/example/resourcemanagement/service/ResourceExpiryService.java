@@ -0,0 +1,127 @@
+package com.example.resourcemanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.resourcemanagement.entity.ApprovalStatus;
+import com.example.resourcemanagement.entity.ResourceAllocation;
+import com.example.resourcemanagement.entity.ResourceBridge;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+/**
+ * 만료된 자원요청 회수
+ * expires_at이 지난 approved 요청을 expired로 바꾸고 account quota에서 차감한다.
+ *
+ * - (status, expires_at, id) 인덱스를 키셋 순서로 읽어 batch-size 단위로 처리
+ * - batch마다 짧은 트랜잭션 하나: 요청 행 잠금 → 상태 변경 → account Resource 단일 UPDATE 차감 → 노드 배치 회수
+ * - 여러 노드가 동시에 돌아도 SKIP LOCKED로 서로 다른 요청을 가져감
+ */
+@Service
+public class ResourceExpiryService {
+
+	private static final Logger log = LoggerFactory.getLogger(ResourceExpiryService.class);
+
+	// 키셋 시작점 (MySQL DATETIME 최솟값)
+	private static final LocalDateTime CURSOR_START = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+	@Autowired
+	ResourceRequestRepository resourceRequestRepository;
+
+	@Autowired
+	ResourceAllocationRepository resourceAllocationRepository;
+
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+
+	@Autowired
+	ResourceBridgeService resourceBridgeService;
+
+	@Autowired
+	PlacementService placementService;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Value("${resource.expiry.batch-size:500}")
+	int batchSize;
+
+	/**
+	 * now 시점까지 만료된 요청을 모두 회수
+	 *
+	 * @return expired로 바꾼 요청 수
+	 */
+	public int expireRequests(LocalDateTime now) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Cursor cursor = new Cursor(CURSOR_START, Long.MIN_VALUE);
+		int expired = 0;
+		while (cursor != null) {
+			Cursor from = cursor;
+			BatchResult batch = transactionTemplate.execute(status -> expireBatch(now, from));
+			expired += batch.expired();
+			cursor = batch.next();
+		}
+		if (expired > 0) {
+			log.info("만료 요청 {}건 회수 (기준 시각 {})", expired, now);
+		}
+		return expired;
+	}
+
+	/**
+	 * cursor 이후의 만료 요청 batch-size건을 회수 (호출자의 트랜잭션 안에서 실행)
+	 */
+	private BatchResult expireBatch(LocalDateTime now, Cursor cursor) {
+		List<Long> ids = resourceRequestRepository.lockExpiredApprovedIds(
+			now, cursor.expiresAt(), cursor.id(), batchSize);
+		if (ids.isEmpty()) {
+			return new BatchResult(0, null);
+		}
+		List<ResourceRequest> requests = resourceRequestRepository.findWithAccountByIdIn(ids);
+		for (ResourceRequest request : requests) {
+			request.transitionTo(ApprovalStatus.expired);
+		}
+		List<Long> expiredAllocationIds = new ArrayList<>();
+		for (ResourceAllocation allocation : resourceAllocationRepository.findByResourceRequestIdIn(ids)) {
+			if (allocation.getApprovalStatus() == ApprovalStatus.approved) {
+				allocation.transitionTo(ApprovalStatus.expired);
+				expiredAllocationIds.add(allocation.getId());
+			}
+		}
+		resourceRequestRepository.flush();
+
+		// 요청 라인을 account 자원 키별로 합쳐 키당 UPDATE 1회, 승인과 같은 잠금 순서
+		Map<Long, ResourceRequest> requestsById = new TreeMap<>();
+		requests.forEach(request -> requestsById.put(request.getId(), request));
+		Map<AccountResourceKey, Long> releases = new TreeMap<>(AccountResourceKey.LOCK_ORDER);
+		for (ResourceBridge requestBridge : resourceBridgeRepository.findWithResourceByEntityAndEntityIdIn("request", ids)) {
+			ResourceRequest request = requestsById.get(requestBridge.getEntityId());
+			releases.merge(AccountResourceKey.of(request.getAccount().getId(), requestBridge.getResource()),
+				requestBridge.getResource().getQuota().milli(), Long::sum);
+		}
+		releases.forEach(resourceBridgeService::releaseAccountResource);
+		placementService.releaseAllocations(expiredAllocationIds);
+
+		ResourceRequest last = requests.get(requests.size() - 1);
+		Cursor next = ids.size() < batchSize ? null : new Cursor(last.getExpiresAt(), last.getId());
+		return new BatchResult(requests.size(), next);
+	}
+
+	private record Cursor(LocalDateTime expiresAt, Long id) {
+	}
+
+	private record BatchResult(int expired, Cursor next) {
+	}
+}
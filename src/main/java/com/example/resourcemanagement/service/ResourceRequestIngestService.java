@@ -0,0 +1,195 @@
+package com.example.resourcemanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.resourcemanagement.dto.IngestResultDto;
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.exception.AdmissionRejectedException;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON(줄 단위 JSON) 자원요청 일괄 등록
+ *
+ * 입력 전체를 메모리에 올리지 않고 Jackson 스트리밍 파서로 한 건씩 읽는다.
+ * chunk-size 건마다 트랜잭션 하나로 커밋한 뒤 해당 줄들의 결과를 바로 응답에 쓰므로
+ * 메모리 사용량은 업로드 크기와 관계없이 chunk 하나 분량으로 유지된다.
+ *
+ * - 값이 잘못된 줄은 invalid로 건너뛰고 계속 진행
+ * - account 타입별 한도를 넘는 줄은 rejected로 건너뛰고 계속 진행
+ * - JSON 문법 오류는 이후 줄 경계를 신뢰할 수 없으므로 aborted를 쓰고 중단
+ * - chunk 커밋이 실패하면 그 chunk의 줄은 모두 failed (다른 chunk에는 영향 없음)
+ */
+@Service
+public class ResourceRequestIngestService {
+
+	@Autowired
+	ResourceRequestService resourceRequestService;
+
+	@Autowired
+	AccountRepository accountRepository;
+
+	@Autowired
+	AdmissionControlService admissionControlService;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Value("${ingest.chunk-size:500}")
+	int chunkSize;
+
+	/**
+	 * @param in NDJSON 입력 (ResourceRequestDto 한 건당 한 줄)
+	 * @param out 줄별 결과(IngestResultDto)를 NDJSON으로 기록
+	 */
+	public void ingest(InputStream in, OutputStream out) throws IOException {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		List<IngestLine> chunk = new ArrayList<>(chunkSize);
+		try (JsonParser parser = objectMapper.createParser(in)) {
+			while (true) {
+				JsonNode node;
+				long line;
+				try {
+					JsonToken token = parser.nextToken();
+					if (token == null) {
+						break;
+					}
+					line = parser.getTokenLocation().getLineNr();
+					if (token != JsonToken.START_OBJECT) {
+						throw new IllegalArgumentException("JSON 객체가 아닙니다: " + token);
+					}
+					node = objectMapper.readTree(parser);
+				} catch (JsonProcessingException | IllegalArgumentException e) {
+					commitChunk(transactionTemplate, chunk, out);
+					long errorLine = parser.getCurrentLocation().getLineNr();
+					write(out, new IngestResultDto(errorLine, IngestResultDto.ABORTED, null, e.getMessage()));
+					out.flush();
+					return;
+				}
+				chunk.add(toIngestLine(line, node));
+				if (chunk.size() >= chunkSize) {
+					commitChunk(transactionTemplate, chunk, out);
+				}
+			}
+		}
+		commitChunk(transactionTemplate, chunk, out);
+	}
+
+	private IngestLine toIngestLine(long line, JsonNode node) {
+		ResourceRequestDto dto;
+		try {
+			dto = objectMapper.treeToValue(node, ResourceRequestDto.class);
+		} catch (JsonProcessingException | IllegalArgumentException e) {
+			return IngestLine.invalid(line, e.getMessage());
+		}
+		if (dto.getAccountId() == null) {
+			return IngestLine.invalid(line, "accountId가 없습니다.");
+		}
+		if (dto.getResources() == null || dto.getResources().isEmpty()) {
+			return IngestLine.invalid(line, "resources가 비어 있습니다.");
+		}
+		return new IngestLine(line, dto, null);
+	}
+
+	private void commitChunk(TransactionTemplate transactionTemplate, List<IngestLine> chunk, OutputStream out)
+			throws IOException {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		// 한도 확인은 줄마다 한 번, chunk 트랜잭션을 열기 전에 (거절된 줄은 트랜잭션에 들어가지 않음)
+		for (int i = 0; i < chunk.size(); i++) {
+			IngestLine ingestLine = chunk.get(i);
+			if (ingestLine.result() != null) {
+				continue;
+			}
+			try {
+				admissionControlService.checkCreate(ingestLine.dto());
+			} catch (AdmissionRejectedException e) {
+				chunk.set(i, new IngestLine(ingestLine.line(), null,
+					new IngestResultDto(ingestLine.line(), IngestResultDto.REJECTED, null, e.getMessage())));
+			}
+		}
+		List<IngestResultDto> results;
+		try {
+			results = transactionTemplate.execute(status -> createChunk(chunk));
+		} catch (RuntimeException e) {
+			results = new ArrayList<>(chunk.size());
+			for (IngestLine ingestLine : chunk) {
+				results.add(ingestLine.result() != null ? ingestLine.result()
+					: new IngestResultDto(ingestLine.line(), IngestResultDto.FAILED, null, e.getMessage()));
+			}
+		}
+		for (IngestResultDto result : results) {
+			write(out, result);
+		}
+		out.flush();
+		chunk.clear();
+	}
+
+	/**
+	 * chunk 안의 요청을 생성 (호출자의 트랜잭션 안에서 실행)
+	 * Account는 chunk당 한 번에 조회
+	 */
+	private List<IngestResultDto> createChunk(List<IngestLine> chunk) {
+		List<Long> accountIds = chunk.stream()
+			.filter(ingestLine -> ingestLine.result() == null)
+			.map(ingestLine -> ingestLine.dto().getAccountId())
+			.distinct()
+			.toList();
+		Map<Long, Account> accounts = accountRepository.findAllById(accountIds).stream()
+			.collect(Collectors.toMap(Account::getId, Function.identity()));
+
+		List<IngestResultDto> results = new ArrayList<>(chunk.size());
+		for (IngestLine ingestLine : chunk) {
+			if (ingestLine.result() != null) {
+				results.add(ingestLine.result());
+				continue;
+			}
+			Account account = accounts.get(ingestLine.dto().getAccountId());
+			if (account == null) {
+				results.add(new IngestResultDto(ingestLine.line(), IngestResultDto.INVALID, null, "Account not found"));
+				continue;
+			}
+			// 한도는 commitChunk에서 이미 확인 (다시 확인하지 않는 생성 경로)
+			List<Long> requestIds = resourceRequestService.createResourceRequest(account, ingestLine.dto());
+			results.add(new IngestResultDto(ingestLine.line(), IngestResultDto.CREATED, requestIds, null));
+		}
+		return results;
+	}
+
+	private void write(OutputStream out, IngestResultDto result) throws IOException {
+		out.write(objectMapper.writeValueAsBytes(result));
+		out.write('\n');
+	}
+
+	/**
+	 * @param result 트랜잭션 전에 정해진 결과 (invalid, rejected), 생성할 줄은 null
+	 */
+	private record IngestLine(long line, ResourceRequestDto dto, IngestResultDto result) {
+
+		static IngestLine invalid(long line, String message) {
+			return new IngestLine(line, null, new IngestResultDto(line, IngestResultDto.INVALID, null, message));
+		}
+	}
+}
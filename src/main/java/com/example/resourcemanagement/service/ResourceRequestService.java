@@ -1,19 +1,28 @@
 package com.example.resourcemanagement.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.resourcemanagement.dto.KeysetPageDto;
+import com.example.resourcemanagement.dto.ResourceListQueryDto;
 import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.dto.ResourceRequestSummaryDto;
 import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.ApprovalStatus;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceAllocation;
 import com.example.resourcemanagement.entity.ResourceBridge;
 import com.example.resourcemanagement.entity.ResourceRequest;
 import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.exception.AdmissionRejectedException;
 import com.example.resourcemanagement.repository.AccountRepository;
 import com.example.resourcemanagement.repository.ResourceAllocationRepository;
 import com.example.resourcemanagement.repository.ResourceBridgeRepository;
@@ -45,27 +54,72 @@ public class ResourceRequestService {
 	@Autowired
 	ResourceAllocationRepository resourceAllocationRepository;
 	
+	@Autowired
+	AdmissionControlService admissionControlService;
+	
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	
+	/**
+	 * 자원요청 생성
+	 * account 타입별 한도는 트랜잭션을 열기 전에 메모리 카운터로 확인하므로, 넘으면 DB 작업 없이 거절
+	 * 
+	 * @return 생성된 ResourceRequest ID 목록 (리소스 라인 순서)
+	 * @throws AdmissionRejectedException 한도를 넘을 때
+	 */
+    public List<Long> createResourceRequest(ResourceRequestDto dto) {
+        admissionControlService.checkCreate(dto);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            // 1. Account 조회
+            Account account = accountRepository.findById(dto.getAccountId())
+                .orElseThrow(() -> new IllegalArgumentException("Account not found"));
+            return createResourceRequest(account, dto);
+        });
+    }
+	
+	/**
+	 * 이미 조회한 Account로 자원요청 생성 (호출자의 트랜잭션에 포함됨)
+	 * 한도는 확인하지 않는다. 호출자가 트랜잭션 전에 AdmissionControlService.checkCreate로 한 번 확인한다.
+	 * (createResourceRequest(dto), NDJSON 일괄 등록, Idempotency-Key 등록)
+	 * 
+	 * @return 생성된 ResourceRequest ID 목록 (리소스 라인 순서)
+	 */
 	@Transactional
-    public void createResourceRequest(ResourceRequestDto dto) {
-        // 1. Account 조회
-        Account account = accountRepository.findById(dto.getAccountId())
-            .orElseThrow(() -> new IllegalArgumentException("Account not found"));
-        
-        // 2. ResourceRequest 생성 (ID: 10~99)
-        // 3. 여러 개의 리소스를 순회하며 처리
-        
+    public List<Long> createResourceRequest(Account account, ResourceRequestDto dto) {
+        // 2. 리소스 라인마다 ResourceRequest 생성 (ID는 메모리 블록에서 미리 할당)
+        List<ResourceRequest> resourceRequests = new ArrayList<>(dto.getResources().size());
+        List<Long> requestIds = new ArrayList<>(dto.getResources().size());
         for(Resource resourceDto:dto.getResources()) {
         ResourceRequest resourceRequest = new ResourceRequest();
         Long requestId = idGenerationService.generateRequestId();
-        resourceRequest.setStatus("required");
+        resourceRequest.setStatus(ApprovalStatus.required.name());
         resourceRequest.setId(requestId);
         resourceRequest.setAccount(account);
         resourceRequest.setRequestedAt(dto.getActivatedAt());
         resourceRequest.setExpiresAt(dto.getExpiredAt());
-        resourceRequestRepository.save(resourceRequest);
-        resourceBridgeService.createResourceAndBridge("request", requestId, resourceDto);
+        resourceRequests.add(resourceRequest);
+        requestIds.add(requestId);
         }
-
+        
+        // 3. request, resource, bridge 순으로 모아서 저장 → commit 시 테이블별 배치 INSERT
+        resourceRequestRepository.saveAll(resourceRequests);
+        resourceBridgeService.createResourcesAndBridges("request", requestIds, dto.getResources());
+        admissionControlService.rememberRequests(account.getId(), requestIds, dto.getResources());
+        return requestIds;
         
     }
+	
+	/**
+	 * ResourceRequest 목록 (requestedAt, id 순 키셋 페이지)
+	 */
+	public KeysetPageDto<ResourceRequestSummaryDto> listResourceRequests(ResourceListQueryDto query) {
+		int size = query.pageSize();
+		List<ResourceRequestSummaryDto> rows = resourceRequestRepository.findPage(
+			query.getAccountId(), query.getStatus(),
+			query.getRequestedFrom(), query.getRequestedTo(),
+			query.getExpiresFrom(), query.getExpiresTo(),
+			query.getAfterRequestedAt(), query.getAfterId(),
+			PageRequest.ofSize(size + 1));
+		return KeysetPageDto.of(rows, size, ResourceRequestSummaryDto::getRequestedAt, ResourceRequestSummaryDto::getId);
+	}
 }
@@ -0,0 +1,43 @@
+package com.example.resourcemanagement.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용량 변화량 주기적 반영과 오래된 반영 기록 삭제
+ * metering.flush.enabled=false이면 등록되지 않음 (테스트 프로필)
+ */
+@Component
+@ConditionalOnProperty(name = "metering.flush.enabled", havingValue = "true", matchIfMissing = true)
+public class UsageFlushScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(UsageFlushScheduler.class);
+
+	@Autowired
+	UsageMeteringService usageMeteringService;
+
+	@Scheduled(fixedDelayString = "${metering.flush.interval:PT1S}", initialDelayString = "${metering.flush.interval:PT1S}")
+	void flush() {
+		try {
+			usageMeteringService.flush();
+		} catch (RuntimeException e) {
+			// 반영하지 못한 segment는 journal과 메모리에 남아 다음 주기에 재시도
+			log.error("사용량 반영 실패", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${metering.flush-record.purge-interval:PT1H}", initialDelayString = "${metering.flush-record.purge-interval:PT1H}")
+	void purge() {
+		try {
+			usageMeteringService.purgeFlushRecords(LocalDateTime.now());
+		} catch (RuntimeException e) {
+			log.error("사용량 반영 기록 삭제 실패", e);
+		}
+	}
+}
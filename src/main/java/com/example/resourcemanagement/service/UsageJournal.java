@@ -0,0 +1,199 @@
+package com.example.resourcemanagement.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import com.example.resourcemanagement.entity.ResourceType;
+
+/**
+ * 사용량 보고 append-only 로컬 journal
+ * 파일 하나가 flush 단위(segment)이며, DB 반영이 커밋된 segment만 지운다.
+ *
+ * - 보고 1건(여러 키의 변화량)을 frame 하나로 기록: [내용 길이][CRC32][내용]
+ * - 기록 도중 죽어 잘린 마지막 frame은 길이/CRC로 걸러 버림 (응답하지 않은 보고이므로 유실이 아님)
+ * - segment ID는 파일 이름이며 usage_flush_record의 키로도 쓰여 같은 segment가 두 번 반영되지 않는다.
+ */
+final class UsageJournal {
+
+	private static final String SUFFIX = ".journal";
+
+	private final Path directory;
+
+	// true면 append가 디스크 기록(fsync)까지 기다림
+	private final boolean sync;
+
+	UsageJournal(Path directory, boolean sync) {
+		this.directory = directory;
+		this.sync = sync;
+	}
+
+	/**
+	 * 아직 지워지지 않은 segment (재시작 시 다시 반영할 대상)
+	 */
+	List<Path> existingSegments() throws IOException {
+		Files.createDirectories(directory);
+		List<Path> segments = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+			for (Path file : files) {
+				segments.add(file);
+			}
+		}
+		segments.sort(null);
+		return segments;
+	}
+
+	Segment create() throws IOException {
+		Files.createDirectories(directory);
+		// 이름 순서 = 생성 순서 (다른 노드와 겹치지 않도록 UUID를 붙임)
+		String id = String.format("%016x-%s", System.currentTimeMillis(), UUID.randomUUID());
+		Path path = directory.resolve(id + SUFFIX);
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		return new Segment(id, path, channel);
+	}
+
+	static String segmentId(Path path) {
+		String name = path.getFileName().toString();
+		return name.substring(0, name.length() - SUFFIX.length());
+	}
+
+	/**
+	 * segment의 키별 변화량 합 (milli)
+	 * 잘리거나 깨진 frame을 만나면 거기서 멈춤
+	 */
+	static Map<AccountResourceKey, Long> read(Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+		Map<AccountResourceKey, Long> deltas = new HashMap<>();
+		while (buffer.remaining() >= 2 * Integer.BYTES) {
+			int length = buffer.getInt();
+			int crc = buffer.getInt();
+			if (length < 0 || length > buffer.remaining()) {
+				break;
+			}
+			byte[] payload = new byte[length];
+			buffer.get(payload);
+			if (crc != crc(payload)) {
+				break;
+			}
+			decode(payload, deltas);
+		}
+		return deltas;
+	}
+
+	private static void decode(byte[] payload, Map<AccountResourceKey, Long> deltas) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			Long accountId = in.readLong();
+			ResourceType type = ResourceType.valueOf(in.readUTF());
+			String modelId = in.readBoolean() ? in.readUTF() : null;
+			String unit = in.readBoolean() ? in.readUTF() : null;
+			long delta = in.readLong();
+			deltas.merge(new AccountResourceKey(accountId, type, modelId, unit), delta, Long::sum);
+		}
+	}
+
+	private static byte[] encode(Map<AccountResourceKey, Long> deltas) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 * deltas.size() + 4);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(deltas.size());
+			for (Map.Entry<AccountResourceKey, Long> entry : deltas.entrySet()) {
+				AccountResourceKey key = entry.getKey();
+				out.writeLong(key.accountId());
+				out.writeUTF(key.type().name());
+				writeNullable(out, key.modelId());
+				writeNullable(out, key.unit());
+				out.writeLong(entry.getValue());
+			}
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			// 메모리 스트림이므로 발생하지 않음
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void writeNullable(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static int crc(byte[] payload) {
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * 기록 중인 segment 파일
+	 */
+	final class Segment implements Closeable {
+
+		private final String id;
+		private final Path path;
+		private final FileChannel channel;
+
+		private Segment(String id, Path path, FileChannel channel) {
+			this.id = id;
+			this.path = path;
+			this.channel = channel;
+		}
+
+		String id() {
+			return id;
+		}
+
+		Path path() {
+			return path;
+		}
+
+		/**
+		 * 보고 1건을 frame 하나로 기록 (sync면 디스크에 닿을 때까지 대기)
+		 * 여러 스레드가 동시에 호출해도 frame이 섞이지 않으며, fsync는 잠금 밖에서 기다린다.
+		 */
+		void append(Map<AccountResourceKey, Long> deltas) throws IOException {
+			byte[] payload = encode(deltas);
+			ByteBuffer frame = ByteBuffer.allocate(2 * Integer.BYTES + payload.length);
+			frame.putInt(payload.length).putInt(crc(payload)).put(payload).flip();
+			synchronized (this) {
+				long start = channel.size();
+				try {
+					while (frame.hasRemaining()) {
+						channel.write(frame);
+					}
+				} catch (IOException e) {
+					// 반쯤 쓴 frame 뒤에 다음 frame이 붙으면 재시작 시 그 뒤를 읽지 못하므로 잘라냄
+					channel.truncate(start);
+					throw e;
+				}
+			}
+			if (sync) {
+				channel.force(false);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,312 @@
+package com.example.resourcemanagement.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.resourcemanagement.dto.UsageReportDto;
+import com.example.resourcemanagement.exception.InsufficientQuotaException;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.UsageFlushRecordRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 사용량 보고 (POST /usage) → account Resource used
+ * 에이전트가 보내는 사용 시작/반납 변화량을 메모리에서 모아 주기적으로 한 번에 반영한다.
+ *
+ * - 보고: journal에 frame 1개 기록 후 키별 LongAdder에 더함 (DB 접근은 키 → Resource ID 캐시 미스일 때만)
+ * - flush: 현재 세대(journal segment + LongAdder)를 새 세대로 바꾸고, 이전 세대를 트랜잭션 하나로 반영 (키마다 UPDATE 1회, LOCK_ORDER 순서)
+ * - 반영과 같은 트랜잭션에 segment ID를 기록하고 커밋 후 파일을 지움
+ *   재시작 시 남은 segment를 다시 읽어 반영하며, 이미 기록된 segment는 건너뜀
+ * - 반영 실패한 segment는 파일과 메모리에 남겨 다음 flush에서 재시도
+ * - used만 바꾸고 allocated(project quota 합)/available과 전체 합계는 그대로 둔다.
+ */
+@Service
+public class UsageMeteringService {
+
+	private static final Logger log = LoggerFactory.getLogger(UsageMeteringService.class);
+
+	@Autowired
+	ResourceRepository resourceRepository;
+
+	@Autowired
+	ResourceBridgeRepository resourceBridgeRepository;
+
+	@Autowired
+	UsageFlushRecordRepository usageFlushRecordRepository;
+
+	@Autowired
+	AccountResourceIndex accountResourceIndex;
+
+	@Autowired
+	ResourceBridgeService resourceBridgeService;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Value("${metering.journal.dir:usage-journal}")
+	String journalDir;
+
+	@Value("${metering.journal.sync:true}")
+	boolean journalSync;
+
+	@Value("${metering.flush-record.retention:P7D}")
+	Duration flushRecordRetention;
+
+	// 보고는 read 잠금으로 동시에, 세대 교체만 write 잠금
+	private final ReentrantReadWriteLock rotation = new ReentrantReadWriteLock();
+
+	private UsageJournal journal;
+
+	private volatile Generation current;
+
+	// 아직 DB에 반영하지 못한 이전 세대 (flush 안에서만 접근)
+	private final Deque<PendingSegment> pending = new ArrayDeque<>();
+
+	private final AtomicInteger pendingSegments = new AtomicInteger();
+
+	private Counter reported;
+
+	@PostConstruct
+	void init() throws IOException {
+		reported = Counter.builder("metering.reported")
+				.description("journal에 기록한 키별 사용량 변화 수")
+				.register(meterRegistry);
+		Gauge.builder("metering.pending.segments", pendingSegments, AtomicInteger::get)
+				.description("DB에 반영하지 못한 journal segment 수")
+				.register(meterRegistry);
+		openJournal();
+	}
+
+	/**
+	 * journal을 열고 남아 있는 segment를 반영 대상으로 적재 (다음 flush에서 반영)
+	 * 메모리에 있던 세대는 반영하지 않고 버리므로, 다시 호출하면 비정상 종료 후 재시작과 같다.
+	 */
+	synchronized void openJournal() throws IOException {
+		if (current != null) {
+			current.segment().close();
+		}
+		journal = new UsageJournal(Path.of(journalDir), journalSync);
+		pending.clear();
+		for (Path path : journal.existingSegments()) {
+			pending.addLast(new PendingSegment(UsageJournal.segmentId(path), path, UsageJournal.read(path)));
+		}
+		pendingSegments.set(pending.size());
+		if (!pending.isEmpty()) {
+			log.info("사용량 journal segment {}개를 다시 반영합니다. ({})", pending.size(), journalDir);
+		}
+		current = new Generation(journal.create(), new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * 사용량 변화 보고 (DB 반영은 다음 flush)
+	 * journal 기록이 끝난 뒤 반환하므로 반환된 보고는 재시작해도 반영된다.
+	 *
+	 * @return 기록한 키 수 (같은 키는 합산, 합이 0이면 제외)
+	 * @throws InsufficientQuotaException account에 보고한 자원 키가 없을 때 (아무것도 기록하지 않음)
+	 */
+	public int report(List<UsageReportDto> reports) {
+		Map<AccountResourceKey, Long> deltas = new HashMap<>();
+		for (UsageReportDto report : reports) {
+			if (report.getAccountId() == null || report.getType() == null || report.getDelta() == null) {
+				throw new IllegalArgumentException("accountId, type, delta는 필수입니다.");
+			}
+			AccountResourceKey key = new AccountResourceKey(report.getAccountId(), report.getType(), report.getModelId(), report.getUnit());
+			deltas.merge(key, report.getDelta().milli(), Long::sum);
+		}
+		deltas.values().removeIf(delta -> delta == 0);
+		if (deltas.isEmpty()) {
+			return 0;
+		}
+		for (AccountResourceKey key : deltas.keySet()) {
+			if (resolveResourceId(key) == null) {
+				throw new InsufficientQuotaException("account에 " + key.toColumnValue() + " 자원이 없습니다.");
+			}
+		}
+
+		rotation.readLock().lock();
+		try {
+			Generation generation = current;
+			generation.segment().append(deltas);
+			deltas.forEach((key, delta) -> generation.deltas().computeIfAbsent(key, k -> new LongAdder()).add(delta));
+		} catch (IOException e) {
+			throw new UncheckedIOException("사용량 journal 기록 실패", e);
+		} finally {
+			rotation.readLock().unlock();
+		}
+		reported.increment(deltas.size());
+		return deltas.size();
+	}
+
+	/**
+	 * 모인 변화량을 DB에 반영
+	 *
+	 * @return 반영하고 지운 segment 수
+	 */
+	public synchronized int flush() {
+		if (!current.deltas().isEmpty()) {
+			rotate();
+		}
+		int flushed = 0;
+		while (!pending.isEmpty()) {
+			PendingSegment segment = pending.peekFirst();
+			try {
+				new TransactionTemplate(transactionManager).executeWithoutResult(status -> apply(segment));
+				Files.deleteIfExists(segment.path());
+			} catch (RuntimeException | IOException e) {
+				// 커밋 후 파일 삭제만 실패했다면 다음 시도에서 usage_flush_record로 걸러짐
+				log.error("사용량 segment {} 반영 실패 (다음 flush에서 재시도)", segment.id(), e);
+				break;
+			}
+			pending.removeFirst();
+			flushed++;
+		}
+		pendingSegments.set(pending.size());
+		return flushed;
+	}
+
+	/**
+	 * 보존 기간이 지난 반영 기록 삭제 (재시작 시 남은 segment는 그보다 최근이어야 함)
+	 */
+	public int purgeFlushRecords(LocalDateTime now) {
+		Integer deleted = new TransactionTemplate(transactionManager)
+				.execute(status -> usageFlushRecordRepository.deleteFlushedBefore(now.minus(flushRecordRetention)));
+		return deleted == null ? 0 : deleted;
+	}
+
+	/**
+	 * 종료 전에 남은 변화량 반영 (실패하면 journal에 남아 재시작 시 반영)
+	 */
+	@PreDestroy
+	synchronized void close() throws IOException {
+		flush();
+		current.segment().close();
+	}
+
+	/**
+	 * 새 세대로 교체하고 이전 세대를 반영 대상에 추가
+	 * write 잠금을 잡은 뒤에는 이전 세대에 기록 중인 보고가 없으므로 LongAdder 합이 확정된다.
+	 */
+	private void rotate() {
+		UsageJournal.Segment next;
+		try {
+			next = journal.create();
+		} catch (IOException e) {
+			throw new UncheckedIOException("사용량 journal segment 생성 실패", e);
+		}
+		Generation previous;
+		rotation.writeLock().lock();
+		try {
+			previous = current;
+			current = new Generation(next, new ConcurrentHashMap<>());
+		} finally {
+			rotation.writeLock().unlock();
+		}
+		try {
+			previous.segment().close();
+		} catch (IOException e) {
+			log.warn("사용량 journal segment {} 닫기 실패", previous.segment().id(), e);
+		}
+		Map<AccountResourceKey, Long> deltas = new HashMap<>();
+		previous.deltas().forEach((key, adder) -> {
+			long delta = adder.sum();
+			if (delta != 0) {
+				deltas.put(key, delta);
+			}
+		});
+		pending.addLast(new PendingSegment(previous.segment().id(), previous.segment().path(), deltas));
+	}
+
+	private void apply(PendingSegment segment) {
+		if (segment.deltas().isEmpty()) {
+			return;
+		}
+		if (usageFlushRecordRepository.insertIfAbsent(segment.id(), LocalDateTime.now()) == 0) {
+			log.info("사용량 segment {}는 이미 반영됨", segment.id());
+			return;
+		}
+		List<AccountResourceKey> keys = new ArrayList<>(segment.deltas().keySet());
+		keys.sort(AccountResourceKey.LOCK_ORDER);
+		for (AccountResourceKey key : keys) {
+			long delta = segment.deltas().get(key);
+			if (!meter(key, delta)) {
+				log.warn("account 자원 {}/{}가 없어 사용량 변화 {}를 버립니다.", key.accountId(), key.toColumnValue(), delta);
+				continue;
+			}
+			// quota/available은 그대로 (자원 현황 조회 캐시 무효화는 커밋 이후)
+			eventPublisher.publishEvent(new AccountResourceChangedEvent(key, 0, 0));
+		}
+	}
+
+	private boolean meter(AccountResourceKey key, long delta) {
+		Long resourceId = resolveResourceId(key);
+		if (resourceId == null || resourceRepository.meterUsed(resourceId, delta) == 0) {
+			// 캐시된 ID의 Resource가 없으면 DB 인덱스로 다시 조회
+			accountResourceIndex.evict(key);
+			resourceId = resolveResourceId(key);
+			if (resourceId == null || resourceRepository.meterUsed(resourceId, delta) == 0) {
+				return false;
+			}
+		}
+		resourceBridgeService.evictResource(resourceId);
+		return true;
+	}
+
+	private Long resolveResourceId(AccountResourceKey key) {
+		Long resourceId = accountResourceIndex.get(key);
+		if (resourceId != null) {
+			return resourceId;
+		}
+		resourceId = resourceBridgeRepository.findResourceIdByKey("account", key.accountId(), key.toColumnValue()).orElse(null);
+		if (resourceId != null) {
+			accountResourceIndex.putAfterCommit(key, resourceId);
+		}
+		return resourceId;
+	}
+
+	/**
+	 * 기록 중인 segment와 메모리 누적값 (같은 보고가 둘 다에 들어감)
+	 */
+	private record Generation(UsageJournal.Segment segment, ConcurrentHashMap<AccountResourceKey, LongAdder> deltas) {
+	}
+
+	/**
+	 * DB 반영을 기다리는 segment
+	 */
+	private record PendingSegment(String id, Path path, Map<AccountResourceKey, Long> deltas) {
+	}
+}
@@ -0,0 +1,64 @@
+-- 기본 스키마 (V1 이전 엔티티 구조)
+-- 빈 DB에서 V1~부터 적용할 수 있도록 처음 테이블을 만든다.
+-- 이미 테이블이 있는 DB는 baseline(0) 후 이 스크립트가 실행되지만 IF NOT EXISTS로 그대로 둔다.
+CREATE TABLE IF NOT EXISTS account (
+    id    BIGINT       NOT NULL AUTO_INCREMENT,
+    name  VARCHAR(255) NULL,
+    admin VARCHAR(255) NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS resource (
+    id        BIGINT                                   NOT NULL,
+    type      ENUM ('cpu', 'memory', 'gpu', 'storage') NOT NULL,
+    model_id  VARCHAR(255)                             NULL,
+    quota     INT                                      NOT NULL,
+    allocated INT                                      NOT NULL,
+    unit      VARCHAR(255)                             NOT NULL,
+    available INT                                      NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS project (
+    id          BIGINT                                   NOT NULL,
+    name        VARCHAR(255)                             NULL,
+    admin       VARCHAR(255)                             NULL,
+    unit        VARCHAR(255)                             NULL,
+    account_id  BIGINT                                   NULL,
+    resource_id BIGINT                                   NULL,
+    type        ENUM ('cpu', 'memory', 'gpu', 'storage') NOT NULL,
+    model_id    VARCHAR(255)                             NULL,
+    quota       INT                                      NOT NULL,
+    allocated   INT                                      NOT NULL,
+    available   INT                                      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_project_account FOREIGN KEY (account_id) REFERENCES account (id),
+    CONSTRAINT fk_project_resource FOREIGN KEY (resource_id) REFERENCES resource (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS resource_request (
+    id           BIGINT       NOT NULL,
+    requested_at DATETIME(6)  NOT NULL,
+    expires_at   DATETIME(6)  NULL,
+    status       VARCHAR(255) NULL,
+    account_id   BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_resource_request_account FOREIGN KEY (account_id) REFERENCES account (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS resource_allocation (
+    id                  BIGINT       NOT NULL,
+    status              VARCHAR(255) NULL,
+    resource_request_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_resource_allocation_request FOREIGN KEY (resource_request_id) REFERENCES resource_request (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS resource_bridge (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    entity      VARCHAR(255) NULL,
+    entity_id   BIGINT       NULL,
+    resource_id BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_resource_bridge_resource FOREIGN KEY (resource_id) REFERENCES resource (id)
+) ENGINE = InnoDB;
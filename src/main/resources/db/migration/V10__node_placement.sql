@@ -0,0 +1,23 @@
+-- 노드 인벤토리와 allocation 배치 기록
+-- 노드 용량은 resource 행으로 두고 resource_bridge(entity = 'node', resource_key = type|modelId|unit)로 연결한다.
+CREATE TABLE IF NOT EXISTS node (
+    id   BIGINT       NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS placement (
+    id               BIGINT       NOT NULL,
+    allocation_id    BIGINT       NOT NULL,
+    resource_id      BIGINT       NOT NULL,
+    node_id          BIGINT       NOT NULL,
+    node_resource_id BIGINT       NOT NULL,
+    resource_key     VARCHAR(255) NOT NULL,
+    quantity         INT          NOT NULL,
+    placed_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    -- 같은 allocation 라인은 한 번만 배치
+    UNIQUE KEY uk_placement_resource (resource_id),
+    INDEX idx_placement_allocation (allocation_id),
+    INDEX idx_placement_node (node_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,26 @@
+-- 수량을 고정 소수점(선언된 unit의 1/1000)으로 저장
+-- 0.5 core, 1.5 GB 같은 소수 요청이 잘리지 않도록 정수 unit 값을 milli 값(BIGINT)으로 바꾼다.
+ALTER TABLE resource
+    MODIFY quota     BIGINT NOT NULL,
+    MODIFY allocated BIGINT NOT NULL,
+    MODIFY available BIGINT NOT NULL;
+
+UPDATE resource
+   SET quota = quota * 1000, allocated = allocated * 1000, available = available * 1000;
+
+ALTER TABLE project
+    MODIFY quota     BIGINT NOT NULL,
+    MODIFY allocated BIGINT NOT NULL,
+    MODIFY available BIGINT NOT NULL;
+
+UPDATE project
+   SET quota = quota * 1000, allocated = allocated * 1000, available = available * 1000;
+
+ALTER TABLE placement
+    MODIFY quantity BIGINT NOT NULL;
+
+UPDATE placement
+   SET quantity = quantity * 1000;
+
+UPDATE capacity_aggregate
+   SET quota = quota * 1000, allocated = allocated * 1000, available = available * 1000;
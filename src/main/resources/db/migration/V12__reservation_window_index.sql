@@ -0,0 +1,2 @@
+-- account별 예약 구간 색인 적재 (승인된 allocation의 requested_at/expires_at)
+CREATE INDEX idx_resource_allocation_account_status_expires ON resource_allocation (account_id, status, expires_at);
@@ -0,0 +1,7 @@
+-- 사용량 journal segment 반영 기록 (재시작 시 같은 segment를 두 번 더하지 않도록)
+CREATE TABLE IF NOT EXISTS usage_flush_record (
+    segment_id VARCHAR(64) NOT NULL,
+    flushed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (segment_id),
+    INDEX idx_usage_flush_record_flushed (flushed_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+-- 보고된 사용량(POST /usage)을 allocated와 분리
+-- allocated는 project quota의 합으로만 유지하고, 사용량은 used에 따로 누적한다.
+ALTER TABLE resource ADD COLUMN used BIGINT NOT NULL DEFAULT 0;
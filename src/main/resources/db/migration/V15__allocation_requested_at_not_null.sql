@@ -0,0 +1,8 @@
+-- 할당 목록 키셋 (requested_at, id)의 requested_at을 NOT NULL로
+-- NULL이면 다음 페이지 커서가 (null, id)가 되어 첫 페이지부터 다시 읽으므로, V8 이후 값이 빠진 행을 다시 채운 뒤 제약을 건다.
+UPDATE resource_allocation a
+  JOIN resource_request r ON r.id = a.resource_request_id
+   SET a.requested_at = r.requested_at
+ WHERE a.requested_at IS NULL;
+
+ALTER TABLE resource_allocation MODIFY requested_at DATETIME(6) NOT NULL;
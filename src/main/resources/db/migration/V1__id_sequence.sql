@@ -0,0 +1,7 @@
+-- IdGenerationService 블록 임대용 시퀀스 테이블
+-- 시퀀스 행은 첫 임대 시 기존 테이블의 MAX(id) + 1로 초기화되므로 별도 시드가 필요 없다.
+CREATE TABLE IF NOT EXISTS id_sequence (
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
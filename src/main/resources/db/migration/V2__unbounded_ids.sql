@@ -0,0 +1,22 @@
+-- 엔티티별 고정 ID 범위(Account 1~9, ResourceRequest 10~99, Resource 100~999,
+-- ResourceAllocation 1000~9999) 제거
+--
+-- 기존 ID는 그대로 유지된다. 각 엔티티는 자기 테이블의 MAX(id) + 1부터 BIGINT 전체를 사용하며,
+-- 예전 범위는 모두 새 ID 공간의 앞부분이므로 기존 행과 충돌하지 않는다.
+
+-- ID 및 참조 컬럼을 BIGINT로 통일 (이미 BIGINT면 변경 없음)
+ALTER TABLE account             MODIFY id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE resource_request    MODIFY id BIGINT NOT NULL;
+ALTER TABLE resource            MODIFY id BIGINT NOT NULL;
+ALTER TABLE resource_allocation MODIFY id BIGINT NOT NULL;
+ALTER TABLE resource_bridge     MODIFY entity_id BIGINT;
+
+-- 시퀀스를 기존 최대값 다음으로 맞춤 (이미 있는 행은 그대로 둠)
+INSERT IGNORE INTO id_sequence (name, next_val)
+    SELECT 'resource_request', COALESCE(MAX(id), 0) + 1 FROM resource_request;
+INSERT IGNORE INTO id_sequence (name, next_val)
+    SELECT 'resource', COALESCE(MAX(id), 0) + 1 FROM resource;
+INSERT IGNORE INTO id_sequence (name, next_val)
+    SELECT 'resource_allocation', COALESCE(MAX(id), 0) + 1 FROM resource_allocation;
+-- 이전 버전이 임대해 둔 Account 시퀀스는 더 이상 사용하지 않음
+DELETE FROM id_sequence WHERE name = 'account';
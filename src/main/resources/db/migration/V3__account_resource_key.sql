@@ -0,0 +1,15 @@
+-- account 자원 키 인덱스
+-- createOrAccumulateAccountResource가 account의 모든 bridge를 훑지 않고
+-- (entity, entity_id, resource_key) 인덱스로 한 번에 찾도록 함
+ALTER TABLE resource_bridge ADD COLUMN resource_key VARCHAR(255) NULL;
+
+-- 기존 account bridge 채우기 (AccountResourceKey.toColumnValue()와 같은 형식)
+UPDATE resource_bridge b
+  JOIN resource r ON r.id = b.resource_id
+   SET b.resource_key = CONCAT(r.type, '|', COALESCE(r.model_id, ''), '|', COALESCE(r.unit, ''))
+ WHERE b.entity = 'account';
+
+-- 같은 키가 중복된 account 자원이 있으면 인덱스 생성 전에 합쳐야 한다.
+--   SELECT entity_id, resource_key, COUNT(*) FROM resource_bridge
+--    WHERE entity = 'account' GROUP BY entity_id, resource_key HAVING COUNT(*) > 1;
+CREATE UNIQUE INDEX uk_resource_bridge_entity_key ON resource_bridge (entity, entity_id, resource_key);
@@ -0,0 +1,6 @@
+-- 승인 상태 머신: optimistic locking용 version 컬럼
+ALTER TABLE resource_request ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE resource_allocation ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- allocation 상태를 ApprovalStatus 값으로 통일
+UPDATE resource_allocation SET status = 'approved' WHERE status = 'ACTIVE';
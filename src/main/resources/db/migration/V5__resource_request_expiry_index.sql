@@ -0,0 +1,3 @@
+-- 만료 회수 키셋 조회용 인덱스
+-- WHERE status = 'approved' AND expires_at <= ? ORDER BY expires_at, id
+CREATE INDEX idx_resource_request_status_expires ON resource_request (status, expires_at, id);
@@ -0,0 +1,5 @@
+-- ResourceBridge ID를 IdGenerationService가 미리 할당하도록 변경 (IDENTITY 제거 → JDBC 배치 INSERT 가능)
+ALTER TABLE resource_bridge MODIFY id BIGINT NOT NULL;
+
+INSERT IGNORE INTO id_sequence (name, next_val)
+    SELECT 'resource_bridge', COALESCE(MAX(id), 0) + 1 FROM resource_bridge;
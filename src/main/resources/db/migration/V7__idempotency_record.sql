@@ -0,0 +1,9 @@
+-- POST /resource-requests Idempotency-Key 기록
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    idempotency_key VARCHAR(128) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_record_expires (expires_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,18 @@
+-- 요청/할당 목록 키셋 조회 (requested_at, id)
+
+-- allocation에 account_id/requested_at/expires_at을 복사해 ResourceRequest 조인 없이 필터링
+ALTER TABLE resource_allocation
+    ADD COLUMN account_id   BIGINT      NULL,
+    ADD COLUMN requested_at DATETIME(6) NULL,
+    ADD COLUMN expires_at   DATETIME(6) NULL;
+
+UPDATE resource_allocation a
+  JOIN resource_request r ON r.id = a.resource_request_id
+   SET a.account_id = r.account_id,
+       a.requested_at = r.requested_at,
+       a.expires_at = r.expires_at;
+
+CREATE INDEX idx_resource_request_account_requested ON resource_request (account_id, requested_at, id);
+CREATE INDEX idx_resource_request_status_requested ON resource_request (status, requested_at, id);
+CREATE INDEX idx_resource_allocation_account_requested ON resource_allocation (account_id, requested_at, id);
+CREATE INDEX idx_resource_allocation_status_requested ON resource_allocation (status, requested_at, id);
@@ -0,0 +1,25 @@
+-- 전체 account 자원 합계 (ResourceType, gpu는 modelId, unit별)
+-- 같은 키를 slot 행 여러 개로 나눠 동시 승인이 한 행에 몰리지 않게 하고, 조회 시 slot을 합산한다.
+CREATE TABLE IF NOT EXISTS capacity_aggregate (
+    resource_type VARCHAR(32)  NOT NULL,
+    model_key     VARCHAR(255) NOT NULL,
+    unit          VARCHAR(255) NOT NULL,
+    slot          INT          NOT NULL,
+    quota         BIGINT       NOT NULL,
+    allocated     BIGINT       NOT NULL,
+    available     BIGINT       NOT NULL,
+    PRIMARY KEY (resource_type, model_key, unit, slot)
+) ENGINE = InnoDB;
+
+-- 기존 account 자원으로 초기값 채우기 (slot 0)
+INSERT INTO capacity_aggregate (resource_type, model_key, unit, slot, quota, allocated, available)
+SELECT r.type,
+       CASE WHEN r.type = 'gpu' THEN COALESCE(r.model_id, '') ELSE '' END,
+       COALESCE(r.unit, ''),
+       0,
+       SUM(r.quota), SUM(r.allocated), SUM(r.available)
+  FROM resource_bridge b
+  JOIN resource r ON r.id = b.resource_id
+ WHERE b.entity = 'account'
+ GROUP BY 1, 2, 3
+    ON DUPLICATE KEY UPDATE quota = VALUES(quota), allocated = VALUES(allocated), available = VALUES(available);
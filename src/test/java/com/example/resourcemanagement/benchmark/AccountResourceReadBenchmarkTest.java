@@ -0,0 +1,166 @@
+package com.example.resourcemanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+import com.example.resourcemanagement.service.AccountService;
+import com.example.resourcemanagement.service.ResourceAllocationService;
+import com.example.resourcemanagement.service.ResourceRequestService;
+
+/**
+ * account 자원 현황 조회 벤치마크
+ * 캐시 적중 시 p99가 1ms 미만인지 확인 (서비스 호출 기준, HTTP 포함 지연은 참고용으로 출력)
+ *
+ * 실행: ./gradlew benchmark
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("account 자원 현황 조회 벤치마크")
+class AccountResourceReadBenchmarkTest {
+
+    private static final int WARMUP = 10_000;
+    private static final int ITERATIONS = 100_000;
+    private static final int HTTP_ITERATIONS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 p99 < 1ms")
+    void cachedReadP99IsSubMillisecond() throws Exception {
+        Long accountId = seedAccount();
+
+        for (int i = 0; i < WARMUP; i++) {
+            accountService.findAccountResources(accountId);
+        }
+        long[] serviceNanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            accountService.findAccountResources(accountId);
+            serviceNanos[i] = System.nanoTime() - started;
+        }
+
+        long[] httpNanos = new long[HTTP_ITERATIONS];
+        for (int i = 0; i < HTTP_ITERATIONS; i++) {
+            long started = System.nanoTime();
+            mockMvc.perform(get("/accounts/" + accountId + "/resources")).andExpect(status().isOk());
+            httpNanos[i] = System.nanoTime() - started;
+        }
+
+        double serviceP99 = p99Micros(serviceNanos);
+        System.out.printf("service  p50=%,8.1f us  p99=%,8.1f us%n", p50Micros(serviceNanos), serviceP99);
+        System.out.printf("mockmvc  p50=%,8.1f us  p99=%,8.1f us%n", p50Micros(httpNanos), p99Micros(httpNanos));
+        assertTrue(serviceP99 < 1_000, "캐시 적중 p99(" + serviceP99 + "us)가 1ms 이상");
+    }
+
+    /**
+     * cpu, gpu(H100, A100), memory 자원을 가진 account 생성
+     */
+    private Long seedAccount() {
+        Account account = new Account();
+        account.setName("Benchmark");
+        account.setAdmin("admin");
+        Long accountId = accountRepository.save(account).getId();
+
+        List<Resource> lines = new ArrayList<>();
+        lines.add(line(ResourceType.cpu, null, "core", 100));
+        lines.add(line(ResourceType.gpu, "H100", "EA", 4));
+        lines.add(line(ResourceType.gpu, "A100", "EA", 8));
+        lines.add(line(ResourceType.memory, null, "GiB", 512));
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(lines);
+        resourceRequestService.createResourceRequest(dto);
+        for (ResourceRequest request : resourceRequestRepository.findAll()) {
+            resourceAllocationService.approveResourceRequest(request.getId());
+        }
+        return accountId;
+    }
+
+    private Resource line(ResourceType type, String modelId, String unit, int quota) {
+        Resource resource = new Resource();
+        resource.setType(type);
+        resource.setModelId(modelId);
+        resource.setUnit(unit);
+        resource.setQuota(Quantity.of(quota));
+        return resource;
+    }
+
+    private double p50Micros(long[] nanos) {
+        return percentileMicros(nanos, 0.50);
+    }
+
+    private double p99Micros(long[] nanos) {
+        return percentileMicros(nanos, 0.99);
+    }
+
+    private double percentileMicros(long[] nanos, double percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000.0;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.resourcemanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+import com.example.resourcemanagement.service.ResourceAllocationService;
+import com.example.resourcemanagement.service.ResourceRequestService;
+
+/**
+ * ID 생성 벤치마크
+ * resource 테이블이 1k → 1M 행으로 커져도 요청 생성/승인 지연이 일정한지 확인
+ *
+ * 실행: ./gradlew benchmark
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("ID 생성 벤치마크")
+class IdGenerationBenchmarkTest {
+
+    private static final int[] TABLE_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        jdbcTemplate.update("delete from resource");
+    }
+
+    @Test
+    @DisplayName("resource 테이블 크기와 무관하게 생성/승인 지연이 일정")
+    void createAndApproveLatencyStaysFlat() {
+        Account account = new Account();
+        account.setName("Benchmark");
+        account.setAdmin("admin");
+        Long accountId = accountRepository.save(account).getId();
+
+        Map<Integer, Double> latencies = new LinkedHashMap<>();
+        int seeded = 0;
+        for (int size : TABLE_SIZES) {
+            seedFillerResources(seeded, size);
+            seeded = size;
+            latencies.put(size, measureCreateAndApprove(accountId));
+        }
+
+        latencies.forEach((size, micros) ->
+            System.out.printf("resource rows=%,10d  create+approve avg=%,10.1f us%n", size, micros));
+
+        double smallest = latencies.get(TABLE_SIZES[0]);
+        double largest = latencies.get(TABLE_SIZES[TABLE_SIZES.length - 1]);
+        // 전체 스캔이라면 1000배 증가, 블록 임대라면 측정 오차 수준
+        assertTrue(largest < smallest * 3 + 2_000,
+            "1M 행에서의 지연(" + largest + "us)이 1k 행(" + smallest + "us)보다 크게 증가함");
+    }
+
+    /**
+     * 실제 시퀀스 범위와 겹치지 않도록 음수 ID로 채움
+     */
+    private void seedFillerResources(int from, int to) {
+        final int batch = 10_000;
+        for (int start = from; start < to; start += batch) {
+            List<Object[]> rows = new ArrayList<>(batch);
+            for (int i = start; i < Math.min(start + batch, to); i++) {
+                rows.add(new Object[] {-(long) (i + 1), ResourceType.cpu.name(), "core", 1, 0, 1});
+            }
+            jdbcTemplate.batchUpdate(
+                "insert into resource (id, type, unit, quota, allocated, available) values (?, ?, ?, ?, ?, ?)",
+                rows);
+        }
+    }
+
+    private double measureCreateAndApprove(Long accountId) {
+        for (int i = 0; i < WARMUP; i++) {
+            createAndApprove(accountId);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            createAndApprove(accountId);
+        }
+        return (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+    }
+
+    private void createAndApprove(Long accountId) {
+        Resource cpu = new Resource();
+        cpu.setType(ResourceType.cpu);
+        cpu.setUnit("core");
+        cpu.setQuota(Quantity.of(1));
+
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(List.of(cpu));
+
+        resourceRequestService.createResourceRequest(dto);
+        resourceAllocationService.approveResourceRequest(resourceRequestRepository.findMaxId());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.resourcemanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.resourcemanagement.placement.BestFitPolicy;
+import com.example.resourcemanagement.placement.FirstFitPolicy;
+import com.example.resourcemanagement.placement.NodePool;
+import com.example.resourcemanagement.placement.PlacementEngine;
+import com.example.resourcemanagement.placement.PlacementPolicy;
+import com.example.resourcemanagement.placement.SpreadPolicy;
+
+/**
+ * 배치 엔진 벤치마크
+ * 노드 10k개에 allocation 100k건을 정책별로 배치하고, 노드 수가 10배가 되어도 배치 1건 비용이 거의 같은지 확인
+ * (DB 없이 PlacementEngine만 측정)
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("배치 엔진 벤치마크")
+class PlacementBenchmarkTest {
+
+    private static final String GPU = "gpu|H100|EA";
+    private static final String CPU = "cpu||core";
+
+    private static final int NODES = 10_000;
+    private static final int ALLOCATIONS = 100_000;
+    private static final int GPUS_PER_NODE = 8;
+    private static final int CORES_PER_NODE = 128;
+
+    // 라인 크기 (GPU 1~4개 또는 코어 1~16개, 전체 용량의 약 60%를 채움)
+    private static final int[] GPU_SIZES = {1, 1, 2, 4};
+    private static final int[] CPU_SIZES = {1, 2, 4, 8, 16};
+
+    @Test
+    @DisplayName("정책별 100k건 배치: 모두 배치되고 노드 용량을 넘지 않음")
+    void place100kAllocationsOn10kNodes() {
+        System.out.printf("%-10s %8s %12s %14s%n", "policy", "nodes", "placed", "ns/placement");
+        for (PlacementPolicy policy : List.of(new FirstFitPolicy(), new BestFitPolicy(), new SpreadPolicy())) {
+            // JIT 워밍업
+            run(policy, NODES / 10, ALLOCATIONS / 10);
+            long small = run(policy, NODES / 10, ALLOCATIONS / 10);
+            long large = run(policy, NODES, ALLOCATIONS);
+            System.out.printf("%-10s %8d %12d %14d%n", policy.name(), NODES / 10, ALLOCATIONS / 10, small / (ALLOCATIONS / 10));
+            System.out.printf("%-10s %8d %12d %14d%n", policy.name(), NODES, ALLOCATIONS, large / ALLOCATIONS);
+        }
+    }
+
+    /**
+     * @return 배치 전체 소요 시간(ns)
+     */
+    private long run(PlacementPolicy policy, int nodes, int allocations) {
+        PlacementEngine engine = new PlacementEngine(policy);
+        for (int node = 0; node < nodes; node++) {
+            engine.put(GPU, node, 2L * node, GPUS_PER_NODE);
+            engine.put(CPU, node, 2L * node + 1, CORES_PER_NODE);
+        }
+
+        Random random = new Random(42);
+        String[] keys = new String[allocations];
+        int[] sizes = new int[allocations];
+        for (int i = 0; i < allocations; i++) {
+            boolean gpu = random.nextInt(4) == 0;
+            keys[i] = gpu ? GPU : CPU;
+            sizes[i] = gpu ? GPU_SIZES[random.nextInt(GPU_SIZES.length)] : CPU_SIZES[random.nextInt(CPU_SIZES.length)];
+        }
+
+        long[] placedByResource = new long[2 * nodes];
+        long start = System.nanoTime();
+        for (int i = 0; i < allocations; i++) {
+            NodePool.NodeSlot slot = engine.reserve(keys[i], sizes[i]);
+            assertNotNull(slot, policy.name() + ": " + i + "번째 배치 실패");
+            placedByResource[(int) slot.nodeResourceId()] += sizes[i];
+        }
+        long elapsed = System.nanoTime() - start;
+
+        for (int resource = 0; resource < placedByResource.length; resource++) {
+            long capacity = resource % 2 == 0 ? GPUS_PER_NODE : CORES_PER_NODE;
+            String key = resource % 2 == 0 ? GPU : CPU;
+            assertTrue(placedByResource[resource] <= capacity);
+            assertEquals(capacity - placedByResource[resource], engine.pool(key).free(resource));
+        }
+        return elapsed;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.resourcemanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.resourcemanagement.ResourceManagementApplication;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * MVC(Tomcat + JPA) / WebFlux(Netty + R2DBC) 스택 비교 벤치마크
+ * 동시 클라이언트 5,000개로 생성 → 승인을 보내 처리량, 피크 힙 증가량, 피크 스레드 수를 나란히 출력한다.
+ *
+ * 두 스택을 같은 JVM에서 차례로 띄우고 부하 클라이언트도 같은 JVM에서 돌리므로
+ * 메모리/스레드 수치는 절대값이 아니라 두 스택 간 비교용이다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("MVC / WebFlux 스택 비교 벤치마크")
+class ReactiveStackBenchmarkTest {
+
+    private static final int CLIENTS = 5_000;
+    private static final int REQUESTS_PER_CLIENT = 4;
+
+    @Test
+    @DisplayName("동시 클라이언트 5,000개: 생성/승인 처리량과 메모리")
+    void compareServletAndReactiveStacks() {
+        StackResult servlet = runStack("servlet", "test");
+        StackResult reactive = runStack("reactive", "test", "reactive");
+
+        System.out.printf("%-9s %-8s %10s %8s %14s %12s%n", "stack", "phase", "req/s", "errors", "peak heap MB", "peak threads");
+        for (StackResult result : List.of(servlet, reactive)) {
+            print(result.name(), "create", result.create());
+            print(result.name(), "approve", result.approve());
+        }
+        assertEquals(0, servlet.create().errors() + servlet.approve().errors(), "servlet 스택 오류 발생");
+        assertEquals(0, reactive.create().errors() + reactive.approve().errors(), "reactive 스택 오류 발생");
+    }
+
+    private StackResult runStack(String name, String... profiles) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ResourceManagementApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0", "spring.jpa.show-sql=false")
+                .run()) {
+            Long accountId = seedAccount(context);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ConnectionProvider provider = ConnectionProvider.builder("benchmark-" + name)
+                .maxConnections(CLIENTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+            try {
+                WebClient client = WebClient.builder()
+                    .baseUrl("http://localhost:" + port)
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                    .build();
+
+                PhaseResult create = drive(CLIENTS * REQUESTS_PER_CLIENT, i -> client.post()
+                    .uri("/resource-requests")
+                    .bodyValue(requestBody(accountId, i))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .then());
+
+                List<Long> requestIds = context.getBean(ResourceRequestRepository.class).findAll().stream()
+                    .map(ResourceRequest::getId)
+                    .toList();
+                PhaseResult approve = drive(requestIds.size(), i -> client.get()
+                    .uri("/resource-requests/{id}/approve", requestIds.get(i))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .then());
+                return new StackResult(name, create, approve);
+            } finally {
+                provider.disposeLater().block();
+                cleanUp(context);
+            }
+        }
+    }
+
+    /**
+     * total건을 최대 CLIENTS개 동시에 보내고 처리량과 피크 힙/스레드를 측정
+     */
+    private PhaseResult drive(int total, IntFunction<Mono<Void>> call) {
+        AtomicInteger errors = new AtomicInteger();
+        ResourceSampler sampler = ResourceSampler.start();
+        long started = System.nanoTime();
+        Flux.range(0, total)
+            .flatMap(i -> call.apply(i).onErrorResume(e -> {
+                errors.incrementAndGet();
+                return Mono.empty();
+            }), CLIENTS)
+            .blockLast(Duration.ofMinutes(10));
+        long elapsed = System.nanoTime() - started;
+        sampler.stop();
+        return new PhaseResult(total * 1_000_000_000.0 / elapsed, errors.get(), sampler.peakHeapMb(), sampler.peakThreads());
+    }
+
+    private Map<String, Object> requestBody(Long accountId, int i) {
+        return Map.of(
+            "accountId", accountId,
+            "activatedAt", LocalDateTime.now().toString(),
+            "expiredAt", LocalDateTime.now().plusDays(30).toString(),
+            "resources", List.of(Map.of("type", "gpu", "modelId", "H100", "unit", "EA", "quota", 1 + i % 4)));
+    }
+
+    private Long seedAccount(ConfigurableApplicationContext context) {
+        Account account = new Account();
+        account.setName("Benchmark");
+        account.setAdmin("admin");
+        return context.getBean(AccountRepository.class).save(account).getId();
+    }
+
+    private void cleanUp(ConfigurableApplicationContext context) {
+        context.getBean(ResourceAllocationRepository.class).deleteAllInBatch();
+        context.getBean(ResourceRequestRepository.class).deleteAllInBatch();
+        context.getBean(ResourceBridgeRepository.class).deleteAllInBatch();
+        context.getBean(AccountRepository.class).deleteAllInBatch();
+        context.getBean(ResourceRepository.class).deleteAllInBatch();
+    }
+
+    private void print(String stack, String phase, PhaseResult result) {
+        System.out.printf("%-9s %-8s %,10.0f %8d %,14.1f %12d%n",
+            stack, phase, result.requestsPerSecond(), result.errors(), result.peakHeapMb(), result.peakThreads());
+    }
+
+    private record StackResult(String name, PhaseResult create, PhaseResult approve) {
+    }
+
+    private record PhaseResult(double requestsPerSecond, int errors, double peakHeapMb, int peakThreads) {
+    }
+
+    /**
+     * 50ms 간격으로 힙 사용량과 JVM 스레드 수를 기록 (힙은 시작 직전 GC 이후 대비 증가량)
+     */
+    private static final class ResourceSampler {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicLong peakHeap = new AtomicLong();
+        private final AtomicInteger peakThreads = new AtomicInteger();
+        private long baselineHeap;
+
+        static ResourceSampler start() {
+            ResourceSampler sampler = new ResourceSampler();
+            System.gc();
+            sampler.baselineHeap = sampler.memory.getHeapMemoryUsage().getUsed();
+            sampler.executor.scheduleAtFixedRate(sampler::sample, 0, 50, TimeUnit.MILLISECONDS);
+            return sampler;
+        }
+
+        private void sample() {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+        }
+
+        void stop() {
+            executor.shutdownNow();
+            sample();
+        }
+
+        double peakHeapMb() {
+            return Math.max(0, peakHeap.get() - baselineHeap) / (1024.0 * 1024.0);
+        }
+
+        int peakThreads() {
+            return peakThreads.get();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import javax.sql.DataSource;
 import com.example.resourcemanagement.dto.ActionPayloadDto;
 import com.example.resourcemanagement.entity.Account;
 import com.example.resourcemanagement.entity.Project;
+import com.example.resourcemanagement.entity.Quantity;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceAllocation;
 import com.example.resourcemanagement.entity.ResourceBridge;
@@ -102,8 +103,8 @@ class AddProjectToAccountTest {
         
         Project pj = new Project();
         pj.setType(ResourceType.cpu);
-        pj.setQuota(10);
-        pj.setAvailable(10);
+        pj.setQuota(Quantity.of(10));
+        pj.setAvailable(Quantity.of(10));
         pj.setUnit("core");
         projectRepository.save(pj);
         
@@ -119,9 +120,9 @@ class AddProjectToAccountTest {
         Resource res = new Resource();
         res.setId((long) i);
         res.setType((ResourceType) type.get(i-1));
-        res.setQuota(100);
-        res.setAvailable(100);
-        res.setAllocated(0);
+        res.setQuota(Quantity.of(100));
+        res.setAvailable(Quantity.of(100));
+        res.setAllocated(Quantity.ZERO);
         resourceRepository.save(res);
         }
         
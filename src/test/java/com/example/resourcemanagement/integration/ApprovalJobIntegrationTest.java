@@ -0,0 +1,246 @@
+package com.example.resourcemanagement.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.function.DoubleSupplier;
+
+import javax.sql.DataSource;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.resourcemanagement.dto.ApprovalResultDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.ApprovalStatus;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 비동기 승인(/approve-async) 통합 테스트
+ * 큐가 가득 차는 경우를 재현하려고 워커 1개, 큐 1칸으로 띄운다.
+ * 워커는 테스트가 resource_request 행에 건 잠금(select ... for update)에서 멈춰 있게 해 큐 상태를 고정한다.
+ */
+@SpringBootTest(properties = {
+        "approval.async.workers=1",
+        "approval.async.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("비동기 승인 작업 통합 테스트")
+class ApprovalJobIntegrationTest {
+
+    private static final long POLL_TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("202와 Location을 반환하고, 작업을 조회하면 완료 후 ID별 결과가 나옴")
+    void acceptedJobCompletes() throws Exception {
+        // ========== Given ==========
+        Account account = createAccount();
+        Long first = createRequest(account, 10);
+        Long second = createRequest(account, 20);
+
+        // ========== When ==========
+        MvcResult accepted = submit("[%d, %d, %d]".formatted(first, second, first))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").exists())
+                .andReturn();
+        String jobId = new JSONObject(accepted.getResponse().getContentAsString()).getString("jobId");
+        assertEquals("/resource-requests/approval-jobs/" + jobId, accepted.getResponse().getHeader("Location"));
+
+        // ========== Then ==========
+        awaitCompleted(jobId);
+        mockMvc.perform(get(accepted.getResponse().getHeader("Location")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("completed"))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.completedAt").exists())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].requestId").value(first))
+                .andExpect(jsonPath("$.results[0].result").value(ApprovalResultDto.APPROVED))
+                .andExpect(jsonPath("$.results[1].requestId").value(second))
+                .andExpect(jsonPath("$.results[1].result").value(ApprovalResultDto.APPROVED));
+        assertEquals(ApprovalStatus.approved, resourceRequestRepository.findById(first).orElseThrow().getApprovalStatus());
+        assertEquals(ApprovalStatus.approved, resourceRequestRepository.findById(second).orElseThrow().getApprovalStatus());
+
+        mockMvc.perform(get("/resource-requests/approval-jobs/unknown-job"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("워커와 큐가 모두 차 있으면 429와 Retry-After, 게이지는 처리 중/대기 작업 수를 보여줌")
+    void fullQueueIsRejectedWithRetryAfter() throws Exception {
+        // ========== Given ==========
+        Account account = createAccount();
+        Long blocked = createRequest(account, 10);
+        Long queued = createRequest(account, 20);
+        Long rejected = createRequest(account, 30);
+        double rejectedBefore = meterRegistry.counter("approval.queue.rejected").count();
+
+        String runningJob;
+        String queuedJob;
+        try (Connection lock = dataSource.getConnection()) {
+            lock.setAutoCommit(false);
+            try (PreparedStatement select = lock.prepareStatement("select id from resource_request where id = ? for update")) {
+                select.setLong(1, blocked);
+                select.executeQuery().close();
+            }
+            try {
+                // 워커가 잠긴 요청을 처리하다 멈춤
+                runningJob = jobIdOf(submit("[%d]".formatted(blocked)).andExpect(status().isAccepted()).andReturn());
+                awaitGauge("approval.queue.active", 1);
+                // 큐 1칸을 채움
+                queuedJob = jobIdOf(submit("[%d]".formatted(queued)).andExpect(status().isAccepted()).andReturn());
+                assertEquals(1.0, meterRegistry.get("approval.queue.depth").gauge().value());
+
+                // ========== When / Then ==========
+                submit("[%d]".formatted(rejected))
+                        .andExpect(status().isTooManyRequests())
+                        .andExpect(header().string("Retry-After", "1"))
+                        .andExpect(jsonPath("$.message").exists());
+                assertEquals(1.0, meterRegistry.counter("approval.queue.rejected").count() - rejectedBefore);
+                mockMvc.perform(get("/resource-requests/approval-jobs/" + queuedJob))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.status").value("queued"))
+                        .andExpect(jsonPath("$.processed").value(0));
+            } finally {
+                lock.rollback();
+            }
+        }
+
+        // 잠금이 풀리면 두 작업 모두 끝나고 큐가 빔
+        awaitCompleted(runningJob);
+        awaitCompleted(queuedJob);
+        awaitGauge("approval.queue.active", 0);
+        assertEquals(0.0, meterRegistry.get("approval.queue.depth").gauge().value());
+        assertEquals(ApprovalStatus.approved, resourceRequestRepository.findById(blocked).orElseThrow().getApprovalStatus());
+        assertEquals(ApprovalStatus.approved, resourceRequestRepository.findById(queued).orElseThrow().getApprovalStatus());
+        assertNotEquals(ApprovalStatus.approved, resourceRequestRepository.findById(rejected).orElseThrow().getApprovalStatus());
+    }
+
+    @Test
+    @DisplayName("requestIds가 없거나 비어 있거나 null 항목이 있으면 400")
+    void missingRequestIdsIsBadRequest() throws Exception {
+        for (String body : new String[] { "{}", "{\"requestIds\": null}", "{\"requestIds\": []}", "{\"requestIds\": [1, null]}" }) {
+            mockMvc.perform(post("/resource-requests/approve-async")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(post("/resource-requests/approve")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private Account createAccount() {
+        Account account = new Account();
+        account.setName("Account-1");
+        account.setAdmin("admin1");
+        return accountRepository.save(account);
+    }
+
+    private Long createRequest(Account account, int quota) throws Exception {
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": %d }
+                ]
+            }
+            """.formatted(account.getId(), quota);
+        mockMvc.perform(post("/resource-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isOk());
+        return resourceRequestRepository.findMaxId();
+    }
+
+    private ResultActions submit(String requestIds) throws Exception {
+        return mockMvc.perform(post("/resource-requests/approve-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"requestIds\": " + requestIds + "}"));
+    }
+
+    private static String jobIdOf(MvcResult result) throws Exception {
+        return new JSONObject(result.getResponse().getContentAsString()).getString("jobId");
+    }
+
+    private void awaitCompleted(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + POLL_TIMEOUT_MILLIS;
+        while (true) {
+            String body = mockMvc.perform(get("/resource-requests/approval-jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            String status = new JSONObject(body).getString("status");
+            if ("completed".equals(status)) {
+                return;
+            }
+            assertNotEquals("failed", status, "작업 실패: " + body);
+            assertTrue(System.currentTimeMillis() < deadline, "작업이 끝나지 않음: " + body);
+            Thread.sleep(50);
+        }
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        DoubleSupplier value = () -> meterRegistry.get(name).gauge().value();
+        long deadline = System.currentTimeMillis() + POLL_TIMEOUT_MILLIS;
+        while (value.getAsDouble() != expected) {
+            assertTrue(System.currentTimeMillis() < deadline, name + " = " + value.getAsDouble());
+            Thread.sleep(50);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -11,6 +13,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -22,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -29,17 +34,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
 import com.example.resourcemanagement.dto.ActionPayloadDto;
+import com.example.resourcemanagement.dto.ApprovalResultDto;
 import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
 import com.example.resourcemanagement.entity.Resource;
 import com.example.resourcemanagement.entity.ResourceAllocation;
 import com.example.resourcemanagement.entity.ResourceBridge;
 import com.example.resourcemanagement.entity.ResourceRequest;
 import com.example.resourcemanagement.entity.ResourceType;
 import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.IdempotencyRecordRepository;
 import com.example.resourcemanagement.repository.ResourceAllocationRepository;
 import com.example.resourcemanagement.repository.ResourceBridgeRepository;
 import com.example.resourcemanagement.repository.ResourceRepository;
 import com.example.resourcemanagement.repository.ResourceRequestRepository;
+import com.example.resourcemanagement.service.AccountResourceChangedEvent;
+import com.example.resourcemanagement.service.AccountResourceKey;
+import com.example.resourcemanagement.service.AccountService;
 import com.example.resourcemanagement.service.ResourceRequestService;
 import com.example.resourcemanagement.service.ResourceAllocationService;
 import com.example.resourcemanagement.dto.ResourceRequestDto;
@@ -79,11 +90,17 @@ class ResourceRequestStateBasedTest {
     @Autowired
     private ResourceRequestRepository resourceRequestRepository;
     
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+    
     @Autowired
     private ResourceRequestService resourceRequestService;
     
     @Autowired
     private ResourceAllocationService resourceAllocationService;
+    
+    @Autowired
+    private AccountService accountService;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -108,6 +125,7 @@ class ResourceRequestStateBasedTest {
         resourceBridgeRepository.deleteAll();
         accountRepository.deleteAll();
         resourceRepository.deleteAll();
+        idempotencyRecordRepository.deleteAll();
     }
 
     
@@ -199,7 +217,7 @@ class ResourceRequestStateBasedTest {
         // approve 후 다시 조회해서 status 확인
         List<ResourceRequest> approvedRequests = resourceRequestRepository.findAll();
         List<ResourceBridge> resourceBridge = resourceBridgeRepository.findByEntity("account");
-        int cpu_quota=0;
+        Quantity cpu_quota=Quantity.ZERO;
         for(int i = 0 ;i<resourceBridge.size();i++) {
         	if(resourceBridge.get(i).getResource().getType().equals(ResourceType.cpu)) {
         		cpu_quota=resourceBridge.get(i).getResource().getQuota();
@@ -207,7 +225,7 @@ class ResourceRequestStateBasedTest {
         }
         assertEquals(3, resourceBridge.size());
         assertEquals("approved", approvedRequests.get(0).getStatus());
-        assertEquals(200,cpu_quota); //TC2 테스트 코드
+        assertEquals(Quantity.of(200),cpu_quota); //TC2 테스트 코드
     }
     
 //    "initialState": {
@@ -319,13 +337,13 @@ class ResourceRequestStateBasedTest {
         // approve 후 다시 조회해서 status 확인
         List<ResourceRequest> approvedRequests = resourceRequestRepository.findAll();
         List<ResourceBridge> resourceBridge = resourceBridgeRepository.findByEntity("account");
-        int cpu_quota=0;
+        Quantity cpu_quota=Quantity.ZERO;
         for(int i = 0 ;i<resourceBridge.size();i++) {
         	if(resourceBridge.get(i).getResource().getType().equals(ResourceType.cpu)) {
         		cpu_quota=resourceBridge.get(i).getResource().getQuota();
         	}
         }
-        assertEquals(200,cpu_quota); //TC2 테스트 코드
+        assertEquals(Quantity.of(200),cpu_quota); //TC2 테스트 코드
     }
     
 //    {
@@ -457,14 +475,511 @@ class ResourceRequestStateBasedTest {
         assertEquals(2, gpu_count);        
         // H100 GPU 검증
         assertEquals("H100", h100Resource.getModelId());
-        assertEquals(2, h100Resource.getQuota());
-        assertEquals(2, h100Resource.getAvailable());
-        assertEquals(0, h100Resource.getAllocated());
+        assertEquals(Quantity.of(2), h100Resource.getQuota());
+        assertEquals(Quantity.of(2), h100Resource.getAvailable());
+        assertEquals(Quantity.ZERO, h100Resource.getAllocated());
         
         // A100 GPU 검증
         assertEquals("A100", a100Resource.getModelId());
-        assertEquals(1, a100Resource.getQuota());
-        assertEquals(1, a100Resource.getAvailable());
-        assertEquals(0, a100Resource.getAllocated()); 
+        assertEquals(Quantity.of(1), a100Resource.getQuota());
+        assertEquals(Quantity.of(1), a100Resource.getAvailable());
+        assertEquals(Quantity.ZERO, a100Resource.getAllocated()); 
+    }
+    
+    @Test
+    @DisplayName("TC4: 일괄 승인 시 ID별 결과 반환 및 quota 누적")
+    void testTC4_BulkApproveAccumulateAccountQuota() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": 100 },
+                    { "type": "cpu", "unit": "core", "quota": 100 },
+                    { "type": "gpu", "modelId": "H100", "unit": "EA", "quota": 2 }
+                ]
+            }
+            """.formatted(testAccount.getId());
+        mockMvc.perform(post("/resource-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isOk());
+        
+        // ========== When: 존재하는 요청 3건 + 없는 요청 1건 일괄 승인 ==========
+        JSONArray requestIds = new JSONArray();
+        for (ResourceRequest request : resourceRequestRepository.findAll()) {
+            requestIds.put(request.getId());
+        }
+        requestIds.put(-1L);
+        mockMvc.perform(post("/resource-requests/approve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new JSONObject().put("requestIds", requestIds).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[3].requestId").value(-1))
+                .andExpect(jsonPath("$[3].result").value("not_found"));
+        
+        // ========== Then: expectedState 검증 ==========
+        List<ResourceBridge> resourceBridge = resourceBridgeRepository.findByEntity("account");
+        Quantity cpu_quota = Quantity.ZERO;
+        Quantity gpu_quota = Quantity.ZERO;
+        for (ResourceBridge bridge : resourceBridge) {
+            if (bridge.getResource().getType().equals(ResourceType.cpu)) {
+                cpu_quota = bridge.getResource().getQuota();
+            } else if (bridge.getResource().getType().equals(ResourceType.gpu)) {
+                gpu_quota = bridge.getResource().getQuota();
+            }
+        }
+        assertEquals(2, resourceBridge.size());
+        assertEquals(Quantity.of(200), cpu_quota);
+        assertEquals(Quantity.of(2), gpu_quota);
+        assertEquals(3, resourceAllocationRepository.findAll().size());
+        for (ResourceRequest request : resourceRequestRepository.findAll()) {
+            assertEquals("approved", request.getStatus());
+        }
+    }
+    
+    @Test
+    @DisplayName("TC5: 같은 요청을 다시 승인해도 quota는 한 번만 누적")
+    void testTC5_ReapproveIsNoOp() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": 100 }
+                ]
+            }
+            """.formatted(testAccount.getId());
+        mockMvc.perform(post("/resource-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isOk());
+        Long requestId = resourceRequestRepository.findAll().get(0).getId();
+        
+        // ========== When: 단건 승인 2회 + 일괄 승인 1회 ==========
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/resource-requests/" + requestId + "/approve"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(post("/resource-requests/approve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new JSONObject().put("requestIds", new JSONArray().put(requestId)).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].result").value("already_approved"));
+        
+        // ========== Then: expectedState 검증 ==========
+        List<ResourceBridge> resourceBridge = resourceBridgeRepository.findByEntity("account");
+        assertEquals(1, resourceBridge.size());
+        assertEquals(Quantity.of(100), resourceBridge.get(0).getResource().getQuota());
+        assertEquals(1, resourceAllocationRepository.findAll().size());
+        ResourceRequest request = resourceRequestRepository.findById(requestId).orElseThrow();
+        assertEquals("approved", request.getStatus());
+        assertEquals(1L, request.getVersion());
+    }
+    
+    @Test
+    @DisplayName("TC6: NDJSON 일괄 등록 시 줄별 결과 반환, 잘못된 줄만 건너뜀")
+    void testTC6_NdjsonIngest() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        
+        String ndjson = """
+            {"accountId": %d, "activatedAt": "2025-12-31T09:00:00", "expiredAt": "2026-01-31T09:00:00", "resources": [{"type": "cpu", "unit": "core", "quota": 10}, {"type": "cpu", "unit": "core", "quota": 20}]}
+            {"accountId": -1, "activatedAt": "2025-12-31T09:00:00", "expiredAt": "2026-01-31T09:00:00", "resources": [{"type": "cpu", "unit": "core", "quota": 10}]}
+            {"accountId": %d, "activatedAt": "2025-12-31T09:00:00", "expiredAt": "2026-01-31T09:00:00", "resources": []}
+            {"accountId": %d, "activatedAt": "2025-12-31T09:00:00", "expiredAt": "2026-01-31T09:00:00", "resources": [{"type": "gpu", "modelId": "H100", "unit": "EA", "quota": 1}]}
+            """.formatted(testAccount.getId(), testAccount.getId(), testAccount.getId());
+        
+        // ========== When: action 실행 ==========
+        MvcResult result = mockMvc.perform(post("/resource-requests/ingest")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andReturn();
+        
+        // ========== Then: expectedState 검증 ==========
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(4, lines.length);
+        String[] expectedResults = {"created", "invalid", "invalid", "created"};
+        for (int i = 0; i < lines.length; i++) {
+            JSONObject line = new JSONObject(lines[i]);
+            assertEquals(i + 1, line.getInt("line"));
+            assertEquals(expectedResults[i], line.getString("result"));
+        }
+        assertEquals(2, new JSONObject(lines[0]).getJSONArray("requestIds").length());
+        assertEquals(3, resourceRequestRepository.findAll().size());
+        assertEquals(3, resourceBridgeRepository.findByEntity("request").size());
+    }
+    
+    @Test
+    @DisplayName("TC7: 같은 Idempotency-Key 재시도는 요청을 다시 만들지 않음")
+    void testTC7_IdempotencyKeyReplay() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": 100 }
+                ]
+            }
+            """.formatted(testAccount.getId());
+        
+        // ========== When: 같은 키로 2회 요청 ==========
+        mockMvc.perform(post("/resource-requests")
+                .header("Idempotency-Key", "tc7-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+        mockMvc.perform(post("/resource-requests")
+                .header("Idempotency-Key", "tc7-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+        
+        // 같은 키에 다른 본문은 거절
+        mockMvc.perform(post("/resource-requests")
+                .header("Idempotency-Key", "tc7-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString.replace("100", "200")))
+                .andExpect(status().isUnprocessableEntity());
+        
+        // 컬럼 길이(128자)를 넘는 키는 쓰기 없이 400
+        mockMvc.perform(post("/resource-requests")
+                .header("Idempotency-Key", "k".repeat(129))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isBadRequest());
+        
+        // ========== Then: expectedState 검증 ==========
+        assertEquals(1, resourceRequestRepository.findAll().size());
+        assertEquals(1, resourceBridgeRepository.findByEntity("request").size());
+    }
+    
+    @Test
+    @DisplayName("TC8: account 자원 현황 조회는 승인 후 바로 갱신됨")
+    void testTC8_AccountResourcesView() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": 100 }
+                ]
+            }
+            """.formatted(testAccount.getId());
+        
+        // ========== When / Then: 승인 전 조회 (빈 목록이 캐시됨) ==========
+        mockMvc.perform(get("/accounts/" + testAccount.getId() + "/resources"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        
+        // 승인 2회 → 커밋마다 캐시 무효화
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/resource-requests")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonString))
+                    .andExpect(status().isOk());
+            Long requestId = resourceRequestRepository.findMaxId();
+            mockMvc.perform(get("/resource-requests/" + requestId + "/approve"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/accounts/" + testAccount.getId() + "/resources"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].type").value("cpu"))
+                    .andExpect(jsonPath("$[0].unit").value("core"))
+                    .andExpect(jsonPath("$[0].quota").value(100 * (i + 1)))
+                    .andExpect(jsonPath("$[0].available").value(100 * (i + 1)));
+        }
+        
+        mockMvc.perform(get("/accounts/-1/resources"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    @DisplayName("TC9: 요청/할당 목록은 account 필터와 키셋 페이지로 끝까지 순회됨")
+    void testTC9_KeysetListing() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        Account otherAccount = new Account();
+        otherAccount.setName("Account-2");
+        otherAccount.setAdmin("admin2");
+        accountRepository.save(otherAccount);
+        
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": 1 },
+                    { "type": "cpu", "unit": "core", "quota": 2 },
+                    { "type": "cpu", "unit": "core", "quota": 3 },
+                    { "type": "cpu", "unit": "core", "quota": 4 },
+                    { "type": "cpu", "unit": "core", "quota": 5 }
+                ]
+            }
+            """;
+        mockMvc.perform(post("/resource-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString.formatted(testAccount.getId())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/resource-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString.formatted(otherAccount.getId())))
+                .andExpect(status().isOk());
+        
+        // ========== When: Account-1 요청을 2건씩 페이지 조회 ==========
+        List<Long> listedIds = new ArrayList<>();
+        String afterRequestedAt = null;
+        String afterId = null;
+        int pages = 0;
+        do {
+            var request = get("/resource-requests")
+                    .param("accountId", String.valueOf(testAccount.getId()))
+                    .param("status", "required")
+                    .param("size", "2");
+            if (afterId != null) {
+                request.param("afterRequestedAt", afterRequestedAt).param("afterId", afterId);
+            }
+            JSONObject page = new JSONObject(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            JSONArray items = page.getJSONArray("items");
+            for (int i = 0; i < items.length(); i++) {
+                assertEquals(testAccount.getId().longValue(), items.getJSONObject(i).getLong("accountId"));
+                listedIds.add(items.getJSONObject(i).getLong("id"));
+            }
+            afterRequestedAt = page.isNull("nextAfterRequestedAt") ? null : page.getString("nextAfterRequestedAt");
+            afterId = page.isNull("nextAfterId") ? null : String.valueOf(page.getLong("nextAfterId"));
+            pages++;
+        } while (afterId != null);
+        
+        // ========== Then: expectedState 검증 ==========
+        assertEquals(3, pages);
+        assertEquals(5, listedIds.size());
+        assertEquals(5, listedIds.stream().distinct().count());
+        
+        // 승인 후 allocation 목록
+        for (Long requestId : listedIds) {
+            mockMvc.perform(get("/resource-requests/" + requestId + "/approve"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/resource-allocations")
+                .param("accountId", String.valueOf(testAccount.getId()))
+                .param("status", "approved"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5))
+                .andExpect(jsonPath("$.nextAfterId").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("TC10: If-None-Match가 현재 ETag와 같으면 304, 자원 변경 후에는 200")
+    void testTC10_AccountResourcesConditionalGet() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        String resourcesUrl = "/accounts/" + testAccount.getId() + "/resources";
+        
+        String etag = mockMvc.perform(get(resourcesUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        
+        // ========== When / Then: 변경 없으면 304 ==========
+        mockMvc.perform(get(resourcesUrl).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        
+        // 내용이 그대로면 캐시가 다시 만들어져도(재시작, 다른 노드) 같은 ETag로 304
+        accountService.onAccountResourceChanged(new AccountResourceChangedEvent(
+                new AccountResourceKey(testAccount.getId(), ResourceType.cpu, null, "core"), 0));
+        mockMvc.perform(get(resourcesUrl).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        
+        // 자원 변경 후에는 새 ETag로 200
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": 100 }
+                ]
+            }
+            """.formatted(testAccount.getId());
+        mockMvc.perform(post("/resource-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/resource-requests/" + resourceRequestRepository.findMaxId() + "/approve"))
+                .andExpect(status().isOk());
+        
+        String changedEtag = mockMvc.perform(get(resourcesUrl).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].quota").value(100))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, changedEtag);
+    }
+    
+    @Test
+    @DisplayName("TC11: 승인이 커밋되면 account 구독자에게 quota 이벤트가 전송됨")
+    void testTC11_AccountQuotaEventStream() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        
+        MvcResult stream = mockMvc.perform(get("/accounts/" + testAccount.getId() + "/resource-events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // ========== When: 자원요청 생성 후 승인 ==========
+        String jsonString = """
+            {
+                "accountId": %d,
+                "activatedAt": "2025-12-31T09:00:00",
+                "expiredAt": "2026-01-31T09:00:00",
+                "resources": [
+                    { "type": "cpu", "unit": "core", "quota": 100 }
+                ]
+            }
+            """.formatted(testAccount.getId());
+        mockMvc.perform(post("/resource-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonString))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/resource-requests/" + resourceRequestRepository.findMaxId() + "/approve"))
+                .andExpect(status().isOk());
+        
+        // ========== Then: 승인 1건당 quota 이벤트 1건 ==========
+        String body = awaitContent(stream, "event:quota");
+        assertTrue(body.contains("\"type\":\"cpu\""), body);
+        assertTrue(body.contains("\"quotaDelta\":100"), body);
+        assertEquals(1, body.split("event:quota", -1).length - 1, body);
+        
+        mockMvc.perform(get("/accounts/-1/resource-events"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    @DisplayName("TC12: 일괄 승인 중 다른 곳에서 먼저 승인된 요청만 already_approved, 나머지는 승인됨")
+    void testTC12_BulkApproveConflictKeepsOtherResults() throws Exception {
+        // ========== Given: initialState 설정 ==========
+        Account testAccount = new Account();
+        testAccount.setName("Account-1");
+        testAccount.setAdmin("admin1");
+        accountRepository.save(testAccount);
+        
+        List<Long> requestIds = new ArrayList<>();
+        for (int quota : new int[] { 100, 50 }) {
+            String jsonString = """
+                {
+                    "accountId": %d,
+                    "activatedAt": "2025-12-31T09:00:00",
+                    "expiredAt": "2026-01-31T09:00:00",
+                    "resources": [
+                        { "type": "cpu", "unit": "core", "quota": %d }
+                    ]
+                }
+                """.formatted(testAccount.getId(), quota);
+            mockMvc.perform(post("/resource-requests")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonString))
+                    .andExpect(status().isOk());
+            requestIds.add(resourceRequestRepository.findMaxId());
+        }
+        Long conflicted = requestIds.get(0);
+        Long other = requestIds.get(1);
+        
+        // ========== When: 일괄 승인이 첫 요청의 version UPDATE에서 기다리는 동안 다른 트랜잭션이 먼저 승인 ==========
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        CompletableFuture<List<ApprovalResultDto>> bulk;
+        try (Connection concurrent = dataSource.getConnection()) {
+            concurrent.setAutoCommit(false);
+            try (PreparedStatement lock = concurrent.prepareStatement("select id from resource_request where id = ? for update")) {
+                lock.setLong(1, conflicted);
+                lock.executeQuery().close();
+            }
+            bulk = CompletableFuture.supplyAsync(() -> resourceAllocationService.approveResourceRequests(requestIds));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (jdbc.queryForObject("select count(*) from information_schema.innodb_trx where trx_state = 'LOCK WAIT'", Integer.class) == 0) {
+                assertTrue(System.currentTimeMillis() < deadline, "일괄 승인이 잠금을 기다리지 않음");
+                Thread.sleep(20);
+            }
+            try (PreparedStatement approve = concurrent.prepareStatement(
+                    "update resource_request set status = 'approved', version = version + 1 where id = ?")) {
+                approve.setLong(1, conflicted);
+                approve.executeUpdate();
+            }
+            concurrent.commit();
+        }
+        List<ApprovalResultDto> results = bulk.get(30, TimeUnit.SECONDS);
+        
+        // ========== Then: 충돌한 ID만 already_approved, 다른 ID는 chunk 실패와 관계없이 승인됨 ==========
+        assertEquals(2, results.size());
+        assertEquals(conflicted, results.get(0).getRequestId());
+        assertEquals(ApprovalResultDto.ALREADY_APPROVED, results.get(0).getResult());
+        assertEquals(other, results.get(1).getRequestId());
+        assertEquals(ApprovalResultDto.APPROVED, results.get(1).getResult());
+        
+        assertEquals("approved", resourceRequestRepository.findById(other).orElseThrow().getStatus());
+        assertEquals(1, resourceAllocationRepository.findAll().size());
+        List<ResourceBridge> resourceBridge = resourceBridgeRepository.findByEntity("account");
+        assertEquals(1, resourceBridge.size());
+        assertEquals(Quantity.of(50), resourceBridge.get(0).getResource().getQuota());
+    }
+    
+    /**
+     * SSE 응답 본문에 expected가 나타날 때까지 대기 (전송은 별도 스레드에서 수행됨)
+     */
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
     }
 }
\ No newline at end of file
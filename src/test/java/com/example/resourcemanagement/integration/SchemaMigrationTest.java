@@ -0,0 +1,134 @@
+package com.example.resourcemanagement.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.QuantityConverter;
+
+/**
+ * 스키마 마이그레이션 테스트
+ * 빈 스키마(resource_management_migration_test)에 db/migration을 처음부터 적용한 뒤
+ * 운영 설정과 같은 ddl-auto=validate로 컨텍스트가 뜨는지 검증하고,
+ * V11 이전에 저장된 행이 최신 스키마로 옮겨지는지(정수 수량의 milli 변환, V15의 allocation requested_at 보정)
+ * 별도 스키마(resource_management_v11_test)에서 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:mysql://localhost:3306/resource_management_migration_test?createDatabaseIfNotExist=true&useSSL=false&serverTimezone=UTC&characterEncoding=UTF-8&allowPublicKeyRetrieval=true&defaultAuthenticationPlugin=mysql_native_password&rewriteBatchedStatements=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("스키마 마이그레이션 테스트")
+class SchemaMigrationTest {
+
+    @TestConfiguration
+    static class CleanMigrateConfig {
+
+        /** 이전 실행이 남긴 객체를 지우고 V0_1부터 다시 적용 */
+        @Bean
+        FlywayMigrationStrategy cleanMigrateStrategy() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+
+    private static final String LEGACY_SCHEMA = "resource_management_v11_test";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("빈 DB에 모든 마이그레이션 적용 후 validate 통과")
+    void migrateCleanSchemaThenValidate() {
+        // 컨텍스트가 떴다면 Hibernate validate는 이미 통과
+        assertEquals(0, flyway.info().pending().length, "적용되지 않은 마이그레이션이 없어야 함");
+
+        MigrationInfo[] applied = flyway.info().applied();
+        MigrationInfo[] all = flyway.info().all();
+        assertEquals(all.length, applied.length);
+        assertEquals("0.1", applied[0].getVersion().getVersion(), "기본 스키마부터 적용");
+        assertEquals(all[all.length - 1].getVersion(), flyway.info().current().getVersion());
+    }
+
+    @Test
+    @DisplayName("V11 이전 정수 수량은 같은 값의 Quantity로 읽힘")
+    void preFixedPointRowsAreRescaled() {
+        Flyway legacy = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(LEGACY_SCHEMA)
+                .createSchemas(true)
+                .cleanDisabled(false)
+                .load();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        try {
+            legacy.clean();
+            // V9(capacity_aggregate 초기값) 전까지 적용하고 정수 unit 값으로 행을 넣음
+            Flyway.configure().configuration(legacy.getConfiguration()).target("8").load().migrate();
+            jdbc.update("insert into " + LEGACY_SCHEMA + ".account (id, name, admin) values (1, 'legacy', 'admin')");
+            jdbc.update("insert into " + LEGACY_SCHEMA + ".resource (id, type, model_id, quota, allocated, unit, available)"
+                    + " values (100, 'cpu', null, 100, 30, 'core', 70)");
+            jdbc.update("insert into " + LEGACY_SCHEMA + ".resource (id, type, model_id, quota, allocated, unit, available)"
+                    + " values (101, 'cpu', null, 30, 0, 'core', 30)");
+            jdbc.update("insert into " + LEGACY_SCHEMA + ".resource_bridge (id, entity, entity_id, resource_id, resource_key)"
+                    + " values (1, 'account', 1, 100, 'cpu||core')");
+            jdbc.update("insert into " + LEGACY_SCHEMA + ".project"
+                    + " (id, name, admin, unit, account_id, resource_id, type, model_id, quota, allocated, available)"
+                    + " values (1, 'legacy', 'admin', 'core', 1, 101, 'cpu', null, 30, 0, 30)");
+            // V8 이후 requested_at 없이 들어간 allocation (V15가 request 값으로 채움)
+            jdbc.update("insert into " + LEGACY_SCHEMA + ".resource_request (id, requested_at, expires_at, status, account_id)"
+                    + " values (1, '2025-01-01 09:00:00', null, 'approved', 1)");
+            jdbc.update("insert into " + LEGACY_SCHEMA + ".resource_allocation (id, status, resource_request_id, account_id, requested_at)"
+                    + " values (1, 'approved', 1, 1, null)");
+
+            legacy.migrate();
+
+            Map<String, Object> resource = jdbc.queryForMap(
+                    "select quota, allocated, available from " + LEGACY_SCHEMA + ".resource where id = 100");
+            assertEquals(100_000L, ((Number) resource.get("quota")).longValue());
+            QuantityConverter converter = new QuantityConverter();
+            assertEquals(Quantity.of(100), converter.convertToEntityAttribute(((Number) resource.get("quota")).longValue()));
+            assertEquals(Quantity.of(30), converter.convertToEntityAttribute(((Number) resource.get("allocated")).longValue()));
+            assertEquals(Quantity.of(70), converter.convertToEntityAttribute(((Number) resource.get("available")).longValue()));
+
+            Long projectQuota = jdbc.queryForObject(
+                    "select quota from " + LEGACY_SCHEMA + ".project where id = 1", Long.class);
+            assertEquals(Quantity.of(30), converter.convertToEntityAttribute(projectQuota));
+
+            // V9가 정수 값으로 채운 합계도 같은 배율로 바뀜
+            Long aggregateQuota = jdbc.queryForObject(
+                    "select sum(quota) from " + LEGACY_SCHEMA + ".capacity_aggregate where resource_type = 'cpu' and unit = 'core'",
+                    Long.class);
+            assertEquals(Quantity.of(100), converter.convertToEntityAttribute(aggregateQuota));
+
+            LocalDateTime allocationRequestedAt = jdbc.queryForObject(
+                    "select requested_at from " + LEGACY_SCHEMA + ".resource_allocation where id = 1", LocalDateTime.class);
+            assertEquals(LocalDateTime.of(2025, 1, 1, 9, 0), allocationRequestedAt);
+        } finally {
+            legacy.clean();
+            jdbc.execute("drop database if exists " + LEGACY_SCHEMA);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceBridge;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+
+/**
+ * H100 gpu를 승인받은 account를 만드는 테스트 도우미 (@Import로 사용)
+ */
+@TestComponent
+class AccountGpuSeeder {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    /**
+     * H100 gpus개를 승인받은 account 생성
+     */
+    Long seed(String accountName, int gpus) {
+        Account account = new Account();
+        account.setName(accountName);
+        account.setAdmin("admin");
+        Long accountId = accountRepository.save(account).getId();
+
+        Resource gpu = new Resource();
+        gpu.setType(ResourceType.gpu);
+        gpu.setModelId("H100");
+        gpu.setUnit("EA");
+        gpu.setQuota(Quantity.of(gpus));
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(List.of(gpu));
+        for (Long requestId : resourceRequestService.createResourceRequest(dto)) {
+            resourceAllocationService.approveResourceRequest(requestId);
+        }
+        return accountId;
+    }
+
+    /**
+     * account의 gpu Resource (account 자원은 하나뿐이어야 함)
+     */
+    Resource accountGpu(Long accountId) {
+        List<ResourceBridge> accountBridges = resourceBridgeRepository.findByEntityAndEntityId("account", accountId);
+        assertEquals(1, accountBridges.size());
+        return resourceRepository.findById(accountBridges.get(0).getResource().getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceBridge;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+/**
+ * 한 Account에 대한 대량 동시 승인 시 quota 누적이 유실되지 않는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Account quota 동시 누적 테스트")
+class AccountQuotaConcurrencyTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("2000건 동시 승인 후 cpu quota/available = 2000, account 자원은 1건")
+    void concurrentApprovalsDoNotLoseIncrements() throws Exception {
+        Account account = new Account();
+        account.setName("Account-Stress");
+        account.setAdmin("admin");
+        Long accountId = accountRepository.save(account).getId();
+
+        List<Resource> lines = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            Resource cpu = new Resource();
+            cpu.setType(ResourceType.cpu);
+            cpu.setUnit("core");
+            cpu.setQuota(Quantity.of(1));
+            lines.add(cpu);
+        }
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(lines);
+        resourceRequestService.createResourceRequest(dto);
+
+        List<Long> requestIds = resourceRequestRepository.findAll().stream()
+            .map(ResourceRequest::getId)
+            .toList();
+        assertEquals(REQUESTS, requestIds.size());
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long requestId : requestIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    resourceAllocationService.approveResourceRequest(requestId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<ResourceBridge> accountBridges = resourceBridgeRepository.findByEntityAndEntityId("account", accountId);
+        assertEquals(1, accountBridges.size());
+        Resource accountCpu = resourceRepository.findById(accountBridges.get(0).getResource().getId()).orElseThrow();
+        assertEquals(Quantity.of(REQUESTS), accountCpu.getQuota());
+        assertEquals(Quantity.of(REQUESTS), accountCpu.getAvailable());
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ApprovalResultDto;
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.ApprovalStatus;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.exception.AdmissionRejectedException;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+/**
+ * 트랜잭션 전 한도 확인 테스트 (account당 gpu 16개)
+ * 승인 quota가 카운터에 반영되고, 한도를 넘는 생성/승인(단건, 일괄, 기록 없는 요청)이 DB 변경 없이 거절되는지 검증
+ */
+@SpringBootTest(properties = "admission.limit.gpu=16")
+@ActiveProfiles("test")
+@DisplayName("트랜잭션 전 한도 확인 테스트")
+class AdmissionControlServiceTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @Autowired
+    private AdmissionControlService admissionControlService;
+
+    @Autowired
+    private ResourceBridgeService resourceBridgeService;
+
+    @Autowired
+    private IdGenerationService idGenerationService;
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+        admissionControlService.resync();
+    }
+
+    @Test
+    @DisplayName("승인 quota + 요청이 한도를 넘으면 생성/승인 모두 409, cpu는 제한 없음")
+    void rejectsOverLimitBeforeWrites() {
+        Account account = createAccount();
+        approve(request(account, ResourceType.gpu, 12).get(0));
+
+        // 12 + 8 > 16: 서비스 경로에서도 쓰기 전에 거절
+        long requestsBefore = resourceRequestRepository.count();
+        assertThrows(AdmissionRejectedException.class,
+                () -> admissionControlService.checkCreate(dto(account, ResourceType.gpu, 8)));
+        assertThrows(AdmissionRejectedException.class, () -> request(account, ResourceType.gpu, 8));
+        assertEquals(requestsBefore, resourceRequestRepository.count());
+        admissionControlService.checkCreate(dto(account, ResourceType.gpu, 4));
+        admissionControlService.checkCreate(dto(account, ResourceType.cpu, 1_000));
+
+        // 생성은 각각 통과했어도 승인은 한도 안에서만: 4개 승인 후 남은 요청의 승인은 거절
+        Long first = request(account, ResourceType.gpu, 4).get(0);
+        Long second = request(account, ResourceType.gpu, 4).get(0);
+        approve(first);
+        long allocationsBefore = resourceAllocationRepository.count();
+        AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class, () -> approve(second));
+        assertEquals(ResourceType.gpu, rejected.getType());
+        assertEquals(allocationsBefore, resourceAllocationRepository.count());
+        assertEquals("required", resourceRequestRepository.findById(second).orElseThrow().getStatus());
+
+        // 일괄 승인도 같은 확인 (요청별 결과)
+        List<ApprovalResultDto> results = resourceAllocationService.approveResourceRequests(List.of(second));
+        assertEquals(ApprovalResultDto.REJECTED, results.get(0).getResult());
+        assertEquals(allocationsBefore, resourceAllocationRepository.count());
+    }
+
+    @Test
+    @DisplayName("진행 중인 승인도 한도에 포함되고, 실패한 승인은 다시 확인 가능")
+    void inFlightApprovalsCountTowardLimit() {
+        Account account = createAccount();
+        Long first = request(account, ResourceType.gpu, 10).get(0);
+        Long second = request(account, ResourceType.gpu, 10).get(0);
+
+        try (AdmissionControlService.Ticket ticket = admissionControlService.admitApproval(first)) {
+            // first가 아직 커밋되지 않았어도 10 + 10 > 16
+            assertThrows(AdmissionRejectedException.class, () -> admissionControlService.admitApproval(second));
+            assertThrows(AdmissionRejectedException.class, () -> approve(second));
+        }
+        // first를 승인하지 않고 닫았으므로 second가 통과하고, first는 다시 확인됨
+        approve(second);
+        assertThrows(AdmissionRejectedException.class, () -> approve(first));
+
+        // 재동기화 후에도 같은 결과 (approved 10)
+        admissionControlService.resync();
+        assertThrows(AdmissionRejectedException.class,
+                () -> admissionControlService.checkCreate(dto(account, ResourceType.gpu, 7)));
+    }
+
+    @Test
+    @DisplayName("기록이 없는 요청(다른 노드에서 생성)은 request 라인을 읽어 확인")
+    void requestsMissingFromCacheAreCheckedFromLines() {
+        Account account = createAccount();
+        approve(request(account, ResourceType.gpu, 12).get(0));
+
+        Long overLimit = requestFromOtherNode(account, ResourceType.gpu, 8);
+        long allocationsBefore = resourceAllocationRepository.count();
+        assertThrows(AdmissionRejectedException.class, () -> approve(overLimit));
+        assertEquals(ApprovalResultDto.REJECTED,
+                resourceAllocationService.approveResourceRequests(List.of(overLimit)).get(0).getResult());
+        assertEquals(allocationsBefore, resourceAllocationRepository.count());
+
+        Long withinLimit = requestFromOtherNode(account, ResourceType.gpu, 4);
+        assertEquals(ApprovalResultDto.APPROVED,
+                resourceAllocationService.approveResourceRequests(List.of(withinLimit)).get(0).getResult());
+        assertThrows(AdmissionRejectedException.class,
+                () -> admissionControlService.checkCreate(dto(account, ResourceType.gpu, 1)));
+    }
+
+    private Account createAccount() {
+        Account account = new Account();
+        account.setName("Account-Admission");
+        account.setAdmin("admin");
+        return accountRepository.save(account);
+    }
+
+    private List<Long> request(Account account, ResourceType type, int quota) {
+        return resourceRequestService.createResourceRequest(dto(account, type, quota));
+    }
+
+    private void approve(Long requestId) {
+        resourceAllocationService.approveResourceRequest(requestId);
+    }
+
+    /**
+     * 이 노드의 요청 기록을 거치지 않고 요청 생성 (다른 노드에서 생성된 것과 같음)
+     */
+    private Long requestFromOtherNode(Account account, ResourceType type, int quota) {
+        ResourceRequest request = new ResourceRequest();
+        request.setId(idGenerationService.generateRequestId());
+        request.setStatus(ApprovalStatus.required.name());
+        request.setAccount(account);
+        request.setRequestedAt(LocalDateTime.now());
+        request.setExpiresAt(LocalDateTime.now().plusDays(30));
+        resourceRequestRepository.save(request);
+        resourceBridgeService.createResourcesAndBridges("request", List.of(request.getId()),
+                dto(account, type, quota).getResources());
+        return request.getId();
+    }
+
+    private ResourceRequestDto dto(Account account, ResourceType type, int quota) {
+        Resource resource = new Resource();
+        resource.setType(type);
+        resource.setModelId(type == ResourceType.gpu ? "H100" : null);
+        resource.setUnit(type == ResourceType.gpu ? "EA" : "core");
+        resource.setQuota(Quantity.of(quota));
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(account.getId());
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(List.of(resource));
+        return dto;
+    }
+}
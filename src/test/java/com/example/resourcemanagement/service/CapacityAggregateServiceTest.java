@@ -0,0 +1,216 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.CapacityDto;
+import com.example.resourcemanagement.dto.CapacityReconcileResultDto;
+import com.example.resourcemanagement.dto.ProjectDto;
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.CapacityAggregate;
+import com.example.resourcemanagement.entity.CapacityAggregateId;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.CapacityAggregateRepository;
+import com.example.resourcemanagement.repository.ProjectRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+/**
+ * 전체 자원 합계 테스트
+ * 승인/회수/project 배정 후 합계가 account 자원 합산과 같은지, 재계산이 차이를 찾고 보정하는지 검증
+ */
+@SpringBootTest(properties = "capacity.reconcile.repair=true")
+@ActiveProfiles("test")
+@DisplayName("전체 자원 합계 테스트")
+class CapacityAggregateServiceTest {
+
+    private static final int ACCOUNTS = 8;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private CapacityAggregateRepository capacityAggregateRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @Autowired
+    private ResourceBridgeService resourceBridgeService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private CapacityAggregateService capacityAggregateService;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    private void cleanUp() {
+        projectRepository.deleteAll();
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+        capacityAggregateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 승인, 만료 회수, project 배정 후 합계 = account 자원 합산")
+    void aggregatesFollowAccountResourceChanges() throws Exception {
+        List<Long> accountIds = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountIds.add(createAccount("Account-Capacity-" + i));
+        }
+
+        // account마다 H100 4개, A100 2개, cpu 16개를 동시에 승인
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ACCOUNTS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long accountId : accountIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (Long requestId : createRequest(accountId)) {
+                        resourceAllocationService.approveResourceRequest(requestId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 만료 회수 1건, project 배정 1건
+        resourceBridgeService.releaseAccountResource(new AccountResourceKey(accountIds.get(0), ResourceType.cpu, null, "core"), Quantity.of(6).milli());
+        Long projectId = projectService.createProject(
+                new ProjectDto(accountIds.get(1), "Project-Capacity", "admin", ResourceType.gpu, "H100", "EA")).getProjectId();
+        projectService.changeProjectQuota(projectId, Quantity.of(3));
+
+        assertCapacity(ResourceType.gpu, "H100", "EA", 4L * ACCOUNTS, 3, 4L * ACCOUNTS - 3);
+        assertCapacity(ResourceType.gpu, "A100", "EA", 2L * ACCOUNTS, 0, 2L * ACCOUNTS);
+        // cpu는 modelId와 무관하게 합산
+        assertCapacity(ResourceType.cpu, null, "core", 16L * ACCOUNTS - 6, 0, 16L * ACCOUNTS - 6);
+
+        CapacityReconcileResultDto result = capacityAggregateService.reconcile();
+        assertEquals(3L * ACCOUNTS, result.getScannedResources());
+        assertTrue(result.getDrifts().isEmpty());
+    }
+
+    @Test
+    @DisplayName("합계를 거치지 않은 변경은 재계산에서 차이로 보고되고 보정됨")
+    void reconcileReportsAndRepairsDrift() {
+        Long accountId = createAccount("Account-Drift");
+        for (Long requestId : createRequest(accountId)) {
+            resourceAllocationService.approveResourceRequest(requestId);
+        }
+        // 합계 테이블에만 H100 5개를 더함 (milli 값)
+        capacityAggregateRepository.save(new CapacityAggregate(
+                new CapacityAggregateId(ResourceType.gpu, "H100", "EA", 99), Quantity.of(5).milli(), 0, Quantity.of(5).milli()));
+
+        CapacityReconcileResultDto result = capacityAggregateService.reconcile();
+        assertEquals(1, result.getDrifts().size());
+        assertEquals("H100", result.getDrifts().get(0).getModelId());
+        assertEquals(Quantity.of(5), result.getDrifts().get(0).getQuotaDrift());
+        assertEquals(Quantity.ZERO, result.getDrifts().get(0).getAllocatedDrift());
+        assertTrue(result.isRepaired());
+
+        assertCapacity(ResourceType.gpu, "H100", "EA", 4, 0, 4);
+        assertTrue(capacityAggregateService.reconcile().getDrifts().isEmpty());
+    }
+
+    private Long createAccount(String name) {
+        Account account = new Account();
+        account.setName(name);
+        account.setAdmin("admin");
+        return accountRepository.save(account).getId();
+    }
+
+    private List<Long> createRequest(Long accountId) {
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(List.of(resource(ResourceType.gpu, "H100", "EA", 4), resource(ResourceType.gpu, "A100", "EA", 2),
+                resource(ResourceType.cpu, null, "core", 16)));
+        resourceRequestService.createResourceRequest(dto);
+        return resourceRequestRepository.findAll().stream()
+                .filter(request -> request.getAccount().getId().equals(accountId))
+                .map(ResourceRequest::getId)
+                .toList();
+    }
+
+    private Resource resource(ResourceType type, String modelId, String unit, int quota) {
+        Resource resource = new Resource();
+        resource.setType(type);
+        resource.setModelId(modelId);
+        resource.setUnit(unit);
+        resource.setQuota(Quantity.of(quota));
+        return resource;
+    }
+
+    private void assertCapacity(ResourceType type, String modelId, String unit, long quota, long allocated, long available) {
+        CapacityDto capacity = capacityAggregateService.findCapacity().stream()
+                .filter(total -> total.getType() == type && Objects.equals(total.getModelId(), modelId)
+                        && total.getUnit().equals(unit))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("합계 없음: " + type + "/" + modelId));
+        assertEquals(Quantity.of(quota), capacity.getQuota());
+        assertEquals(Quantity.of(allocated), capacity.getAllocated());
+        assertEquals(Quantity.of(available), capacity.getAvailable());
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.resourcemanagement.ResourceManagementApplication;
+
+/**
+ * 여러 노드(애플리케이션 컨텍스트)와 여러 스레드가 동시에 ID를 발급해도 중복이 없는지 검증
+ * 두 번째 컨텍스트는 별도의 IdGenerationService 인스턴스를 가지므로 다른 JVM 노드와 같은 조건이다.
+ */
+@SpringBootTest(properties = {
+    "id.block-size=1000",
+    "spring.datasource.hikari.maximum-pool-size=" + IdGenerationConcurrencyTest.POOL_SIZE,
+    "spring.datasource.hikari.connection-timeout=5000"
+})
+@ActiveProfiles("test")
+@DisplayName("ID 생성 동시성 테스트")
+class IdGenerationConcurrencyTest {
+
+    private static final String SEQUENCE = "concurrency_test";
+    private static final int THREADS_PER_NODE = 8;
+    private static final int IDS_PER_THREAD = 25_000;
+    static final int POOL_SIZE = 10;
+
+    @Autowired
+    private IdGenerationService idGenerationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ConfigurableApplicationContext secondNode;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from id_sequence where name = ?", SEQUENCE);
+        secondNode = new SpringApplicationBuilder(ResourceManagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties("id.block-size=1000")
+            .run();
+    }
+
+    @AfterEach
+    void tearDown() {
+        secondNode.close();
+        jdbcTemplate.update("delete from id_sequence where name = ?", SEQUENCE);
+    }
+
+    @Test
+    @DisplayName("2개 노드 x 8 스레드가 40만 개 ID를 동시에 발급해도 중복 없음")
+    void noDuplicatesAcrossNodesAndThreads() throws Exception {
+        List<IdGenerationService> nodes = List.of(
+            idGenerationService,
+            secondNode.getBean(IdGenerationService.class));
+
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        AtomicLong duplicates = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size() * THREADS_PER_NODE);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (IdGenerationService node : nodes) {
+                for (int t = 0; t < THREADS_PER_NODE; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < IDS_PER_THREAD; i++) {
+                            Long id = node.nextId(SEQUENCE, () -> null);
+                            if (!issued.add(id)) {
+                                duplicates.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, duplicates.get());
+        assertEquals((long) nodes.size() * THREADS_PER_NODE * IDS_PER_THREAD, issued.size());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중인 호출자가 공용 풀을 모두 잡고 있어도 블록 임대가 멈추지 않음")
+    void leaseDoesNotNeedPooledConnection() throws Exception {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch holding = new CountDownLatch(POOL_SIZE);
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < POOL_SIZE; t++) {
+                futures.add(executor.submit(() -> template.execute(status -> {
+                    // 스레드마다 공용 풀 커넥션을 하나씩 잡은 뒤 모두 잡힐 때까지 대기
+                    jdbcTemplate.queryForObject("select 1", Integer.class);
+                    holding.countDown();
+                    try {
+                        holding.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    // 블록(1000개)을 여러 번 소진하도록 발급
+                    for (int i = 0; i < 3_000; i++) {
+                        issued.add(idGenerationService.nextId(SEQUENCE, () -> null));
+                    }
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(POOL_SIZE * 3_000, issued.size());
+    }
+}
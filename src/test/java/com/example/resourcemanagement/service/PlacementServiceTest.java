@@ -0,0 +1,181 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.resourcemanagement.dto.NodeCapacityDto;
+import com.example.resourcemanagement.dto.NodeDto;
+import com.example.resourcemanagement.dto.PlacementDto;
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.exception.PlacementFailedException;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.NodeRepository;
+import com.example.resourcemanagement.repository.PlacementRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+/**
+ * allocation 노드 배치 테스트 (기본 정책 best-fit)
+ * 배치가 노드 Resource의 allocated/available에 반영되고, 만료 시 되돌아가는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("allocation 노드 배치 테스트")
+class PlacementServiceTest {
+
+    private static final int GPUS_PER_NODE = 8;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private NodeRepository nodeRepository;
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @Autowired
+    private ResourceExpiryService resourceExpiryService;
+
+    @Autowired
+    private PlacementService placementService;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트의 노드가 남지 않도록 엔진을 다시 적재
+        ReflectionTestUtils.setField(placementService, "engine", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        placementRepository.deleteAll();
+        nodeRepository.deleteAll();
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("best-fit 배치, 들어갈 노드가 없으면 409, 만료 시 노드 용량 회수")
+    void placeAndReleaseOnExpiry() {
+        List<Long> nodeIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            nodeIds.add(placementService.addNode(new NodeDto("gpu-node-" + i,
+                    List.of(gpu(GPUS_PER_NODE)))).get(0).getNodeId());
+        }
+        Long accountId = createAccount();
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+        Long six = approve(accountId, 6, expiresAt);
+        Long four = approve(accountId, 4, expiresAt);
+        Long two = approve(accountId, 2, expiresAt);
+        Long nine = approve(accountId, 9, expiresAt);
+
+        // 빈 노드 중 첫 번째 → 남은 2개가 부족하므로 다음 빈 노드 → 2개가 남은 첫 노드를 꽉 채움
+        PlacementDto sixPlaced = single(placementService.placeAllocation(six));
+        PlacementDto fourPlaced = single(placementService.placeAllocation(four));
+        PlacementDto twoPlaced = single(placementService.placeAllocation(two));
+        assertNotEquals(sixPlaced.getNodeId(), fourPlaced.getNodeId());
+        assertEquals(sixPlaced.getNodeId(), twoPlaced.getNodeId());
+        assertEquals("gpu|H100|EA", sixPlaced.getResourceKey());
+
+        // 재시도는 기존 배치를 반환
+        assertEquals(fourPlaced.getNodeId(), single(placementService.placeAllocation(four)).getNodeId());
+        assertThrows(PlacementFailedException.class, () -> placementService.placeAllocation(nine));
+        assertTrue(placementService.findPlacements(nine).isEmpty());
+
+        NodeCapacityDto full = nodeGpu(sixPlaced.getNodeId());
+        assertEquals(Quantity.of(GPUS_PER_NODE), full.getAllocated());
+        assertEquals(Quantity.ZERO, full.getAvailable());
+        assertEquals(Quantity.of(4), nodeGpu(fourPlaced.getNodeId()).getAvailable());
+
+        resourceExpiryService.expireRequests(expiresAt.plusMinutes(1));
+
+        assertEquals(0, placementRepository.count());
+        for (Long nodeId : nodeIds) {
+            assertEquals(Quantity.of(GPUS_PER_NODE), nodeGpu(nodeId).getAvailable());
+        }
+        // 회수된 용량은 메모리 엔진에도 돌아옴
+        Long eight = approve(accountId, 8, LocalDateTime.now().plusDays(2));
+        assertEquals(Quantity.of(8), single(placementService.placeAllocation(eight)).getQuantity());
+    }
+
+    private Long createAccount() {
+        Account account = new Account();
+        account.setName("Account-Placement");
+        account.setAdmin("admin");
+        return accountRepository.save(account).getId();
+    }
+
+    /**
+     * H100 quantity개 요청을 승인하고 allocation ID 반환
+     */
+    private Long approve(Long accountId, int quantity, LocalDateTime expiresAt) {
+        Account account = accountRepository.findById(accountId).orElseThrow();
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(expiresAt);
+        dto.setResources(List.of(gpu(quantity)));
+        Long requestId = resourceRequestService.createResourceRequest(account, dto).get(0);
+        resourceAllocationService.approveResourceRequest(requestId);
+        return resourceAllocationRepository.findByResourceRequestId(requestId).get(0).getId();
+    }
+
+    private Resource gpu(int quantity) {
+        Resource gpu = new Resource();
+        gpu.setType(ResourceType.gpu);
+        gpu.setModelId("H100");
+        gpu.setUnit("EA");
+        gpu.setQuota(Quantity.of(quantity));
+        return gpu;
+    }
+
+    private PlacementDto single(List<PlacementDto> placements) {
+        assertEquals(1, placements.size());
+        return placements.get(0);
+    }
+
+    private NodeCapacityDto nodeGpu(Long nodeId) {
+        List<NodeCapacityDto> capacities = placementService.findNode(nodeId).orElseThrow();
+        assertEquals(1, capacities.size());
+        return capacities.get(0);
+    }
+}
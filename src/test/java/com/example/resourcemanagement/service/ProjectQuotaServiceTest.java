@@ -0,0 +1,174 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ProjectDto;
+import com.example.resourcemanagement.dto.ProjectQuotaDto;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.exception.InsufficientQuotaException;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ProjectRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+/**
+ * project 하위 quota 배정 테스트
+ * account.allocated = project quota 합이 동시 배정에서도 유지되고, account 잔여량을 넘겨 배정되지 않는지 검증
+ */
+@SpringBootTest
+@Import(AccountGpuSeeder.class)
+@ActiveProfiles("test")
+@DisplayName("project 하위 quota 배정 테스트")
+class ProjectQuotaServiceTest {
+
+    private static final int ACCOUNT_GPUS = 64;
+    private static final int PROJECTS = 8;
+    private static final int ATTEMPTS_PER_PROJECT = 20;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private AccountGpuSeeder accountGpuSeeder;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("배정/회수 시 account allocated/available과 project quota가 함께 변함")
+    void allocateAndReleaseMoveQuotaBetweenAccountAndProject() {
+        Long accountId = accountGpuSeeder.seed("Account-Project", ACCOUNT_GPUS);
+        Long projectId = projectService.createProject(gpuProject(accountId, "Project-1")).getProjectId();
+
+        ProjectQuotaDto allocated = projectService.changeProjectQuota(projectId, Quantity.of(8));
+        assertEquals(Quantity.of(8), allocated.getQuota());
+        assertEquals(Quantity.of(8), allocated.getAvailable());
+        assertEquals(Quantity.of(ACCOUNT_GPUS - 8), allocated.getAccountAvailable());
+
+        ProjectQuotaDto released = projectService.changeProjectQuota(projectId, Quantity.of(-3));
+        assertEquals(Quantity.of(5), released.getQuota());
+        assertEquals(Quantity.of(ACCOUNT_GPUS - 5), released.getAccountAvailable());
+
+        Resource accountGpu = accountGpuSeeder.accountGpu(accountId);
+        assertEquals(Quantity.of(ACCOUNT_GPUS), accountGpu.getQuota());
+        assertEquals(Quantity.of(5), accountGpu.getAllocated());
+        assertEquals(Quantity.of(ACCOUNT_GPUS - 5), accountGpu.getAvailable());
+
+        // 잔여량 초과 배정, 미사용량 초과 회수는 아무것도 바꾸지 않음
+        assertThrows(InsufficientQuotaException.class, () -> projectService.changeProjectQuota(projectId, Quantity.of(ACCOUNT_GPUS)));
+        assertThrows(InsufficientQuotaException.class, () -> projectService.changeProjectQuota(projectId, Quantity.of(-6)));
+        assertEquals(Quantity.of(5), accountGpuSeeder.accountGpu(accountId).getAllocated());
+        assertEquals(Quantity.of(5), projectService.findProjectQuota(projectId).orElseThrow().getQuota());
+    }
+
+    @Test
+    @DisplayName("소수 수량 배정/회수가 잘리지 않음")
+    void fractionalQuantitiesAreExact() {
+        Long accountId = accountGpuSeeder.seed("Account-Project", ACCOUNT_GPUS);
+        Long projectId = projectService.createProject(gpuProject(accountId, "Project-Fraction")).getProjectId();
+
+        projectService.changeProjectQuota(projectId, Quantity.parse("0.5"));
+        projectService.changeProjectQuota(projectId, Quantity.parse("1.25"));
+        ProjectQuotaDto released = projectService.changeProjectQuota(projectId, Quantity.parse("-0.75"));
+        assertEquals(Quantity.of(1), released.getQuota());
+        assertEquals(Quantity.parse("63"), released.getAccountAvailable());
+
+        ProjectQuotaDto allocated = projectService.changeProjectQuota(projectId, Quantity.parse("0.001"));
+        assertEquals(Quantity.ofMilli(1001), allocated.getQuota());
+        assertEquals("62.999", allocated.getAccountAvailable().toString());
+        assertEquals(Quantity.ofMilli(1001), accountGpuSeeder.accountGpu(accountId).getAllocated());
+    }
+
+    @Test
+    @DisplayName("동시 배정 후 account allocated = project quota 합, 잔여량을 넘지 않음")
+    void concurrentAllocationsNeverOvercommitAccount() throws Exception {
+        Long accountId = accountGpuSeeder.seed("Account-Project", ACCOUNT_GPUS);
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projectIds.add(projectService.createProject(gpuProject(accountId, "Project-" + i)).getProjectId());
+        }
+
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(PROJECTS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long projectId : projectIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_PROJECT; i++) {
+                        try {
+                            projectService.changeProjectQuota(projectId, Quantity.of(1));
+                            granted.incrementAndGet();
+                        } catch (InsufficientQuotaException e) {
+                            // 잔여량 소진
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Quantity projectQuotaSum = projectRepository.findAll().stream().map(project -> project.getQuota()).reduce(Quantity.ZERO, Quantity::plus);
+        Resource accountGpu = accountGpuSeeder.accountGpu(accountId);
+        assertEquals(ACCOUNT_GPUS, granted.get());
+        assertEquals(Quantity.of(ACCOUNT_GPUS), projectQuotaSum);
+        assertEquals(projectQuotaSum, accountGpu.getAllocated());
+        assertEquals(Quantity.ZERO, accountGpu.getAvailable());
+    }
+
+    private ProjectDto gpuProject(Long accountId, String name) {
+        return new ProjectDto(accountId, name, "admin", ResourceType.gpu, "H100", "EA");
+    }
+}
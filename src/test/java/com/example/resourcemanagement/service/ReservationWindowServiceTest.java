@@ -0,0 +1,167 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ReservationUsageDto;
+import com.example.resourcemanagement.dto.ReservationWindowDto;
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+/**
+ * 시간 구간별 예약 현황 테스트
+ * 겹치는 allocation과 최대 동시 예약량이 구간 경계([시작, 끝))대로 계산되고, 승인/만료 커밋 후 색인이 다시 만들어지는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("시간 구간별 예약 현황 테스트")
+class ReservationWindowServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @Autowired
+    private ResourceExpiryService resourceExpiryService;
+
+    @Autowired
+    private ReservationWindowService reservationWindowService;
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("구간과 겹치는 예약과 최대 동시 예약량, 승인/만료 후 갱신")
+    void overlapAndPeakFollowApprovalsAndExpiry() {
+        Long accountId = createAccount();
+        Long a = approve(accountId, gpu(4), day(0), day(10));
+        Long b = approve(accountId, gpu(2), day(5), day(20));
+        Long c = approve(accountId, gpu(3), day(15), day(30));
+        // 다른 type은 합산하지 않음
+        approve(accountId, cpu(100), day(0), day(30));
+
+        ReservationUsageDto both = usage(accountId, day(6), day(8));
+        assertEquals(List.of(a, b), allocationIds(both));
+        assertEquals(Quantity.of(6), both.getPeak());
+
+        // a는 10일에 끝나고 c는 15일에 시작하므로 [10, 15)에는 b만
+        ReservationUsageDto gap = usage(accountId, day(10), day(15));
+        assertEquals(List.of(b), allocationIds(gap));
+        assertEquals(Quantity.of(2), gap.getPeak());
+
+        ReservationUsageDto tail = usage(accountId, day(12), day(40));
+        assertEquals(List.of(b, c), allocationIds(tail));
+        assertEquals(Quantity.of(5), tail.getPeak());
+
+        assertTrue(usage(accountId, day(40), day(50)).getReservations().isEmpty());
+        assertEquals(Quantity.ZERO, usage(accountId, day(40), day(50)).getPeak());
+
+        // 승인 커밋 후 색인을 다시 만듦
+        Long d = approve(accountId, gpu(5), day(6), day(7));
+        ReservationUsageDto approved = usage(accountId, day(6), day(8));
+        assertEquals(List.of(a, b, d), allocationIds(approved));
+        assertEquals(Quantity.of(11), approved.getPeak());
+
+        // 만료된 allocation은 빠짐
+        resourceExpiryService.expireRequests(day(21));
+        ReservationUsageDto expired = usage(accountId, day(0), day(40));
+        assertEquals(List.of(c), allocationIds(expired));
+        assertEquals(Quantity.of(3), expired.getPeak());
+
+        assertTrue(reservationWindowService.findUsage(accountId + 1_000_000, ResourceType.gpu, day(0), day(1)).isEmpty());
+    }
+
+    private ReservationUsageDto usage(Long accountId, LocalDateTime from, LocalDateTime to) {
+        return reservationWindowService.findUsage(accountId, ResourceType.gpu, from, to).orElseThrow();
+    }
+
+    private List<Long> allocationIds(ReservationUsageDto usage) {
+        return usage.getReservations().stream().map(ReservationWindowDto::getAllocationId).toList();
+    }
+
+    private LocalDateTime day(int days) {
+        return T0.plusDays(days);
+    }
+
+    private Long createAccount() {
+        Account account = new Account();
+        account.setName("Account-Reservation");
+        account.setAdmin("admin");
+        return accountRepository.save(account).getId();
+    }
+
+    /**
+     * [from, to) 요청을 승인하고 allocation ID 반환
+     */
+    private Long approve(Long accountId, Resource resource, LocalDateTime from, LocalDateTime to) {
+        Account account = accountRepository.findById(accountId).orElseThrow();
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(from);
+        dto.setExpiredAt(to);
+        dto.setResources(List.of(resource));
+        Long requestId = resourceRequestService.createResourceRequest(account, dto).get(0);
+        resourceAllocationService.approveResourceRequest(requestId);
+        return resourceAllocationRepository.findByResourceRequestId(requestId).get(0).getId();
+    }
+
+    private Resource gpu(int quantity) {
+        Resource gpu = new Resource();
+        gpu.setType(ResourceType.gpu);
+        gpu.setModelId("H100");
+        gpu.setUnit("EA");
+        gpu.setQuota(Quantity.of(quantity));
+        return gpu;
+    }
+
+    private Resource cpu(int quantity) {
+        Resource cpu = new Resource();
+        cpu.setType(ResourceType.cpu);
+        cpu.setModelId("Xeon");
+        cpu.setUnit("core");
+        cpu.setQuota(Quantity.of(quantity));
+        return cpu;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ProjectDto;
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceAllocation;
+import com.example.resourcemanagement.entity.ResourceBridge;
+import com.example.resourcemanagement.entity.ResourceRequest;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ProjectRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 만료된 approved 요청이 batch 단위로 회수되는지 검증
+ * batch-size보다 많은 요청을 만료시켜 키셋 페이지 이동까지 확인
+ * project가 quota를 잡고 있을 때는 available이 음수가 되지 않는지 확인
+ */
+@SpringBootTest(properties = "resource.expiry.batch-size=7")
+@ActiveProfiles("test")
+@DisplayName("만료 요청 회수 테스트")
+class ResourceExpiryServiceTest {
+
+    private static final int EXPIRED_REQUESTS = 20;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @Autowired
+    private ResourceExpiryService resourceExpiryService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("만료 20건 + 유효 1건 승인 후 회수 → 만료분만 quota 차감, 상태 expired")
+    void expiredRequestsAreReclaimed() {
+        Account account = new Account();
+        account.setName("Account-Expiry");
+        account.setAdmin("admin");
+        Long accountId = accountRepository.save(account).getId();
+
+        LocalDateTime now = LocalDateTime.now();
+        createRequest(accountId, now.minusDays(1), EXPIRED_REQUESTS);
+        createRequest(accountId, now.plusDays(30), 1);
+        List<ResourceRequest> requests = resourceRequestRepository.findAll();
+        assertEquals(EXPIRED_REQUESTS + 1, requests.size());
+        for (ResourceRequest request : requests) {
+            resourceAllocationService.approveResourceRequest(request.getId());
+        }
+        assertEquals(Quantity.of(EXPIRED_REQUESTS + 1), accountCpu(accountId).getQuota());
+
+        int expired = resourceExpiryService.expireRequests(now);
+
+        assertEquals(EXPIRED_REQUESTS, expired);
+        Resource accountCpu = accountCpu(accountId);
+        assertEquals(Quantity.of(1), accountCpu.getQuota());
+        assertEquals(Quantity.of(1), accountCpu.getAvailable());
+        for (ResourceRequest request : resourceRequestRepository.findAll()) {
+            String expected = request.getExpiresAt().isAfter(now) ? "approved" : "expired";
+            assertEquals(expected, request.getStatus());
+        }
+        long expiredAllocations = resourceAllocationRepository.findAll().stream()
+            .map(ResourceAllocation::getStatus)
+            .filter("expired"::equals)
+            .count();
+        assertEquals(EXPIRED_REQUESTS, expiredAllocations);
+
+        // 다시 실행해도 추가 차감 없음
+        assertEquals(0, resourceExpiryService.expireRequests(now));
+        assertEquals(Quantity.of(1), accountCpu(accountId).getQuota());
+    }
+
+    @Test
+    @DisplayName("project가 quota를 잡고 있으면 available만큼만 회수하고 부족분 기록")
+    void expiryWhileProjectHoldsQuotaKeepsAvailableNonNegative() {
+        Account account = new Account();
+        account.setName("Account-Expiry-Project");
+        account.setAdmin("admin");
+        Long accountId = accountRepository.save(account).getId();
+
+        LocalDateTime now = LocalDateTime.now();
+        createRequest(accountId, now.minusDays(1), 10);
+        createRequest(accountId, now.plusDays(30), 2);
+        for (ResourceRequest request : resourceRequestRepository.findAll()) {
+            resourceAllocationService.approveResourceRequest(request.getId());
+        }
+        Long projectId = projectService.createProject(
+            new ProjectDto(accountId, "Project-Expiry", "admin", ResourceType.cpu, null, "core")).getProjectId();
+        projectService.changeProjectQuota(projectId, Quantity.of(8));
+        assertEquals(Quantity.of(4), accountCpu(accountId).getAvailable());
+        double shortfallBefore = meterRegistry.counter("resource.release.shortfall").count();
+
+        assertEquals(1, resourceExpiryService.expireRequests(now));
+
+        // 10 중 available 4만 회수, project가 잡은 6은 quota에 남음
+        Resource accountCpu = accountCpu(accountId);
+        assertEquals(Quantity.of(8), accountCpu.getQuota());
+        assertEquals(Quantity.of(8), accountCpu.getAllocated());
+        assertEquals(Quantity.ZERO, accountCpu.getAvailable());
+        assertEquals((double) Quantity.of(6).milli(), meterRegistry.counter("resource.release.shortfall").count() - shortfallBefore);
+        assertEquals(Quantity.of(8), projectService.findProjectQuota(projectId).orElseThrow().getQuota());
+    }
+
+    private void createRequest(Long accountId, LocalDateTime expiredAt, int lines) {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Resource cpu = new Resource();
+            cpu.setType(ResourceType.cpu);
+            cpu.setUnit("core");
+            cpu.setQuota(Quantity.of(1));
+            resources.add(cpu);
+        }
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(expiredAt.minusDays(30));
+        dto.setExpiredAt(expiredAt);
+        dto.setResources(resources);
+        resourceRequestService.createResourceRequest(dto);
+    }
+
+    private Resource accountCpu(Long accountId) {
+        List<ResourceBridge> accountBridges = resourceBridgeRepository.findByEntityAndEntityId("account", accountId);
+        assertEquals(1, accountBridges.size());
+        return resourceRepository.findById(accountBridges.get(0).getResource().getId()).orElseThrow();
+    }
+}
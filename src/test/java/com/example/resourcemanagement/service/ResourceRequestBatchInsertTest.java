@@ -0,0 +1,126 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 자원요청 생성 시 라인 수와 관계없이 JDBC 문장 수가 일정한지 검증
+ * 라인마다 request, resource, bridge 3행이 생기지만 테이블별 배치 INSERT 1회로 전송되어야 한다.
+ */
+@SpringBootTest(properties = {
+    "id.block-size=1000",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@DisplayName("자원요청 배치 INSERT 테스트")
+class ResourceRequestBatchInsertTest {
+
+    // hibernate.jdbc.batch_size와 같게 맞춤
+    private static final int LINES = 50;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Account account = new Account();
+        account.setName("Account-Batch");
+        account.setAdmin("admin");
+        accountId = accountRepository.save(account).getId();
+        // ID 블록 임대 문장이 측정에 섞이지 않도록 미리 임대
+        createRequest(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("1라인과 50라인 요청의 JDBC 문장 수가 같음")
+    void statementCountIsConstantPerBatch() {
+        statistics.clear();
+        createRequest(1);
+        long singleLineStatements = statistics.getPrepareStatementCount();
+        assertEquals(3, statistics.getEntityInsertCount());
+
+        statistics.clear();
+        createRequest(LINES);
+        long batchStatements = statistics.getPrepareStatementCount();
+        assertEquals(3L * LINES, statistics.getEntityInsertCount());
+
+        // account 조회 1 + request/resource/bridge 배치 INSERT 각 1
+        assertEquals(4, singleLineStatements);
+        assertEquals(singleLineStatements, batchStatements);
+    }
+
+    private void createRequest(int lines) {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Resource cpu = new Resource();
+            cpu.setType(ResourceType.cpu);
+            cpu.setUnit("core");
+            cpu.setQuota(Quantity.of(1));
+            resources.add(cpu);
+        }
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(resources);
+        resourceRequestService.createResourceRequest(dto);
+    }
+}
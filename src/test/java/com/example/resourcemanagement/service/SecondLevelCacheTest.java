@@ -0,0 +1,173 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ResourceRequestDto;
+import com.example.resourcemanagement.entity.Account;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceBridge;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 2차 캐시 테스트
+ * account/resource가 캐시에서 읽히고, native 수량 UPDATE 뒤에는 옛 값이 남지 않는지 검증
+ * 승인 경로의 bridge 조회(request 라인, account 자원 키 → ID)가 쿼리 캐시를 사용하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("2차 캐시 테스트")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRequestService resourceRequestService;
+
+    @Autowired
+    private ResourceAllocationService resourceAllocationService;
+
+    @Autowired
+    private AccountResourceIndex accountResourceIndex;
+
+    @AfterEach
+    void tearDown() {
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("account는 캐시에서 읽고, 승인으로 바뀐 account Resource는 새 값을 읽음")
+    void cachedReadsFollowQuotaUpdates() {
+        Long accountId = createAccount();
+        approveGpus(accountId, 4);
+        assertEquals(Quantity.of(4), accountGpu(accountId).getQuota());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        accountRepository.findById(accountId).orElseThrow();
+        accountRepository.findById(accountId).orElseThrow();
+        accountGpu(accountId);
+        accountGpu(accountId);
+        CacheRegionStatistics accounts = statistics.getDomainDataRegionStatistics("account");
+        CacheRegionStatistics resources = statistics.getDomainDataRegionStatistics("resource");
+        assertTrue(accounts.getHitCount() >= 2, "account hits " + accounts.getHitCount());
+        assertTrue(resources.getHitCount() >= 1, "resource hits " + resources.getHitCount());
+
+        // native UPDATE로 누적된 quota가 캐시된 옛 값에 가려지지 않음
+        approveGpus(accountId, 3);
+        Resource gpu = accountGpu(accountId);
+        assertEquals(Quantity.of(7), gpu.getQuota());
+        assertEquals(Quantity.of(7), gpu.getAvailable());
+    }
+
+    @Test
+    @DisplayName("승인은 이미 조회된 request 라인과 account 자원 ID를 쿼리 캐시에서 읽음")
+    void approvalReadsBridgeLookupsFromQueryCache() {
+        Long accountId = createAccount();
+        approveGpus(accountId, 4);
+        Long requestId = createGpuRequest(accountId, 3);
+
+        // 승인 전에 다른 경로(상세 조회, 한도 확인, 다른 노드)가 같은 조회를 한 상태
+        AccountResourceKey key = new AccountResourceKey(accountId, ResourceType.gpu, "H100", "EA");
+        resourceBridgeRepository.findWithResourceByEntityAndEntityIdIn("request", List.of(requestId));
+        resourceBridgeRepository.findResourceIdByKey("account", accountId, key.toColumnValue());
+        accountResourceIndex.evict(key);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        resourceAllocationService.approveResourceRequest(requestId);
+
+        QueryStatistics requestLines = statistics.getQueryStatistics(
+            "select b from ResourceBridge b join fetch b.resource where b.entity = :entity and b.entityId in :entityIds");
+        QueryStatistics accountResourceId = statistics.getQueryStatistics(
+            "select b.resource.id from ResourceBridge b where b.entity = :entity and b.entityId = :entityId and b.resourceKey = :resourceKey");
+        assertEquals(1, requestLines.getCacheHitCount(), "request 라인 조회");
+        assertEquals(0, requestLines.getExecutionCount());
+        assertEquals(1, accountResourceId.getCacheHitCount(), "account 자원 ID 조회");
+        assertEquals(0, accountResourceId.getExecutionCount());
+        assertEquals(2, statistics.getQueryRegionStatistics("resource-bridge-query").getHitCount());
+
+        // 캐시된 ID로 누적해도 새 값
+        Resource gpu = accountGpu(accountId);
+        assertEquals(Quantity.of(7), gpu.getQuota());
+        assertEquals(Quantity.of(7), gpu.getAvailable());
+
+        // 승인이 resource_bridge에 쓴 뒤에는 같은 조회도 DB에서 다시 읽음
+        statistics.clear();
+        resourceBridgeRepository.findResourceIdByKey("account", accountId, key.toColumnValue());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    private Long createAccount() {
+        Account account = new Account();
+        account.setName("Account-Cache");
+        account.setAdmin("admin");
+        return accountRepository.save(account).getId();
+    }
+
+    private void approveGpus(Long accountId, int quantity) {
+        resourceAllocationService.approveResourceRequest(createGpuRequest(accountId, quantity));
+    }
+
+    private Long createGpuRequest(Long accountId, int quantity) {
+        Account account = accountRepository.findById(accountId).orElseThrow();
+        Resource gpu = new Resource();
+        gpu.setType(ResourceType.gpu);
+        gpu.setModelId("H100");
+        gpu.setUnit("EA");
+        gpu.setQuota(Quantity.of(quantity));
+        ResourceRequestDto dto = new ResourceRequestDto();
+        dto.setAccountId(accountId);
+        dto.setActivatedAt(LocalDateTime.now());
+        dto.setExpiredAt(LocalDateTime.now().plusDays(30));
+        dto.setResources(List.of(gpu));
+        return resourceRequestService.createResourceRequest(account, dto).get(0);
+    }
+
+    private Resource accountGpu(Long accountId) {
+        List<ResourceBridge> accountBridges = resourceBridgeRepository.findByEntityAndEntityId("account", accountId);
+        assertEquals(1, accountBridges.size());
+        return accountBridges.get(0).getResource();
+    }
+}
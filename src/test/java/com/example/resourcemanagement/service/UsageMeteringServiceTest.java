@@ -0,0 +1,224 @@
+package com.example.resourcemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.resourcemanagement.dto.ProjectDto;
+import com.example.resourcemanagement.dto.UsageReportDto;
+import com.example.resourcemanagement.entity.Quantity;
+import com.example.resourcemanagement.entity.Resource;
+import com.example.resourcemanagement.entity.ResourceType;
+import com.example.resourcemanagement.exception.InsufficientQuotaException;
+import com.example.resourcemanagement.repository.AccountRepository;
+import com.example.resourcemanagement.repository.ProjectRepository;
+import com.example.resourcemanagement.repository.ResourceAllocationRepository;
+import com.example.resourcemanagement.repository.ResourceBridgeRepository;
+import com.example.resourcemanagement.repository.ResourceRepository;
+import com.example.resourcemanagement.repository.ResourceRequestRepository;
+import com.example.resourcemanagement.repository.UsageFlushRecordRepository;
+
+/**
+ * 사용량 보고 반영 테스트
+ * 동시 보고가 flush 한 번에 합산되어 반영되고, journal로 재시작 후에도 한 번만 반영되는지 검증
+ */
+@SpringBootTest
+@Import(AccountGpuSeeder.class)
+@ActiveProfiles("test")
+@DisplayName("사용량 보고 반영 테스트")
+class UsageMeteringServiceTest {
+
+    private static final int ACCOUNT_GPUS = 64;
+    private static final int REPORTERS = 8;
+    private static final int REPORTS_PER_REPORTER = 250;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceBridgeRepository resourceBridgeRepository;
+
+    @Autowired
+    private ResourceAllocationRepository resourceAllocationRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private UsageFlushRecordRepository usageFlushRecordRepository;
+
+    @Autowired
+    private AccountGpuSeeder accountGpuSeeder;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UsageMeteringService usageMeteringService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 이전 실행에서 남은 segment는 여기서 반영(또는 버림)
+        usageMeteringService.openJournal();
+        usageMeteringService.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        usageFlushRecordRepository.deleteAll();
+        projectRepository.deleteAll();
+        resourceAllocationRepository.deleteAll();
+        resourceRequestRepository.deleteAll();
+        resourceBridgeRepository.deleteAll();
+        accountRepository.deleteAll();
+        resourceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 보고는 flush 때 한 번에 used에 반영")
+    void concurrentReportsAreAggregatedOnFlush() throws Exception {
+        Long accountId = accountGpuSeeder.seed("Account-Usage", ACCOUNT_GPUS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(REPORTERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REPORTERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < REPORTS_PER_REPORTER; j++) {
+                        // 0.02 사용 후 0.01 반납 → 보고 1건당 0.01
+                        usageMeteringService.report(List.of(gpuUsage(accountId, "0.02"), gpuUsage(accountId, "-0.01")));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // flush 전에는 DB 그대로
+        assertEquals(Quantity.ZERO, accountGpuSeeder.accountGpu(accountId).getUsed());
+
+        assertEquals(1, usageMeteringService.flush());
+        Resource gpu = accountGpuSeeder.accountGpu(accountId);
+        Quantity used = Quantity.ofMilli(Quantity.parse("0.01").milli() * REPORTERS * REPORTS_PER_REPORTER);
+        assertEquals(Quantity.of(ACCOUNT_GPUS), gpu.getQuota());
+        assertEquals(used, gpu.getUsed());
+        // allocated(project quota 합)와 available은 사용량과 무관
+        assertEquals(Quantity.ZERO, gpu.getAllocated());
+        assertEquals(Quantity.of(ACCOUNT_GPUS), gpu.getAvailable());
+
+        // 보고가 없으면 반영할 segment도 없음
+        assertEquals(0, usageMeteringService.flush());
+    }
+
+    @Test
+    @DisplayName("사용량은 project 배정분과 섞이지 않아 회수 한도에 영향 없음")
+    void usageDoesNotMixWithProjectQuota() {
+        Long accountId = accountGpuSeeder.seed("Account-Usage", ACCOUNT_GPUS);
+        Long projectId = projectService.createProject(
+                new ProjectDto(accountId, "Project-Usage", "admin", ResourceType.gpu, "H100", "EA")).getProjectId();
+        projectService.changeProjectQuota(projectId, Quantity.of(10));
+
+        usageMeteringService.report(List.of(gpuUsage(accountId, "6")));
+        usageMeteringService.flush();
+
+        Resource gpu = accountGpuSeeder.accountGpu(accountId);
+        assertEquals(Quantity.of(10), gpu.getAllocated());
+        assertEquals(Quantity.of(ACCOUNT_GPUS - 10), gpu.getAvailable());
+        assertEquals(Quantity.of(6), gpu.getUsed());
+
+        // account allocated는 project quota 합(10)만큼이므로 사용량으로 더 회수할 수 없음
+        assertThrows(InsufficientQuotaException.class, () -> projectService.changeProjectQuota(projectId, Quantity.of(-16)));
+        projectService.changeProjectQuota(projectId, Quantity.of(-10));
+        gpu = accountGpuSeeder.accountGpu(accountId);
+        assertEquals(Quantity.ZERO, gpu.getAllocated());
+        assertEquals(Quantity.of(ACCOUNT_GPUS), gpu.getAvailable());
+        assertEquals(Quantity.of(6), gpu.getUsed());
+    }
+
+    @Test
+    @DisplayName("없는 자원 키 보고는 거절하고 아무것도 기록하지 않음")
+    void unknownResourceKeyIsRejected() {
+        Long accountId = accountGpuSeeder.seed("Account-Usage", ACCOUNT_GPUS);
+        UsageReportDto unknown = new UsageReportDto(accountId, ResourceType.gpu, "A100", "EA", Quantity.of(1));
+        assertThrows(InsufficientQuotaException.class,
+                () -> usageMeteringService.report(List.of(gpuUsage(accountId, "1"), unknown)));
+        assertEquals(0, usageMeteringService.flush());
+        assertEquals(Quantity.ZERO, accountGpuSeeder.accountGpu(accountId).getUsed());
+    }
+
+    @Test
+    @DisplayName("재시작하면 journal로 반영하고, 반영 후 지우지 못한 segment는 다시 더하지 않음")
+    void journalIsReplayedExactlyOnce() throws IOException {
+        Long accountId = accountGpuSeeder.seed("Account-Usage", ACCOUNT_GPUS);
+        usageMeteringService.report(List.of(gpuUsage(accountId, "3")));
+        usageMeteringService.report(List.of(gpuUsage(accountId, "1.5")));
+
+        // 메모리 누적값을 버리고 다시 시작 (비정상 종료)
+        usageMeteringService.openJournal();
+        Path backup = Files.createTempDirectory("usage-journal-backup");
+        List<Path> segments = journalSegments();
+        for (Path segment : segments) {
+            Files.copy(segment, backup.resolve(segment.getFileName()));
+        }
+
+        usageMeteringService.flush();
+        assertEquals(Quantity.parse("4.5"), accountGpuSeeder.accountGpu(accountId).getUsed());
+
+        // 반영 커밋 후 파일 삭제 전에 죽은 경우
+        for (Path segment : segments) {
+            Files.copy(backup.resolve(segment.getFileName()), segment, StandardCopyOption.REPLACE_EXISTING);
+        }
+        usageMeteringService.openJournal();
+        usageMeteringService.flush();
+        assertEquals(Quantity.parse("4.5"), accountGpuSeeder.accountGpu(accountId).getUsed());
+        assertEquals(Quantity.of(ACCOUNT_GPUS), accountGpuSeeder.accountGpu(accountId).getAvailable());
+        assertTrue(journalSegments().stream().noneMatch(segments::contains));
+    }
+
+    private List<Path> journalSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Path.of(usageMeteringService.journalDir), "*.journal")) {
+            for (Path file : files) {
+                if (Files.size(file) > 0) {
+                    segments.add(file);
+                }
+            }
+        }
+        return segments;
+    }
+
+    private UsageReportDto gpuUsage(Long accountId, String delta) {
+        return new UsageReportDto(accountId, ResourceType.gpu, "H100", "EA", Quantity.parse(delta));
+    }
+}